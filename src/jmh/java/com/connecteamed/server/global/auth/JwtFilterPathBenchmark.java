@@ -0,0 +1,83 @@
+package com.connecteamed.server.global.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 의 토큰 처리 경로 비교
+ * - legacy: 요청마다 파서를 새로 만들고 validateToken / getUserId 에서 두 번 서명 검증
+ * - cached: 미리 만든 파서 + 검증된 Claims 캐시 (요청당 최대 1회 검증)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtFilterPathBenchmark {
+
+    private static final String SECRET = "benchmark_secret_key_for_jwt_filter_path_0123456789";
+
+    @Param({"1000", "10000"})
+    public int tokenCount;
+
+    private SecretKey secretKey;
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JwtUtil(SECRET, 14_400_000L, 1_209_600_000L, 10_000);
+
+        Instant now = Instant.now();
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = Jwts.builder()
+                    .subject("user" + i + "@connecteamed.shop")
+                    .claim("role", "USER")
+                    .issuedAt(Date.from(now))
+                    .expiration(Date.from(now.plusSeconds(3600)))
+                    .signWith(secretKey)
+                    .compact();
+        }
+    }
+
+    private String nextToken() {
+        String token = tokens[cursor];
+        cursor = (cursor + 1) % tokens.length;
+        return token;
+    }
+
+    @Benchmark
+    public String legacyFilterPath() {
+        String token = nextToken();
+        // validateToken
+        Jwts.parser().verifyWith(secretKey).clockSkewSeconds(60).build().parseSignedClaims(token);
+        // getUserId
+        return Jwts.parser().verifyWith(secretKey).clockSkewSeconds(60).build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String cachedFilterPath() {
+        Claims claims = jwtUtil.validateToken(nextToken());
+        return claims.getSubject();
+    }
+}
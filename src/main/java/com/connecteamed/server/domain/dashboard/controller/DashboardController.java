@@ -2,9 +2,11 @@ package com.connecteamed.server.domain.dashboard.controller;
 
 import com.connecteamed.server.domain.dashboard.dto.DailyScheduleListRes;
 import com.connecteamed.server.domain.dashboard.dto.DashboardRes;
+import com.connecteamed.server.domain.dashboard.dto.DashboardSummaryRes;
 import com.connecteamed.server.domain.dashboard.dto.NotificationListRes;
 import com.connecteamed.server.domain.dashboard.dto.UpcomingTaskListRes;
 import com.connecteamed.server.domain.dashboard.service.DashboardService;
+import com.connecteamed.server.domain.dashboard.service.DashboardSummaryService;
 import com.connecteamed.server.global.apiPayload.ApiResponse;
 import com.connecteamed.server.global.apiPayload.code.GeneralSuccessCode;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,12 +31,38 @@ import java.time.Instant;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardSummaryService dashboardSummaryService;
+
+    /**
+     * 대시보드 통합 조회
+     * 회고 / 다가오는 업무 / 알림 / 날짜별 일정을 한 번에 조회
+     * 일부 섹션이 실패해도 나머지 섹션은 정상 응답
+     * @param date 일정 조회 날짜 (없으면 오늘)
+     * @return 대시보드 통합 응답
+     */
+    @GetMapping("/dashboard")
+    @Operation(
+            summary = "대시보드 통합 조회",
+            description = "대시보드의 네 섹션을 동시에 조회해 한 번에 반환합니다. 실패하거나 시간 초과된 섹션은 null 이며 failedSections 에 포함됩니다."
+    )
+    public ApiResponse<DashboardSummaryRes> getDashboard(
+            @Parameter(description = "일정 조회 날짜 (기본값: 현재 시각)", example = "2026-01-22T00:00:00Z")
+            @RequestParam(value = "date", required = false) Instant date,
+            Authentication authentication,
+            @RequestParam(required = false) String username
+    ) {
+        String userId = getUserId(authentication, username);
+        DashboardSummaryRes response = dashboardSummaryService.getSummary(userId, date != null ? date : Instant.now());
+        return ApiResponse.onSuccess(GeneralSuccessCode._OK, response, "대시보드 조회에 성공했습니다");
+    }
 
     /**
      * 최근 회고 목록 조회
      * 로그인 사용자가 작성한 회고만 최근순으로 조회
      * @param authentication 로그인한 사용자 정보 (JWT 인증 시 사용)
      * @param username 개발 환경 테스트용 사용자 ID (선택)
+     * @param cursor 이전 응답의 nextCursor (선택)
+     * @param size 페이지 크기 (선택)
      * @return 회고 목록 응답
      */
     @GetMapping("/retrospectives/recent")
@@ -52,7 +80,11 @@ public class DashboardController {
     public ApiResponse<DashboardRes.RetrospectiveListRes> getRecentRetrospectives(
             Authentication authentication,
             @Parameter(description = "개발 환경 테스트용 사용자 로그인 ID (예: user@example.com)", example = "writer@example.com")
-            @RequestParam(required = false) String username
+            @RequestParam(required = false) String username,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size
     ) {
         // 1. 인증된 사용자의 userId 추출 (JWT 토큰 또는 테스트 환경)
         String userId = (authentication != null && authentication.isAuthenticated()
@@ -60,14 +92,8 @@ public class DashboardController {
                         ? authentication.getName()
                         : username;
 
-        DashboardRes.RetrospectiveListRes response;
-        if (userId != null) {
-            // 특정 사용자의 회고 조회
-            response = dashboardService.getRecentRetrospectives(userId);
-        } else {
-            // 사용자 정보가 없으면 모든 회고 조회
-            response = dashboardService.getRecentRetrospectives();
-        }
+        // 2. 사용자 정보가 없으면(null) 모든 회고 조회
+        DashboardRes.RetrospectiveListRes response = dashboardService.getRecentRetrospectives(userId, cursor, size);
 
         return ApiResponse.onSuccess(
                 GeneralSuccessCode._OK,
@@ -83,10 +109,14 @@ public class DashboardController {
     )
     public ApiResponse<UpcomingTaskListRes> getUpcomingTasks(
             Authentication authentication,
-            @RequestParam(required = false) String username
+            @RequestParam(required = false) String username,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size
     ) {
         String userId = getUserId(authentication, username);
-        UpcomingTaskListRes response = dashboardService.getUpcomingTasks(userId);
+        UpcomingTaskListRes response = dashboardService.getUpcomingTasks(userId, cursor, size);
         return ApiResponse.onSuccess(GeneralSuccessCode._OK, response, "다가오는 업무 조회에 성공했습니다");
     }
 
@@ -94,10 +124,14 @@ public class DashboardController {
     @Operation(summary = "알림 조회", description = "로그인한 사용자의 최근 알림 목록을 조회합니다.")
     public ApiResponse<NotificationListRes> getRecentNotifications(
             Authentication authentication,
-            @RequestParam(required = false) String username
+            @RequestParam(required = false) String username,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size
     ) {
         String userId = getUserId(authentication, username);
-        NotificationListRes response = dashboardService.getRecentNotifications(userId);
+        NotificationListRes response = dashboardService.getRecentNotifications(userId, cursor, size);
         return ApiResponse.onSuccess(GeneralSuccessCode._OK, response, "알림 목록 조회에 성공했습니다");
     }
 
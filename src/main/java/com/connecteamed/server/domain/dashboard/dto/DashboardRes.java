@@ -21,6 +21,10 @@ public class DashboardRes {
         @JsonProperty("retrospectives")
         @Schema(description = "회고 정보 목록")
         private List<RetrospectiveInfo> retrospectives;
+
+        @JsonProperty("nextCursor")
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNi0wMS0yMlQwMDowMDowMFp8MTAx")
+        private String nextCursor;
     }
 
     @Getter
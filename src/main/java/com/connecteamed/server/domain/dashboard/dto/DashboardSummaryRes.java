@@ -0,0 +1,16 @@
+package com.connecteamed.server.domain.dashboard.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "대시보드 통합 응답 (실패하거나 시간 초과된 섹션은 null 로 내려가고 failedSections 에 표시)")
+public record DashboardSummaryRes(
+        DashboardRes.RetrospectiveListRes retrospectives,
+        UpcomingTaskListRes upcomingTasks,
+        NotificationListRes notifications,
+        DailyScheduleListRes dailySchedules,
+        @Schema(description = "조회에 실패한 섹션 목록", example = "[\"notifications\"]")
+        List<String> failedSections
+) {
+}
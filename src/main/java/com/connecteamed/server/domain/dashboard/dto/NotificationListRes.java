@@ -4,8 +4,13 @@ import java.time.Instant;
 import java.util.List;
 
 public record NotificationListRes (
-        List<NotificationRes> notifications
+        List<NotificationRes> notifications,
+        String nextCursor
 ) {
+    public NotificationListRes(List<NotificationRes> notifications) {
+        this(notifications, null);
+    }
+
     public record NotificationRes (
             Long id,
             String message,
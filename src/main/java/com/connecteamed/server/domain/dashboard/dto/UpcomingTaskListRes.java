@@ -4,8 +4,13 @@ import java.time.Instant;
 import java.util.List;
 
 public record UpcomingTaskListRes (
-        List<UpcomingTaskRes> tasks
+        List<UpcomingTaskRes> tasks,
+        String nextCursor
 ) {
+    public UpcomingTaskListRes(List<UpcomingTaskRes> tasks) {
+        this(tasks, null);
+    }
+
     public record UpcomingTaskRes (
             Long id,
             String title,
@@ -6,7 +6,6 @@ import com.connecteamed.server.domain.dashboard.dto.NotificationListRes;
 import com.connecteamed.server.domain.dashboard.dto.UpcomingTaskListRes;
 import com.connecteamed.server.domain.meeting.entity.Meeting;
 import com.connecteamed.server.domain.meeting.repository.MeetingRepository;
-import com.connecteamed.server.domain.notification.dto.NotificationRes;
 import com.connecteamed.server.domain.notification.entity.Notification;
 import com.connecteamed.server.domain.notification.repository.NotificationRepository;
 import com.connecteamed.server.domain.retrospective.entity.AiRetrospective;
@@ -14,7 +13,10 @@ import com.connecteamed.server.domain.retrospective.repository.RetrospectiveRepo
 import com.connecteamed.server.domain.task.entity.Task;
 import com.connecteamed.server.domain.task.enums.TaskStatus;
 import com.connecteamed.server.domain.task.repository.TaskRepository;
+import com.connecteamed.server.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,26 +37,75 @@ public class DashboardService {
 
     /**
      * 최근 회고 목록 조회
-     * @return 회고 목록 응답 DTO (모든 회고)
+     * @return 회고 목록 응답 DTO (모든 회고, 첫 페이지)
      */
     public DashboardRes.RetrospectiveListRes getRecentRetrospectives() {
-        List<AiRetrospective> retrospectives = retrospectiveRepository.findRecentRetrospectives();
-        return convertToResponse(retrospectives);
+        return getRecentRetrospectives(null, null, null);
     }
 
     /**
      * 로그인 사용자가 작성한 최근 회고 목록 조회
      * @param username 로그인한 사용자의 로그인 아이디
-     * @return 사용자가 작성한 회고 목록 응답 DTO
+     * @return 사용자가 작성한 회고 목록 응답 DTO (첫 페이지)
      */
     public DashboardRes.RetrospectiveListRes getRecentRetrospectives(String username) {
-        List<AiRetrospective> retrospectives = retrospectiveRepository.findRecentRetrospectivesByUsername(username);
-        return convertToResponse(retrospectives);
+        return getRecentRetrospectives(username, null, null);
+    }
+
+    /**
+     * 최근 회고 목록 키셋 페이지 조회
+     * @param username 작성자 로그인 아이디 (null 이면 모든 회고)
+     * @param cursor 이전 응답의 nextCursor (null 이면 첫 페이지)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 회고 목록 응답 DTO
+     */
+    public DashboardRes.RetrospectiveListRes getRecentRetrospectives(String username, String cursor, Integer size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<AiRetrospective> retrospectives;
+        if (username != null) {
+            retrospectives = keyset == null
+                    ? retrospectiveRepository.findRecentRetrospectivesByUsername(username, limit)
+                    : retrospectiveRepository.findRecentRetrospectivesByUsernameBefore(username, keyset.at(), keyset.id(), limit);
+        } else {
+            retrospectives = keyset == null
+                    ? retrospectiveRepository.findRecentRetrospectives(limit)
+                    : retrospectiveRepository.findRecentRetrospectivesBefore(keyset.at(), keyset.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (retrospectives.size() > pageSize) {
+            retrospectives = retrospectives.subList(0, pageSize);
+            AiRetrospective last = retrospectives.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return convertToResponse(retrospectives, nextCursor);
     }
 
     public UpcomingTaskListRes getUpcomingTasks(String userId) {
+        return getUpcomingTasks(userId, null, null);
+    }
+
+    public UpcomingTaskListRes getUpcomingTasks(String userId, String cursor, Integer size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
         List<TaskStatus> targetStatuses = List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
-        List<Task> tasks = taskRepository.findUpcomingTasksByUserId(userId, targetStatuses);
+        List<Task> tasks = keyset == null
+                ? taskRepository.findUpcomingTasksByUserId(userId, targetStatuses, limit)
+                : taskRepository.findUpcomingTasksByUserIdAfter(userId, targetStatuses, keyset.at(), keyset.id(), limit);
+
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            Task last = tasks.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getDueDate(), last.getId()).encode();
+        }
+
         List<UpcomingTaskListRes.UpcomingTaskRes> taskResList = tasks.stream()
                 .map(task -> new UpcomingTaskListRes.UpcomingTaskRes(
                         task.getId(),
@@ -64,11 +115,29 @@ public class DashboardService {
                 ))
                 .toList();
 
-        return new UpcomingTaskListRes(taskResList);
+        return new UpcomingTaskListRes(taskResList, nextCursor);
     }
 
     public NotificationListRes getRecentNotifications(String userId) {
-        List<Notification> notifications = notificationRepository.findAllByReceiverLoginIdOrderByCreatedAtDesc(userId);
+        return getRecentNotifications(userId, null, null);
+    }
+
+    public NotificationListRes getRecentNotifications(String userId, String cursor, Integer size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> notifications = keyset == null
+                ? notificationRepository.findRecentByReceiverLoginId(userId, limit)
+                : notificationRepository.findRecentByReceiverLoginIdBefore(userId, keyset.at(), keyset.id(), limit);
+
+        String nextCursor = null;
+        if (notifications.size() > pageSize) {
+            notifications = notifications.subList(0, pageSize);
+            Notification last = notifications.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
         List<NotificationListRes.NotificationRes> resList = notifications.stream()
                 .map(n -> new NotificationListRes.NotificationRes(
                         n.getId(),
@@ -79,7 +148,7 @@ public class DashboardService {
                 ))
                 .toList();
 
-        return new NotificationListRes(resList);
+        return new NotificationListRes(resList, nextCursor);
     }
 
     public DailyScheduleListRes getDailySchedules(String userId, Instant date) {
@@ -120,9 +189,10 @@ public class DashboardService {
     /**
      * AiRetrospective 리스트를 Response DTO로 변환
      * @param retrospectives DB에서 조회한 회고 엔티티 리스트
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
      * @return 변환된 회고 목록 응답 DTO
      */
-    private DashboardRes.RetrospectiveListRes convertToResponse(List<AiRetrospective> retrospectives) {
+    private DashboardRes.RetrospectiveListRes convertToResponse(List<AiRetrospective> retrospectives, String nextCursor) {
         List<DashboardRes.RetrospectiveInfo> retrospectiveInfos = retrospectives.stream()
                 .map(retrospective -> DashboardRes.RetrospectiveInfo.builder()
                         .id(retrospective.getId())
@@ -134,6 +204,7 @@ public class DashboardService {
 
         return DashboardRes.RetrospectiveListRes.builder()
                 .retrospectives(retrospectiveInfos)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
@@ -0,0 +1,87 @@
+package com.connecteamed.server.domain.dashboard.service;
+
+import com.connecteamed.server.domain.dashboard.dto.DailyScheduleListRes;
+import com.connecteamed.server.domain.dashboard.dto.DashboardRes;
+import com.connecteamed.server.domain.dashboard.dto.DashboardSummaryRes;
+import com.connecteamed.server.domain.dashboard.dto.NotificationListRes;
+import com.connecteamed.server.domain.dashboard.dto.UpcomingTaskListRes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 대시보드 4개 섹션을 dashboardExecutor(커넥션 풀보다 작은 고정 풀)에서 동시에 조회해 하나의 응답으로 합친다
+ * - 각 섹션은 DashboardService 프록시를 통해 호출되므로 섹션마다 별도의 readOnly 트랜잭션
+ * - 섹션별 제한 시간을 넘기거나 실패한 섹션은 null 로 두고 failedSections 에 기록
+ */
+@Slf4j
+@Service
+public class DashboardSummaryService {
+
+    private final DashboardService dashboardService;
+    private final ExecutorService dashboardExecutor;
+    private final long sectionTimeoutMillis;
+
+    public DashboardSummaryService(
+            DashboardService dashboardService,
+            @Qualifier("dashboardExecutor") ExecutorService dashboardExecutor,
+            @Value("${app.dashboard.section-timeout-ms:2000}") long sectionTimeoutMillis
+    ) {
+        this.dashboardService = dashboardService;
+        this.dashboardExecutor = dashboardExecutor;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+    }
+
+    public DashboardSummaryRes getSummary(String userId, Instant date) {
+        Future<DashboardRes.RetrospectiveListRes> retrospectives = submit(() -> userId != null
+                ? dashboardService.getRecentRetrospectives(userId)
+                : dashboardService.getRecentRetrospectives());
+        Future<UpcomingTaskListRes> upcomingTasks = submit(() -> dashboardService.getUpcomingTasks(userId));
+        Future<NotificationListRes> notifications = submit(() -> dashboardService.getRecentNotifications(userId));
+        Future<DailyScheduleListRes> dailySchedules = submit(() -> dashboardService.getDailySchedules(userId, date));
+
+        // 네 섹션이 동시에 시작했으므로 같은 마감 시각을 기준으로 기다린다
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMillis);
+        List<String> failedSections = new ArrayList<>();
+
+        return new DashboardSummaryRes(
+                await("retrospectives", retrospectives, deadline, failedSections),
+                await("upcomingTasks", upcomingTasks, deadline, failedSections),
+                await("notifications", notifications, deadline, failedSections),
+                await("dailySchedules", dailySchedules, deadline, failedSections),
+                failedSections
+        );
+    }
+
+    private <T> Future<T> submit(Callable<T> section) {
+        return dashboardExecutor.submit(section);
+    }
+
+    private <T> T await(String section, Future<T> future, long deadline, List<String> failedSections) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("[DashboardSummaryService] {} 섹션 조회 시간 초과 ({}ms)", section, sectionTimeoutMillis);
+        } catch (ExecutionException e) {
+            log.warn("[DashboardSummaryService] {} 섹션 조회 실패: {}", section, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        failedSections.add(section);
+        return null;
+    }
+}
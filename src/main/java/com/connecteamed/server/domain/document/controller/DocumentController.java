@@ -1,6 +1,12 @@
 package com.connecteamed.server.domain.document.controller;
 
+import java.io.IOException;
+
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,7 +14,9 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,16 +25,22 @@ import com.connecteamed.server.domain.document.dto.DocumentCreateRes;
 import com.connecteamed.server.domain.document.dto.DocumentCreateTextReq;
 import com.connecteamed.server.domain.document.dto.DocumentDetailRes;
 import com.connecteamed.server.domain.document.dto.DocumentListRes;
+import com.connecteamed.server.domain.document.dto.DocumentPatchTextReq;
+import com.connecteamed.server.domain.document.dto.DocumentPatchTextRes;
 import com.connecteamed.server.domain.document.dto.DocumentUpdateTextReq;
 import com.connecteamed.server.domain.document.dto.DocumentUploadRes;
+import com.connecteamed.server.domain.document.dto.DocumentVersionListRes;
+import com.connecteamed.server.domain.document.dto.DocumentVersionRes;
 import com.connecteamed.server.domain.document.enums.DocumentFileType;
 import com.connecteamed.server.domain.document.service.DocumentService;
 import com.connecteamed.server.global.apiPayload.ApiResponse;
 import com.connecteamed.server.global.apiPayload.code.GeneralSuccessCode;
 import com.connecteamed.server.global.util.SecurityUtil;
+import com.connecteamed.server.global.util.SendfileSupport;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -56,13 +70,29 @@ public class DocumentController {
         );
     }
 
-    @Operation(summary = "문서 다운로드", description = "문서 다운로드 API입니다.")
+    @Operation(summary = "문서 다운로드", description = "문서 다운로드 API입니다. Range, If-Range, If-None-Match 헤더를 지원합니다.")
     @GetMapping("/documents/{documentId}/download")
-    public ResponseEntity<Resource> download(@PathVariable Long documentId) {
-        return documentService.download(documentId);
+    public ResponseEntity<Resource> download(
+            @PathVariable Long documentId,
+            @RequestHeader HttpHeaders headers,
+            HttpServletRequest request
+    ) throws IOException {
+        // Range / If-Range / If-None-Match 를 그대로 넘겨 부분 전송과 304 를 처리
+        return SendfileSupport.apply(request, documentService.download(documentId, headers));
     }
 
-    @Operation(summary = "문서 추가(파일 업로드)", description = "문서 추가 (파일 업로드) API입니다.")
+    @Operation(summary = "문서 썸네일(이미지)", description = "이미지 문서의 썸네일(JPEG)을 내려주는 API입니다. 목록 응답의 thumbnailUrls 에 있는 크기만 존재합니다.")
+    @GetMapping("/documents/{documentId}/thumbnails/{size}")
+    public ResponseEntity<Resource> thumbnail(
+            @PathVariable Long documentId,
+            @PathVariable int size,
+            @RequestHeader HttpHeaders headers,
+            HttpServletRequest request
+    ) throws IOException {
+        return SendfileSupport.apply(request, documentService.thumbnail(documentId, size, headers));
+    }
+
+    @Operation(summary = "문서 추가(파일 업로드)", description = "문서 추가 (파일 업로드) API입니다. 파일을 받으면 PENDING 상태로 202 를 응답하고, 저장소 업로드가 끝나면 READY(실패 시 FAILED)가 됩니다.")
     @PostMapping(value = "/projects/{projectId}/documents/upload", consumes = "multipart/form-data")
     public ResponseEntity<ApiResponse<DocumentUploadRes>> upload(
             @PathVariable Long projectId,
@@ -71,8 +101,29 @@ public class DocumentController {
     ) {
         String loginId = SecurityUtil.getCurrentLoginId();
         DocumentFileType fileType = DocumentFileType.valueOf(type);
-        return ResponseEntity.ok(
-            ApiResponse.onSuccess(GeneralSuccessCode._CREATED, documentService.uploadFile(projectId, loginId, file, fileType))
+        // 저장소 업로드는 비동기로 진행되므로 202 (status 가 READY 가 되면 다운로드 가능)
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+            ApiResponse.onSuccess(GeneralSuccessCode._ACCEPTED, documentService.uploadFile(projectId, loginId, file, fileType))
+        );
+    }
+
+    @Operation(summary = "문서 추가(스트리밍 업로드)",
+            description = "요청 본문(파일 바이트)을 메모리에 모으지 않고 임시 파일로 받아 비동기로 저장소에 올리는 업로드 API입니다. 대용량 파일에 사용합니다. Content-Type 은 application/octet-stream 으로 보내고 파일명/타입은 쿼리로 전달합니다.")
+    @PostMapping(value = "/projects/{projectId}/documents/upload/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<DocumentUploadRes>> uploadStream(
+            @PathVariable Long projectId,
+            @RequestParam("filename") String filename,
+            @RequestParam("type") String type,
+            HttpServletRequest request
+    ) throws IOException {
+        String loginId = SecurityUtil.getCurrentLoginId();
+        DocumentFileType fileType = DocumentFileType.valueOf(type);
+        String contentType = MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+            ApiResponse.onSuccess(GeneralSuccessCode._ACCEPTED,
+                    documentService.uploadStream(projectId, loginId, request.getInputStream(), filename, contentType, fileType))
         );
     }
 
@@ -100,6 +151,37 @@ public class DocumentController {
         );
     }
 
+    @Operation(summary = "문서 수정(텍스트, 변경분)",
+            description = "본문 전체 대신 baseVersion 본문 대비 변경분(diff-match-patch delta)만 보내는 수정 API입니다. 자동 저장에 사용합니다. baseVersion 이 현재 버전과 다르면 409 를 응답합니다.")
+    @PatchMapping("/documents/{documentId}/delta")
+    public ResponseEntity<ApiResponse<DocumentPatchTextRes>> patchText(
+            @PathVariable Long documentId,
+            @Valid @RequestBody DocumentPatchTextReq req
+    ) {
+        return ResponseEntity.ok(
+            ApiResponse.onSuccess(GeneralSuccessCode._OK, documentService.patchText(documentId, req))
+        );
+    }
+
+    @Operation(summary = "문서 버전 목록(텍스트)", description = "텍스트 문서의 저장 이력을 최신 버전부터 조회하는 API입니다.")
+    @GetMapping("/documents/{documentId}/versions")
+    public ResponseEntity<ApiResponse<DocumentVersionListRes>> versions(@PathVariable Long documentId) {
+        return ResponseEntity.ok(
+            ApiResponse.onSuccess(GeneralSuccessCode._OK, documentService.listVersions(documentId))
+        );
+    }
+
+    @Operation(summary = "문서 버전 조회(텍스트)", description = "텍스트 문서의 특정 버전 본문을 조회하는 API입니다.")
+    @GetMapping("/documents/{documentId}/versions/{version}")
+    public ResponseEntity<ApiResponse<DocumentVersionRes>> version(
+            @PathVariable Long documentId,
+            @PathVariable int version
+    ) {
+        return ResponseEntity.ok(
+            ApiResponse.onSuccess(GeneralSuccessCode._OK, documentService.getVersion(documentId, version))
+        );
+    }
+
     @Operation(summary = "문서 삭제", description = "문서삭제 API입니다.")
     @DeleteMapping("/documents/{documentId}")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long documentId) {
@@ -0,0 +1,82 @@
+package com.connecteamed.server.domain.document.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.connecteamed.server.domain.document.service.S3StorageService;
+import com.connecteamed.server.domain.document.service.StoredObject;
+import com.connecteamed.server.global.util.SendfileSupport;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 로컬 저장소 공개 URL (app.storage.type=local)
+ * - S3 의 공개 버킷 URL 대신 프로젝트 대표 이미지와 그 썸네일(project/...)만 내려준다
+ * - 문서 파일은 권한 확인이 필요하므로 여기서 내려주지 않는다 (/api/documents/{id}/download)
+ */
+@RestController
+@RequestMapping("/api/storage")
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+@Tag(name = "Storage", description = "로컬 저장소 파일 API")
+public class LocalStorageController {
+
+    private final S3StorageService s3StorageService;
+
+    public LocalStorageController(S3StorageService s3StorageService) {
+        this.s3StorageService = s3StorageService;
+    }
+
+    @Operation(summary = "프로젝트 이미지(로컬 저장소)", description = "로컬 저장소에 올린 프로젝트 대표 이미지와 썸네일을 내려주는 API입니다. 프로젝트 응답의 imageUrl / thumbnailUrls 가 이 경로를 가리킵니다.")
+    @GetMapping("/project/{fileName}")
+    public ResponseEntity<Resource> projectImage(
+            @PathVariable String fileName,
+            @RequestHeader HttpHeaders headers,
+            HttpServletRequest request
+    ) throws IOException {
+        StoredObject object = s3StorageService.download("project/" + fileName, null, headers.getFirst(HttpHeaders.IF_NONE_MATCH));
+
+        // key 에 UUID 가 들어가 같은 URL 의 내용은 바뀌지 않는다
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+        if (object.notModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(object.eTag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .cacheControl(cacheControl);
+        if (object.contentLength() != null) {
+            builder.contentLength(object.contentLength());
+        }
+        if (object.eTag() != null) {
+            builder.eTag(object.eTag());
+        }
+        if (object.lastModified() != null) {
+            builder.lastModified(object.lastModified());
+        }
+        if (object.fileRegion() != null) {
+            return SendfileSupport.apply(request, builder.body(object.fileRegion()));
+        }
+        return builder.body(new InputStreamResource(object.body()));
+    }
+}
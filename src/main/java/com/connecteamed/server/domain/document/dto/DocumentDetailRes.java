@@ -7,5 +7,7 @@ public record DocumentDetailRes(
         String content,      // TEXT면 채움
         String downloadUrl,  // 파일이면 채움
         String createdAt,
-        String updatedAt
+        String updatedAt,
+        String status,       // 파일 업로드 상태 (PENDING / READY / FAILED)
+        Integer version      // TEXT면 현재 버전 (delta 수정의 baseVersion)
 ) {}
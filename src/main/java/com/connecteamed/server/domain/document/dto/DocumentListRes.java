@@ -1,6 +1,7 @@
 package com.connecteamed.server.domain.document.dto;
 
 import java.util.List;
+import java.util.Map;
 
 public record DocumentListRes(
         List<Item> documents
@@ -12,6 +13,8 @@ public record DocumentListRes(
             String uploaderName,
             String uploadDate,
             String downloadUrl,
-            boolean canEdit
+            boolean canEdit,
+            String status,
+            Map<Integer, String> thumbnailUrls   // IMAGE면 크기(px) → 썸네일 URL, 아직 없으면 null
     ) {}
 }
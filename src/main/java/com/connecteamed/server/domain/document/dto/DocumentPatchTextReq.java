@@ -0,0 +1,14 @@
+package com.connecteamed.server.domain.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+public record DocumentPatchTextReq(
+        @Schema(description = "수정 기준 버전 (현재 버전과 다르면 409)", example = "3")
+        @NotNull Integer baseVersion,
+        @Schema(description = "바꿀 제목 (null 이면 유지)")
+        String title,
+        @Schema(description = "기준 버전 본문 대비 변경분 (diff-match-patch delta 형식: 탭으로 구분한 =N, -N, +URI인코딩텍스트)",
+                example = "=12\t-3\t+new%20text\t=40")
+        @NotNull String delta
+) {}
@@ -0,0 +1,6 @@
+package com.connecteamed.server.domain.document.dto;
+
+public record DocumentPatchTextRes(
+        Long documentId,
+        int version
+) {}
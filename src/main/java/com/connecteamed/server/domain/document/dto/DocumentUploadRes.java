@@ -3,5 +3,6 @@ package com.connecteamed.server.domain.document.dto;
 public record DocumentUploadRes(
         Long documentId,
         String fileName,
-        String createdAt
+        String createdAt,
+        String status        // PENDING → READY / FAILED
 ) {}
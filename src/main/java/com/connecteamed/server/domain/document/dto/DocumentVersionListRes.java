@@ -0,0 +1,17 @@
+package com.connecteamed.server.domain.document.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record DocumentVersionListRes(
+        Long documentId,
+        int currentVersion,
+        List<Item> versions   // 최신 버전부터
+) {
+    public record Item(
+            int version,
+            String title,
+            int contentLength,
+            Instant createdAt
+    ) {}
+}
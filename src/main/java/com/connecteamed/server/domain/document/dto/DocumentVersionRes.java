@@ -0,0 +1,9 @@
+package com.connecteamed.server.domain.document.dto;
+
+public record DocumentVersionRes(
+        Long documentId,
+        int version,
+        String title,
+        String content,
+        String createdAt
+) {}
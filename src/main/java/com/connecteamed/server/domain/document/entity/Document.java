@@ -1,6 +1,7 @@
 package com.connecteamed.server.domain.document.entity;
 
 import com.connecteamed.server.domain.document.enums.DocumentFileType;
+import com.connecteamed.server.domain.document.enums.DocumentStatus;
 import com.connecteamed.server.domain.project.entity.Project;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.global.entity.BaseEntity;
@@ -46,6 +47,15 @@ public class Document extends BaseEntity {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
+    // 기존 행이 있어 nullable (null 은 READY 로 취급)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16)
+    private DocumentStatus status;
+
+    // TEXT 문서의 현재 버전 (이력이 생기기 전 행은 null 이며 0 으로 취급)
+    @Column(name = "text_version")
+    private Integer textVersion;
+
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
@@ -64,6 +74,8 @@ public class Document extends BaseEntity {
                 .fileType(DocumentFileType.TEXT)
                 .fileUrl(null)
                 .content(content)
+                // 생성 본문이 버전 1 (DocumentVersionService.record 가 snapshot 으로 남긴다)
+                .textVersion(1)
                 .deletedAt(null)
                 .build();
     }
@@ -83,6 +95,34 @@ public class Document extends BaseEntity {
                 .build();
     }
 
+    // 저장소 업로드 전에 먼저 만드는 파일 문서 (publicId 는 임시 파일 이름으로도 쓰인다)
+    public static Document createPendingFile(Project project, ProjectMember projectMember, String title,
+                                             DocumentFileType type, UUID publicId) {
+        if (type == DocumentFileType.TEXT) {
+            throw new IllegalArgumentException("TEXT 타입은 createPendingFile로 생성할 수 없습니다.");
+        }
+        return Document.builder()
+                .publicId(publicId)
+                .project(project)
+                .projectMember(projectMember)
+                .title(title)
+                .fileType(type)
+                .fileUrl(null)
+                .content(null)
+                .status(DocumentStatus.PENDING)
+                .deletedAt(null)
+                .build();
+    }
+
+    public void markReady(String fileUrl) {
+        this.fileUrl = fileUrl;
+        this.status = DocumentStatus.READY;
+    }
+
+    public void markFailed() {
+        this.status = DocumentStatus.FAILED;
+    }
+
     public void updateText(String title, String content) {
         if (this.fileType != DocumentFileType.TEXT) {
             throw new IllegalArgumentException("TEXT 문서만 수정할 수 있습니다.");
@@ -98,6 +138,14 @@ public class Document extends BaseEntity {
         }
     }
 
+    public int currentTextVersion() {
+        return textVersion == null ? 0 : textVersion;
+    }
+
+    public void markTextVersion(int version) {
+        this.textVersion = version;
+    }
+
     public void softDelete() {
         this.deletedAt = Instant.now();
     }
@@ -0,0 +1,60 @@
+package com.connecteamed.server.domain.document.entity;
+
+import com.connecteamed.server.global.entity.BaseEntity;
+import com.connecteamed.server.global.util.TokenDigest;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 내용 기반(SHA-256) 저장 객체
+ * - 같은 내용의 파일은 저장소에 한 번만 올리고, 이를 가리키는 문서 수를 refCount 로 센다
+ * - Document.fileUrl 에는 이 행의 storageKey 가 들어간다
+ * - refCount 가 0 이 되면 orphanedAt 을 기록하고, 유예 시간이 지나면 GC 가 지운다
+ * - refCount = -1 은 GC 가 저장소 객체를 지우는 중이라는 뜻 (이 동안은 재사용하지 않는다)
+ * - 이미지면 {storageKey}.thumb-{size}.jpg 썸네일이 옆에 있고, 내용이 같으면 썸네일도 공유한다
+ */
+@Entity
+@Table(name = "document_blob", indexes = {
+        @Index(name = "idx_document_blob_orphaned_at", columnList = "orphaned_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DocumentBlob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sha256", columnDefinition = "char(" + TokenDigest.HEX_LENGTH + ")", nullable = false, unique = true)
+    private String sha256;
+
+    @Column(name = "storage_key", nullable = false, unique = true, length = 512)
+    private String storageKey;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "orphaned_at")
+    private Instant orphanedAt;
+
+    // 이미지 blob 의 썸네일 크기 목록 ("64,256,1024"), 아직 없거나 이미지가 아니면 null
+    @Column(name = "thumbnail_sizes", length = 64)
+    private String thumbnailSizes;
+
+    public static DocumentBlob create(String sha256, String storageKey, long size) {
+        return DocumentBlob.builder()
+                .sha256(sha256)
+                .storageKey(storageKey)
+                .size(size)
+                .refCount(1)
+                .orphanedAt(null)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.connecteamed.server.domain.document.entity;
+
+import com.connecteamed.server.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * TEXT 문서 버전 이력
+ * - snapshot 이면 payload 는 그 버전의 전체 본문, 아니면 직전 버전 대비 delta (TextDelta 형식)
+ * - 특정 버전은 그 이하의 가장 가까운 snapshot 에서 delta 를 차례로 적용해 복원한다
+ */
+@Entity
+@Table(name = "document_version",
+        uniqueConstraints = @UniqueConstraint(name = "uk_document_version", columnNames = {"document_id", "version"}))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DocumentVersion extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Column(name = "version", nullable = false)
+    private int version;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "snapshot", nullable = false)
+    private boolean snapshot;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    // 복원하지 않고 목록에 보여 주기 위한 본문 길이
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    public static DocumentVersion snapshot(Long documentId, int version, String title, String content) {
+        return DocumentVersion.builder()
+                .documentId(documentId)
+                .version(version)
+                .title(title)
+                .snapshot(true)
+                .payload(content)
+                .contentLength(content.length())
+                .build();
+    }
+
+    public static DocumentVersion delta(Long documentId, int version, String title, String delta, int contentLength) {
+        return DocumentVersion.builder()
+                .documentId(documentId)
+                .version(version)
+                .title(title)
+                .snapshot(false)
+                .payload(delta)
+                .contentLength(contentLength)
+                .build();
+    }
+}
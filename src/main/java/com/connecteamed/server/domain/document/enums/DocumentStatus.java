@@ -0,0 +1,16 @@
+package com.connecteamed.server.domain.document.enums;
+
+/**
+ * 파일 문서 업로드 상태
+ * - PENDING: 서버에 임시 저장만 되고 저장소 업로드 대기/진행 중
+ * - READY: 저장소 업로드 완료 (다운로드 가능)
+ * - FAILED: 재시도 후에도 업로드 실패
+ * 상태 컬럼이 생기기 전 행(null)과 TEXT 문서는 READY 로 본다
+ */
+public enum DocumentStatus {
+    PENDING, READY, FAILED;
+
+    public static DocumentStatus of(DocumentStatus status) {
+        return status == null ? READY : status;
+    }
+}
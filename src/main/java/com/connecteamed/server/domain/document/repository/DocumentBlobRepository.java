@@ -0,0 +1,60 @@
+package com.connecteamed.server.domain.document.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.connecteamed.server.domain.document.entity.DocumentBlob;
+
+public interface DocumentBlobRepository extends JpaRepository<DocumentBlob, Long> {
+
+    boolean existsBySha256(String sha256);
+
+    // 이미 있는 blob 재사용 (GC 중인 -1 행은 건드리지 않는다), 0 이면 새로 올려야 함
+    @Modifying
+    @Query("update DocumentBlob b set b.refCount = b.refCount + 1, b.orphanedAt = null " +
+            "where b.sha256 = :sha256 and b.refCount >= 0")
+    int incrementRefCount(@Param("sha256") String sha256);
+
+    // 마지막 참조가 빠지면 orphanedAt 기록 (레거시 UUID key 는 행이 없으므로 0)
+    @Modifying
+    @Query("update DocumentBlob b set b.refCount = b.refCount - 1, " +
+            "b.orphanedAt = case when b.refCount = 1 then :now else b.orphanedAt end " +
+            "where b.storageKey = :storageKey and b.refCount > 0")
+    int decrementRefCount(@Param("storageKey") String storageKey, @Param("now") Instant now);
+
+    // 유예 시간이 지난 고아 blob + 이전 GC 가 중간에 멈춘 blob
+    @Query("select b.sha256 from DocumentBlob b " +
+            "where (b.refCount = 0 and b.orphanedAt < :orphanedBefore) or b.refCount = -1")
+    List<String> findCollectable(@Param("orphanedBefore") Instant orphanedBefore, Pageable pageable);
+
+    @Modifying
+    @Query("update DocumentBlob b set b.refCount = -1 where b.sha256 = :sha256 and b.refCount = 0")
+    int markCollecting(@Param("sha256") String sha256);
+
+    @Query("select b.storageKey from DocumentBlob b where b.sha256 = :sha256 and b.refCount = -1")
+    String findCollectingKey(@Param("sha256") String sha256);
+
+    @Query("select b.thumbnailSizes from DocumentBlob b where b.sha256 = :sha256 and b.refCount = -1")
+    String findCollectingThumbnailSizes(@Param("sha256") String sha256);
+
+    boolean existsByStorageKeyAndThumbnailSizesIsNotNull(String storageKey);
+
+    // 목록 조회 시 썸네일이 있는 blob 만 한 번에
+    List<DocumentBlob> findAllByStorageKeyInAndThumbnailSizesIsNotNull(Collection<String> storageKeys);
+
+    // GC 중인 행에는 기록하지 않는다 (0 이면 올린 썸네일을 지워야 함)
+    @Modifying
+    @Query("update DocumentBlob b set b.thumbnailSizes = :sizes where b.storageKey = :storageKey and b.refCount >= 0")
+    int markThumbnails(@Param("storageKey") String storageKey, @Param("sizes") String sizes);
+
+    @Modifying
+    @Query("delete from DocumentBlob b where b.sha256 = :sha256 and b.refCount = -1")
+    int deleteCollected(@Param("sha256") String sha256);
+}
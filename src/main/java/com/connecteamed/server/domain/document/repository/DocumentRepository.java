@@ -5,8 +5,12 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.connecteamed.server.domain.document.entity.Document;
+import com.connecteamed.server.domain.document.enums.DocumentStatus;
 
 public interface DocumentRepository extends JpaRepository<Document, Long> {
     Optional<Document> findByIdAndDeletedAtIsNull(Long id);
@@ -14,4 +18,12 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     @EntityGraph(attributePaths = {"projectMember", "projectMember.member"})
     List<Document> findAllByProjectIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long projectId);
 
+    // 재기동 시 업로드가 끝나지 않은 문서 복구용
+    List<Document> findAllByStatus(DocumentStatus status);
+
+    // TEXT 문서 버전 올리기 (그 사이 다른 저장이 커밋됐으면 0)
+    @Modifying
+    @Query("update Document d set d.textVersion = :next where d.id = :id and coalesce(d.textVersion, 0) = :base")
+    int advanceTextVersion(@Param("id") Long id, @Param("base") int base, @Param("next") int next);
+
 }
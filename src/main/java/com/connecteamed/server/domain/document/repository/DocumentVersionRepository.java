@@ -0,0 +1,26 @@
+package com.connecteamed.server.domain.document.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.connecteamed.server.domain.document.dto.DocumentVersionListRes;
+import com.connecteamed.server.domain.document.entity.DocumentVersion;
+
+public interface DocumentVersionRepository extends JpaRepository<DocumentVersion, Long> {
+
+    // 복원 시작점: version 이하의 가장 최근 snapshot
+    Optional<DocumentVersion> findTopByDocumentIdAndSnapshotTrueAndVersionLessThanEqualOrderByVersionDesc(
+            Long documentId, int version);
+
+    List<DocumentVersion> findAllByDocumentIdAndVersionBetweenOrderByVersionAsc(Long documentId, int from, int to);
+
+    // 목록에는 payload 가 필요 없으므로 필요한 컬럼만
+    @Query("select new com.connecteamed.server.domain.document.dto.DocumentVersionListRes$Item(" +
+            "v.version, v.title, v.contentLength, v.createdAt) " +
+            "from DocumentVersion v where v.documentId = :documentId order by v.version desc")
+    List<DocumentVersionListRes.Item> findItemsByDocumentId(@Param("documentId") Long documentId);
+}
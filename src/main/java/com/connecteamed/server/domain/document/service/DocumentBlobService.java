@@ -0,0 +1,236 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.domain.document.entity.Document;
+import com.connecteamed.server.domain.document.entity.DocumentBlob;
+import com.connecteamed.server.domain.document.repository.DocumentBlobRepository;
+import com.connecteamed.server.domain.document.repository.DocumentRepository;
+import com.connecteamed.server.global.image.ThumbnailGenerator;
+import com.connecteamed.server.global.scheduler.SchedulerLockManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 내용 기반(SHA-256) 중복 제거 저장
+ * - 같은 내용은 {prefix}/blobs/ab/cd/{sha256} 한 곳에만 저장하고 document_blob.refCount 로 참조 수를 센다
+ * - 이미 있는 해시면 PUT 없이 refCount 만 올린다
+ * - 문서 삭제 시 refCount 를 내리고, 0 이 된 지 유예 시간이 지난 blob 은 GC 가 저장소에서 지운다
+ *
+ * GC 와 업로드가 겹쳐도 객체가 사라지지 않도록
+ * - GC 는 refCount 를 -1 로 바꾼 뒤 객체를 지우고 마지막에 행을 지운다
+ * - 업로드는 -1 행이 남아 있으면 기다렸다가, 행이 없어진 것을 본 뒤에 PUT → INSERT 한다
+ */
+@Slf4j
+@Service
+public class DocumentBlobService {
+
+    static final String GC_LOCK_NAME = "document-blob-gc";
+
+    private static final int MAX_ACQUIRE_ATTEMPTS = 20;
+    private static final long COLLECTING_WAIT_MILLIS = 200;
+
+    private final S3StorageService s3StorageService;
+    private final DocumentRepository documentRepository;
+    private final DocumentBlobRepository documentBlobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLockManager schedulerLockManager;
+    private final String prefix;
+    private final Duration gcGrace;
+    private final int gcBatchSize;
+
+    private final Counter dedupHitCounter;
+    private final Counter dedupMissCounter;
+    private final Counter collectedCounter;
+
+    public DocumentBlobService(
+            S3StorageService s3StorageService,
+            DocumentRepository documentRepository,
+            DocumentBlobRepository documentBlobRepository,
+            TransactionTemplate transactionTemplate,
+            SchedulerLockManager schedulerLockManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.s3.prefix:documents}") String prefix,
+            @Value("${app.document.blob.gc-grace-minutes:60}") long gcGraceMinutes,
+            @Value("${app.document.blob.gc-batch-size:100}") int gcBatchSize
+    ) {
+        this.s3StorageService = s3StorageService;
+        this.documentRepository = documentRepository;
+        this.documentBlobRepository = documentBlobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.schedulerLockManager = schedulerLockManager;
+        this.prefix = prefix;
+        this.gcGrace = Duration.ofMinutes(gcGraceMinutes);
+        this.gcBatchSize = gcBatchSize;
+
+        this.dedupHitCounter = Counter.builder("document.blob.dedup")
+                .tag("result", "hit")
+                .description("같은 내용이 이미 있어 업로드를 건너뛴 횟수")
+                .register(meterRegistry);
+        this.dedupMissCounter = Counter.builder("document.blob.dedup")
+                .tag("result", "miss")
+                .description("새 내용이라 저장소에 올린 횟수")
+                .register(meterRegistry);
+        this.collectedCounter = Counter.builder("document.blob.collected")
+                .description("참조가 없어 저장소에서 지운 blob 수")
+                .register(meterRegistry);
+    }
+
+    // 로컬 파일의 SHA-256 (hex)
+    public static String sha256Hex(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public String storageKey(String sha256) {
+        return "%s/blobs/%s/%s/%s".formatted(prefix, sha256.substring(0, 2), sha256.substring(2, 4), sha256);
+    }
+
+    /**
+     * 파일을 blob 으로 저장하고 같은 트랜잭션에서 문서를 READY 로 바꾼다
+     * 문서가 그 사이 삭제됐으면 참조를 늘리지 않고 null 반환
+     */
+    public String attach(Long documentId, Path file, String sha256, String contentType)
+            throws IOException, InterruptedException {
+        String key = storageKey(sha256);
+        for (int attempt = 1; attempt <= MAX_ACQUIRE_ATTEMPTS; attempt++) {
+            AcquireResult result = transactionTemplate.execute(status -> {
+                Document document = activeDocument(documentId);
+                if (document == null) {
+                    return AcquireResult.DOCUMENT_GONE;
+                }
+                if (documentBlobRepository.incrementRefCount(sha256) == 1) {
+                    document.markReady(key);
+                    return AcquireResult.REUSED;
+                }
+                return documentBlobRepository.existsBySha256(sha256) ? AcquireResult.COLLECTING : AcquireResult.ABSENT;
+            });
+
+            if (result == AcquireResult.DOCUMENT_GONE) {
+                return null;
+            }
+            if (result == AcquireResult.REUSED) {
+                dedupHitCounter.increment();
+                return key;
+            }
+            if (result == AcquireResult.COLLECTING) {
+                // GC 가 객체를 지우는 중, 행이 사라진 뒤 다시 올린다
+                Thread.sleep(COLLECTING_WAIT_MILLIS);
+                continue;
+            }
+
+            try (InputStream in = Files.newInputStream(file)) {
+                s3StorageService.store(key, in, contentType);
+            }
+            long size = Files.size(file);
+            try {
+                Boolean attached = transactionTemplate.execute(status -> {
+                    Document document = activeDocument(documentId);
+                    if (document == null) {
+                        return false;
+                    }
+                    documentBlobRepository.saveAndFlush(DocumentBlob.create(sha256, key, size));
+                    document.markReady(key);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(attached)) {
+                    dedupMissCounter.increment();
+                    return key;
+                }
+                // 올린 객체는 행이 없으니 참조되지 않는다, 같은 내용이 다시 올라오면 덮어쓴다
+                log.info("[DocumentBlobService] 업로드 중 문서가 삭제됨. documentId={}, key={}", documentId, key);
+                return null;
+            } catch (DataIntegrityViolationException e) {
+                // 같은 내용이 동시에 올라와 다른 쪽이 먼저 행을 만들었다 → 처음부터 다시 (이번엔 재사용)
+                log.debug("[DocumentBlobService] blob 동시 생성 감지, 재시도. sha256={}", sha256);
+            }
+        }
+        throw new IllegalStateException("blob 참조를 얻지 못했습니다. sha256=" + sha256);
+    }
+
+    // 문서 삭제 트랜잭션 안에서 호출 (blob 이 아닌 레거시 key 는 무시된다)
+    public void release(String storageKey) {
+        if (storageKey == null || storageKey.isBlank()) {
+            return;
+        }
+        documentBlobRepository.decrementRefCount(storageKey, Instant.now());
+    }
+
+    @Scheduled(cron = "${app.document.blob.gc-cron:0 */10 * * * *}")
+    public void collectGarbage() {
+        schedulerLockManager.runWithLock(GC_LOCK_NAME, Duration.ofMinutes(10), this::collect);
+    }
+
+    void collect() {
+        List<String> candidates = documentBlobRepository.findCollectable(
+                Instant.now().minus(gcGrace), PageRequest.of(0, gcBatchSize));
+        for (String sha256 : candidates) {
+            try {
+                collect(sha256);
+            } catch (RuntimeException e) {
+                // -1 상태로 남으므로 다음 실행에서 이어서 지운다
+                log.warn("[DocumentBlobService] blob 삭제 실패. sha256={}: {}", sha256, e.getMessage());
+            }
+        }
+    }
+
+    private void collect(String sha256) {
+        // 0 → -1 로 바꾼 뒤에는 업로드가 이 행을 재사용하지 않는다 (이미 -1 이면 이전 GC 를 이어서)
+        CollectingBlob blob = transactionTemplate.execute(status -> {
+            documentBlobRepository.markCollecting(sha256);
+            return new CollectingBlob(
+                    documentBlobRepository.findCollectingKey(sha256),
+                    documentBlobRepository.findCollectingThumbnailSizes(sha256));
+        });
+        if (blob == null || blob.key() == null) {
+            return;
+        }
+        String key = blob.key();
+        for (int size : ThumbnailGenerator.parseSizes(blob.thumbnailSizes())) {
+            s3StorageService.delete(ThumbnailGenerator.thumbnailKey(key, size));
+        }
+        s3StorageService.delete(key);
+        transactionTemplate.executeWithoutResult(status -> documentBlobRepository.deleteCollected(sha256));
+        collectedCounter.increment();
+        log.info("[DocumentBlobService] 참조 없는 blob 삭제. key={}", key);
+    }
+
+    private Document activeDocument(Long documentId) {
+        return documentRepository.findById(documentId)
+                .filter(d -> d.getDeletedAt() == null)
+                .orElse(null);
+    }
+
+    private enum AcquireResult {
+        REUSED, ABSENT, COLLECTING, DOCUMENT_GONE
+    }
+
+    private record CollectingBlob(String key, String thumbnailSizes) {
+    }
+}
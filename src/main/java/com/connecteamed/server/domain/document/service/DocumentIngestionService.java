@@ -0,0 +1,256 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.domain.document.entity.Document;
+import com.connecteamed.server.domain.document.enums.DocumentStatus;
+import com.connecteamed.server.domain.document.repository.DocumentRepository;
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 파일 문서 비동기 업로드
+ * - 요청 스레드는 파일을 로컬 임시 디렉터리에 받아 두고 PENDING 행만 저장한 뒤 바로 응답 (202)
+ * - 워커 풀에서 SHA-256 을 계산해 같은 내용이 이미 있으면 업로드 없이 재사용, 없으면 저장소로 업로드
+ * - 업로드가 실패하면 지수 백오프(+jitter)로 재시도
+ * - 업로드가 끝나면 짧은 트랜잭션으로 READY / FAILED 전환 (저장소 I/O 동안 DB 커넥션을 잡지 않는다)
+ * - 이미지면 썸네일 생성을 썸네일 풀에 맡긴다
+ * - 임시 파일 이름은 문서 publicId 라서 재기동 시 남은 PENDING 문서를 다시 올릴 수 있다
+ */
+@Slf4j
+@Service
+public class DocumentIngestionService {
+
+    private final DocumentBlobService documentBlobService;
+    private final DocumentThumbnailService documentThumbnailService;
+    private final DocumentRepository documentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService documentIngestExecutor;
+    private final Path spoolDir;
+    private final long maxBytes;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final Duration staleAfter;
+
+    private final Counter readyCounter;
+    private final Counter failedCounter;
+    private final Counter retryCounter;
+
+    public DocumentIngestionService(
+            DocumentBlobService documentBlobService,
+            DocumentThumbnailService documentThumbnailService,
+            DocumentRepository documentRepository,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("documentIngestExecutor") ExecutorService documentIngestExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.document.ingest.spool-dir:${java.io.tmpdir}/connecteamed-ingest}") String spoolDir,
+            @Value("${app.s3.upload.max-object-bytes:2147483648}") long maxBytes,
+            @Value("${app.document.ingest.max-attempts:5}") int maxAttempts,
+            @Value("${app.document.ingest.initial-backoff-ms:500}") long initialBackoffMillis,
+            @Value("${app.document.ingest.stale-after-minutes:60}") long staleAfterMinutes
+    ) {
+        this.documentBlobService = documentBlobService;
+        this.documentThumbnailService = documentThumbnailService;
+        this.documentRepository = documentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.documentIngestExecutor = documentIngestExecutor;
+        this.spoolDir = Paths.get(spoolDir).toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(1, initialBackoffMillis);
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+
+        this.readyCounter = Counter.builder("document.ingest")
+                .tag("result", "ready")
+                .description("저장소 업로드가 끝나 READY 가 된 문서 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("document.ingest")
+                .tag("result", "failed")
+                .description("재시도 후에도 업로드에 실패한 문서 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("document.ingest.retry")
+                .description("저장소 업로드 재시도 횟수")
+                .register(meterRegistry);
+    }
+
+    // 요청 본문을 임시 파일로 받는다 (크기 제한을 넘으면 지우고 400)
+    public void spool(InputStream in, UUID publicId) throws IOException {
+        Path target = prepare(publicId);
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "파일 크기 제한을 초과했습니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            discard(publicId);
+            throw e;
+        }
+    }
+
+    // multipart 는 컨테이너가 이미 디스크에 받아 두었으므로 옮기기만 한다
+    public void spool(MultipartFile file, UUID publicId) throws IOException {
+        if (file.getSize() > maxBytes) {
+            throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "파일 크기 제한을 초과했습니다.");
+        }
+        Path target = prepare(publicId);
+        try {
+            file.transferTo(target);
+        } catch (IOException | RuntimeException e) {
+            discard(publicId);
+            throw e;
+        }
+    }
+
+    public void discard(UUID publicId) {
+        try {
+            Files.deleteIfExists(spoolPath(publicId));
+        } catch (IOException e) {
+            log.warn("[DocumentIngestionService] 임시 파일 삭제 실패. publicId={}", publicId, e);
+        }
+    }
+
+    /**
+     * PENDING 행이 커밋된 뒤에 호출해야 워커가 행을 찾을 수 있다
+     * 워커 큐가 가득 차면 문서를 FAILED 로 돌리고 429
+     */
+    public void submit(Long documentId, UUID publicId, String contentType) {
+        try {
+            documentIngestExecutor.execute(() -> ingest(documentId, publicId, contentType));
+        } catch (RejectedExecutionException e) {
+            log.warn("[DocumentIngestionService] 업로드 대기열이 가득 찼습니다. documentId={}", documentId);
+            markFailed(documentId);
+            discard(publicId);
+            throw new GeneralException(GeneralErrorCode.TOO_MANY_REQUESTS, "업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    void ingest(Long documentId, UUID publicId, String contentType) {
+        try {
+            Path file = spoolPath(publicId);
+            String sha256 = DocumentBlobService.sha256Hex(file);
+            String key = attachWithRetry(documentId, file, sha256, contentType);
+            if (key == null) {
+                log.debug("[DocumentIngestionService] 업로드 중 문서가 삭제됨. documentId={}", documentId);
+                return;
+            }
+            readyCounter.increment();
+            if (DocumentThumbnailService.isImage(contentType)) {
+                documentThumbnailService.schedule(key, file);
+            }
+            log.debug("[DocumentIngestionService] 업로드 완료. documentId={}, key={}", documentId, key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(documentId);
+        } catch (Exception e) {
+            log.error("[DocumentIngestionService] 업로드 실패. documentId={}", documentId, e);
+            markFailed(documentId);
+        } finally {
+            discard(publicId);
+        }
+    }
+
+    // 기동 시 남아 있는 PENDING 문서: 임시 파일이 있으면 다시 올리고, 없고 오래됐으면 FAILED
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<PendingUpload> pending = transactionTemplate.execute(status ->
+                documentRepository.findAllByStatus(DocumentStatus.PENDING).stream()
+                        .map(d -> new PendingUpload(d.getId(), d.getPublicId(), d.getTitle(),
+                                d.getUpdatedAt() != null ? d.getUpdatedAt() : d.getCreatedAt()))
+                        .toList());
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        Instant staleBefore = Instant.now().minus(staleAfter);
+        int resubmitted = 0;
+        for (PendingUpload upload : pending) {
+            if (Files.exists(spoolPath(upload.publicId()))) {
+                String contentType = MediaTypeFactory.getMediaType(upload.title())
+                        .map(MediaType::toString)
+                        .orElse(null);
+                try {
+                    submit(upload.documentId(), upload.publicId(), contentType);
+                    resubmitted++;
+                } catch (GeneralException e) {
+                    log.warn("[DocumentIngestionService] 재업로드 등록 실패. documentId={}", upload.documentId());
+                }
+            } else if (upload.since().isBefore(staleBefore)) {
+                // 다른 인스턴스가 받은 파일일 수 있으므로 충분히 오래된 것만 실패 처리
+                markFailed(upload.documentId());
+            }
+        }
+        log.info("[DocumentIngestionService] PENDING 문서 {}건 중 {}건 재업로드 등록", pending.size(), resubmitted);
+    }
+
+    private String attachWithRetry(Long documentId, Path file, String sha256, String contentType)
+            throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return documentBlobService.attach(documentId, file, sha256, contentType);
+            } catch (IOException | RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                retryCounter.increment();
+                // 여러 문서가 동시에 실패해도 재시도가 한꺼번에 몰리지 않도록 [backoff/2, backoff] 에서 무작위
+                long backoff = initialBackoffMillis << Math.min(attempt - 1, 16);
+                long sleep = ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1);
+                log.warn("[DocumentIngestionService] 업로드 재시도 {}/{} ({}ms 후). documentId={}, cause={}",
+                        attempt, maxAttempts, sleep, documentId, e.toString());
+                Thread.sleep(sleep);
+            }
+        }
+    }
+
+    private void markFailed(Long documentId) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    documentRepository.findById(documentId).ifPresent(Document::markFailed));
+        } catch (RuntimeException e) {
+            log.error("[DocumentIngestionService] FAILED 전환 실패. documentId={}", documentId, e);
+        }
+        failedCounter.increment();
+    }
+
+    private Path prepare(UUID publicId) throws IOException {
+        Files.createDirectories(spoolDir);
+        return spoolPath(publicId);
+    }
+
+    private Path spoolPath(UUID publicId) {
+        return spoolDir.resolve(publicId.toString());
+    }
+
+    private record PendingUpload(Long documentId, UUID publicId, String title, Instant since) {
+    }
+}
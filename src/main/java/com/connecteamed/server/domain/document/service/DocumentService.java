@@ -3,16 +3,24 @@ package com.connecteamed.server.domain.document.service;
 import com.connecteamed.server.domain.document.dto.*;
 import com.connecteamed.server.domain.document.enums.DocumentFileType;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 public interface DocumentService {
     DocumentListRes list(Long projectId);
     DocumentDetailRes detail(Long documentId);
-    ResponseEntity<Resource> download(Long documentId);
+    ResponseEntity<Resource> download(Long documentId, HttpHeaders requestHeaders);
+    ResponseEntity<Resource> thumbnail(Long documentId, int size, HttpHeaders requestHeaders);
 
     DocumentCreateRes createText(Long projectId, String loginId, DocumentCreateTextReq req);
     DocumentUploadRes uploadFile(Long projectId, String loginId, MultipartFile file, DocumentFileType type);
+    DocumentUploadRes uploadStream(Long projectId, String loginId, InputStream in, String filename, String contentType, DocumentFileType type);
     void updateText(Long documentId, DocumentUpdateTextReq req);
+    DocumentPatchTextRes patchText(Long documentId, DocumentPatchTextReq req);
+    DocumentVersionListRes listVersions(Long documentId);
+    DocumentVersionRes getVersion(Long documentId, int version);
     void delete(Long documentId);
 }
@@ -1,38 +1,58 @@
 package com.connecteamed.server.domain.document.service;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.connecteamed.server.domain.document.dto.DocumentCreateRes;
 import com.connecteamed.server.domain.document.dto.DocumentCreateTextReq;
 import com.connecteamed.server.domain.document.dto.DocumentDetailRes;
 import com.connecteamed.server.domain.document.dto.DocumentListRes;
+import com.connecteamed.server.domain.document.dto.DocumentPatchTextReq;
+import com.connecteamed.server.domain.document.dto.DocumentPatchTextRes;
 import com.connecteamed.server.domain.document.dto.DocumentUpdateTextReq;
 import com.connecteamed.server.domain.document.dto.DocumentUploadRes;
+import com.connecteamed.server.domain.document.dto.DocumentVersionListRes;
+import com.connecteamed.server.domain.document.dto.DocumentVersionRes;
 import com.connecteamed.server.domain.document.entity.Document;
 import com.connecteamed.server.domain.document.enums.DocumentFileType;
+import com.connecteamed.server.domain.document.enums.DocumentStatus;
 import com.connecteamed.server.domain.document.repository.DocumentRepository;
-import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.project.entity.Project;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import com.connecteamed.server.domain.search.service.SearchIndexer;
 import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.image.ThumbnailGenerator;
+import com.connecteamed.server.global.util.TextDelta;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,7 +66,13 @@ public class DocumentServiceImpl implements DocumentService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final S3StorageService s3StorageService;
-    private final MemberRepository memberRepository;
+    private final CurrentMemberProvider currentMemberProvider;
+    private final DocumentIngestionService documentIngestionService;
+    private final DocumentBlobService documentBlobService;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchIndexer searchIndexer;
+    private final DocumentVersionService documentVersionService;
+    private final DocumentThumbnailService documentThumbnailService;
 
     //문서 목록 조회
     @Override
@@ -57,6 +83,12 @@ public class DocumentServiceImpl implements DocumentService {
         DateTimeFormatter df = DateTimeFormatter.ofPattern("yyyy.MM.dd")
                 .withZone(ZoneId.of("Asia/Seoul"));
 
+        // 이미지 문서의 썸네일 크기는 blob 에서 한 번에
+        Map<String, List<Integer>> thumbnailSizes = documentThumbnailService.sizesByKey(docs.stream()
+                .filter(d -> d.getFileType() == DocumentFileType.IMAGE && isDownloadable(d) && d.getFileUrl() != null)
+                .map(Document::getFileUrl)
+                .collect(Collectors.toSet()));
+
         return new DocumentListRes(
                 docs.stream()
                         .map(d -> new DocumentListRes.Item(
@@ -65,10 +97,12 @@ public class DocumentServiceImpl implements DocumentService {
                                 d.getFileType().name(),
                                 d.getProjectMember().getMember().getName(),
                                 df.format(d.getCreatedAt()),
-                                (d.getFileType() != DocumentFileType.TEXT)
+                                isDownloadable(d)
                                         ? "/api/documents/" + d.getId() + "/download"
                                         : null,
-                                d.getFileType() == DocumentFileType.TEXT
+                                d.getFileType() == DocumentFileType.TEXT,
+                                DocumentStatus.of(d.getStatus()).name(),
+                                thumbnailUrls(d, thumbnailSizes)
                         ))
                         .toList()
         );
@@ -86,48 +120,167 @@ public class DocumentServiceImpl implements DocumentService {
                 d.getTitle(),
                 d.getFileType().name(),
                 (d.getFileType() == DocumentFileType.TEXT) ? d.getContent() : null,
-                (d.getFileType() != DocumentFileType.TEXT) ? "/api/documents/" + d.getId() + "/download" : null,
+                isDownloadable(d) ? "/api/documents/" + d.getId() + "/download" : null,
                 d.getCreatedAt().toString(),
-                d.getUpdatedAt().toString()
+                d.getUpdatedAt().toString(),
+                DocumentStatus.of(d.getStatus()).name(),
+                (d.getFileType() == DocumentFileType.TEXT) ? d.currentTextVersion() : null
         );
     }
 
     //문서 다운로드
     @Override
     @Transactional(readOnly = true)
-    public ResponseEntity<Resource> download(Long documentId) {
+    public ResponseEntity<Resource> download(Long documentId, HttpHeaders requestHeaders) {
         Document d = documentRepository.findByIdAndDeletedAtIsNull(documentId)
                 .orElseThrow(() -> new GeneralException(GeneralErrorCode.NOT_FOUND, "문서를 찾을 수 없습니다."));
 
         if (d.getFileType() == DocumentFileType.TEXT) {
             throw new GeneralException(GeneralErrorCode.FORBIDDEN, "TEXT 문서는 다운로드 대상이 아닙니다.");
         }
+        if (DocumentStatus.of(d.getStatus()) == DocumentStatus.PENDING) {
+            throw new GeneralException(GeneralErrorCode.CONFLICT, "파일 업로드가 아직 끝나지 않았습니다.");
+        }
+        if (DocumentStatus.of(d.getStatus()) == DocumentStatus.FAILED) {
+            throw new GeneralException(GeneralErrorCode.NOT_FOUND, "업로드에 실패한 문서입니다.");
+        }
         if (d.getFileUrl() == null || d.getFileUrl().isBlank()) {
             throw new GeneralException(GeneralErrorCode.NOT_FOUND, "파일 key가 없습니다.");
         }
 
         String key = d.getFileUrl();
 
+        // 다운로드 파일명: DB title 우선, 없으면 key에서 파일명 뽑기
+        String filename = (d.getTitle() != null && !d.getTitle().isBlank())
+                ? d.getTitle()
+                : key.substring(key.lastIndexOf('/') + 1);
+
+        String encoded = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+        String contentDisposition = "attachment; filename=\"" + encoded + "\"; filename*=UTF-8''" + encoded;
+
+        // pre-signed 모드면 파일 바이트가 서버를 거치지 않도록 저장소로 바로 보낸다
+        Optional<URI> presigned = s3StorageService.presignedDownloadUri(key, contentDisposition);
+        if (presigned.isPresent()) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(presigned.get())
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        String ifNoneMatch = requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH);
+
+        // If-Range 가 날짜 형식이면 비교할 수 없으므로 전체를 보낸다
+        if (range != null && ifRange != null && !isEntityTag(ifRange)) {
+            range = null;
+        }
+
+        StoredObject object;
         try {
-            InputStream in = s3StorageService.download(key);
-            Resource resource = new InputStreamResource(in);
+            object = s3StorageService.download(key, range, ifNoneMatch);
+            // If-Range 의 ETag 가 바뀌었으면 부분 응답 대신 새 전체 본문
+            if (object.isPartial() && ifRange != null && !ifRange.equals(object.eTag())) {
+                object.close();
+                object = s3StorageService.download(key, null, ifNoneMatch);
+            }
+        } catch (GeneralException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(GeneralErrorCode.NOT_FOUND, "파일 다운로드에 실패했습니다.");
+        }
+
+        // 인증이 필요한 문서이므로 공유 캐시는 막고, 브라우저는 ETag 로 재검증
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (object.notModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(object.eTag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
 
-            // 다운로드 파일명: DB title 우선, 없으면 key에서 파일명 뽑기
-            String filename = (d.getTitle() != null && !d.getTitle().isBlank())
-                    ? d.getTitle()
-                    : key.substring(key.lastIndexOf('/') + 1);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(object.isPartial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .cacheControl(cacheControl);
+        if (object.contentLength() != null) {
+            builder.contentLength(object.contentLength());
+        }
+        if (object.eTag() != null) {
+            builder.eTag(object.eTag());
+        }
+        if (object.lastModified() != null) {
+            builder.lastModified(object.lastModified());
+        }
+        if (object.isPartial()) {
+            builder.header(HttpHeaders.CONTENT_RANGE, object.contentRange());
+        }
 
-            String encoded = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+        // 로컬 디스크 저장소는 파일 구간을 그대로 넘겨 컨트롤러에서 sendfile 로 보낼 수 있게 한다
+        if (object.fileRegion() != null) {
+            return builder.body(object.fileRegion());
+        }
+        // InputStreamResource 는 Spring 의 Range 재처리 대상이 아니므로 저장소가 잘라 준 본문이 그대로 나간다
+        return builder.body(new InputStreamResource(object.body()));
+    }
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "attachment; filename=\"" + encoded + "\"; filename*=UTF-8''" + encoded)
-                    .body(resource);
+    //문서 썸네일(이미지)
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<Resource> thumbnail(Long documentId, int size, HttpHeaders requestHeaders) {
+        Document d = documentRepository.findByIdAndDeletedAtIsNull(documentId)
+                .orElseThrow(() -> new GeneralException(GeneralErrorCode.NOT_FOUND, "문서를 찾을 수 없습니다."));
+
+        if (d.getFileType() != DocumentFileType.IMAGE || !isDownloadable(d) || d.getFileUrl() == null
+                || !documentThumbnailService.sizesByKey(Set.of(d.getFileUrl()))
+                        .getOrDefault(d.getFileUrl(), List.of()).contains(size)) {
+            throw new GeneralException(GeneralErrorCode.NOT_FOUND, "썸네일이 없습니다.");
+        }
 
+        String key = ThumbnailGenerator.thumbnailKey(d.getFileUrl(), size);
+
+        Optional<URI> presigned = s3StorageService.presignedDownloadUri(key, "inline");
+        if (presigned.isPresent()) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(presigned.get())
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        StoredObject object;
+        try {
+            object = s3StorageService.download(key, null, requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH));
+        } catch (GeneralException e) {
+            throw e;
         } catch (Exception e) {
-            throw new GeneralException(GeneralErrorCode.NOT_FOUND, "파일 다운로드에 실패했습니다.");
+            throw new GeneralException(GeneralErrorCode.NOT_FOUND, "썸네일 다운로드에 실패했습니다.");
         }
+
+        // 썸네일은 blob(내용 해시)마다 고정이므로 브라우저가 오래 캐시해도 된다
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+        if (object.notModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(object.eTag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .cacheControl(cacheControl);
+        if (object.contentLength() != null) {
+            builder.contentLength(object.contentLength());
+        }
+        if (object.eTag() != null) {
+            builder.eTag(object.eTag());
+        }
+        if (object.fileRegion() != null) {
+            return builder.body(object.fileRegion());
+        }
+        return builder.body(new InputStreamResource(object.body()));
     }
 
     //문서 추가(텍스트)
@@ -140,32 +293,59 @@ public class DocumentServiceImpl implements DocumentService {
 
         Document d = Document.createText(projectRef, projectMember, req.title(), req.content());
         documentRepository.save(d);
+        // 새 문서는 text_version 1 로 저장되므로 올릴 버전 없이 버전 1 이력만 남긴다
+        documentVersionService.record(d, 0, null, null);
+        searchIndexer.index(SearchTargetType.DOCUMENT, d.getId(), projectId, d.getTitle(), d.getContent());
 
         return new DocumentCreateRes(d.getId(), d.getCreatedAt().toString());
     }
 
     //문서 추가(파일)
+    // 트랜잭션 없이 임시 파일로 받은 뒤 PENDING 행만 짧게 저장하고, 저장소 업로드는 워커에서
     @Override
-    @Transactional
     public DocumentUploadRes uploadFile(Long projectId, String loginId, MultipartFile file, DocumentFileType type) {
         if (type == DocumentFileType.TEXT) {
             throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "TEXT는 파일 업로드 타입이 아닙니다.");
         }
 
-        Project projectRef = projectRepository.getReferenceById(projectId);
-
+        // 본문을 디스크에 받기 전에 멤버 여부부터 확인 (비멤버가 임시 디렉터리를 채우지 못하게)
         ProjectMember projectMember = getProjectMember(projectId, loginId);
 
-        String fileUrl = s3StorageService.upload(file, "project-" + projectId);
-
         String title = (file.getOriginalFilename() == null || file.getOriginalFilename().isBlank())
                 ? "file"
                 : file.getOriginalFilename();
 
-        Document d = Document.createFile(projectRef, projectMember, title, type, fileUrl);
-        documentRepository.save(d);
+        UUID publicId = UUID.randomUUID();
+        try {
+            documentIngestionService.spool(file, publicId);
+        } catch (IOException e) {
+            throw new GeneralException(GeneralErrorCode.INTERNAL_SERVER_ERROR, "파일을 임시 저장하지 못했습니다.");
+        }
 
-        return new DocumentUploadRes(d.getId(), title, d.getCreatedAt().toString());
+        return accept(projectId, projectMember.getId(), publicId, title, file.getContentType(), type);
+    }
+
+    //문서 추가(파일, 스트리밍)
+    @Override
+    public DocumentUploadRes uploadStream(Long projectId, String loginId, InputStream in, String filename,
+                                          String contentType, DocumentFileType type) {
+        if (type == DocumentFileType.TEXT) {
+            throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "TEXT는 파일 업로드 타입이 아닙니다.");
+        }
+
+        // 본문을 디스크에 받기 전에 멤버 여부부터 확인 (비멤버가 임시 디렉터리를 채우지 못하게)
+        ProjectMember projectMember = getProjectMember(projectId, loginId);
+
+        String title = (filename == null || filename.isBlank()) ? "file" : filename;
+
+        UUID publicId = UUID.randomUUID();
+        try {
+            documentIngestionService.spool(in, publicId);
+        } catch (IOException e) {
+            throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "파일을 끝까지 받지 못했습니다.");
+        }
+
+        return accept(projectId, projectMember.getId(), publicId, title, contentType, type);
     }
 
     //문서 수정(텍스트)
@@ -179,7 +359,61 @@ public class DocumentServiceImpl implements DocumentService {
             throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "텍스트 문서만 수정할 수 있습니다.");
         }
 
+        int baseVersion = d.currentTextVersion();
+        String previousContent = d.getContent();
+
+        // 버전을 먼저 올려 행을 잠근 뒤에 본문을 바꾼다
+        documentVersionService.advance(d, baseVersion, previousContent);
         d.updateText(req.title(), req.content());
+        documentVersionService.record(d, baseVersion, previousContent, null);
+        searchIndexer.index(SearchTargetType.DOCUMENT, d.getId(), d.getProject().getId(), d.getTitle(), d.getContent());
+    }
+
+    //문서 수정(텍스트, 변경분만)
+    @Override
+    @Transactional
+    public DocumentPatchTextRes patchText(Long documentId, DocumentPatchTextReq req) {
+        Document d = getTextDocument(documentId);
+
+        int baseVersion = d.currentTextVersion();
+        if (req.baseVersion() != baseVersion) {
+            throw new GeneralException(GeneralErrorCode.CONFLICT, "문서가 그 사이 수정되었습니다. 최신 버전을 다시 불러와 주세요.");
+        }
+
+        String previousContent = d.getContent();
+        String content;
+        try {
+            content = TextDelta.apply(previousContent, req.delta());
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "변경분이 기준 버전의 본문과 맞지 않습니다.");
+        }
+
+        // 버전을 먼저 올려 행을 잠근 뒤에 본문을 바꾼다
+        documentVersionService.advance(d, baseVersion, previousContent);
+        d.updateText(req.title(), content);
+        int version = documentVersionService.record(d, baseVersion, previousContent, req.delta());
+        searchIndexer.index(SearchTargetType.DOCUMENT, d.getId(), d.getProject().getId(), d.getTitle(), d.getContent());
+
+        return new DocumentPatchTextRes(d.getId(), version);
+    }
+
+    //문서 버전 목록(텍스트)
+    @Override
+    @Transactional(readOnly = true)
+    public DocumentVersionListRes listVersions(Long documentId) {
+        Document d = getTextDocument(documentId);
+        return new DocumentVersionListRes(d.getId(), d.currentTextVersion(), documentVersionService.list(documentId));
+    }
+
+    //문서 버전 조회(텍스트)
+    @Override
+    @Transactional(readOnly = true)
+    public DocumentVersionRes getVersion(Long documentId, int version) {
+        Document d = getTextDocument(documentId);
+        if (version < 1 || version > d.currentTextVersion()) {
+            throw new GeneralException(GeneralErrorCode.NOT_FOUND, "해당 버전을 찾을 수 없습니다.");
+        }
+        return documentVersionService.restore(documentId, version);
     }
 
     //문서 삭제
@@ -189,19 +423,73 @@ public class DocumentServiceImpl implements DocumentService {
         Document d = documentRepository.findByIdAndDeletedAtIsNull(documentId)
                 .orElseThrow(() -> new GeneralException(GeneralErrorCode.NOT_FOUND, "문서를 찾을 수 없습니다."));
 
-        // 파일 문서면 필요 시 S3 삭제 정책 추가 가능
-        // if (d.getFileType() != DocumentFileType.TEXT) { ... }
+        // 파일 문서는 blob 참조만 내리고, 실제 객체는 참조가 모두 사라진 뒤 GC 가 지운다
+        if (d.getFileType() != DocumentFileType.TEXT) {
+            documentBlobService.release(d.getFileUrl());
+        } else {
+            searchIndexer.remove(SearchTargetType.DOCUMENT, documentId);
+        }
 
         d.softDelete();
     }
 
+    private Document getTextDocument(Long documentId) {
+        Document d = documentRepository.findByIdAndDeletedAtIsNull(documentId)
+                .orElseThrow(() -> new GeneralException(GeneralErrorCode.NOT_FOUND, "문서를 찾을 수 없습니다."));
+        if (d.getFileType() != DocumentFileType.TEXT) {
+            throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "텍스트 문서만 대상입니다.");
+        }
+        return d;
+    }
+
+    // 멤버 확인은 업로드 받기 전에 끝났으므로 여기서는 참조만 잡아 PENDING 행을 저장
+    private DocumentUploadRes accept(Long projectId, Long projectMemberId, UUID publicId, String title,
+                                     String contentType, DocumentFileType type) {
+        Document d;
+        try {
+            d = transactionTemplate.execute(status -> {
+                Project projectRef = projectRepository.getReferenceById(projectId);
+                ProjectMember projectMemberRef = projectMemberRepository.getReferenceById(projectMemberId);
+                return documentRepository.save(Document.createPendingFile(projectRef, projectMemberRef, title, type, publicId));
+            });
+        } catch (RuntimeException e) {
+            documentIngestionService.discard(publicId);
+            throw e;
+        }
+
+        // 커밋된 뒤에 넘겨야 워커가 PENDING 행을 찾을 수 있다
+        documentIngestionService.submit(d.getId(), publicId, contentType);
+
+        return new DocumentUploadRes(d.getId(), title, d.getCreatedAt().toString(), DocumentStatus.PENDING.name());
+    }
+
+    private static boolean isDownloadable(Document d) {
+        return d.getFileType() != DocumentFileType.TEXT && DocumentStatus.of(d.getStatus()) == DocumentStatus.READY;
+    }
+
+    private static Map<Integer, String> thumbnailUrls(Document d, Map<String, List<Integer>> thumbnailSizes) {
+        List<Integer> sizes = (d.getFileType() == DocumentFileType.IMAGE && d.getFileUrl() != null)
+                ? thumbnailSizes.get(d.getFileUrl())
+                : null;
+        if (sizes == null || sizes.isEmpty()) {
+            return null;
+        }
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (Integer size : sizes) {
+            urls.put(size, "/api/documents/" + d.getId() + "/thumbnails/" + size);
+        }
+        return urls;
+    }
+
+    private static boolean isEntityTag(String value) {
+        return value.startsWith("\"") || value.startsWith("W/");
+    }
+
     private ProjectMember getProjectMember(Long projectId, String loginId) {
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(GeneralErrorCode.UNAUTHORIZED));
-        log.info("[DocumentService] Member found: id={}, name={}", member.getId(), member.getName());
+        Long memberId = currentMemberProvider.getMemberId(loginId);
 
         return projectMemberRepository
-                .findByProject_IdAndMember_Id(projectId, member.getId())
+                .findByProject_IdAndMember_Id(projectId, memberId)
                 .orElseThrow(() -> new GeneralException(GeneralErrorCode.FORBIDDEN, "해당 프로젝트의 멤버가 아닙니다."));
     }
 }
@@ -0,0 +1,82 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.domain.document.entity.DocumentBlob;
+import com.connecteamed.server.domain.document.repository.DocumentBlobRepository;
+import com.connecteamed.server.global.image.ThumbnailGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 문서 썸네일
+ * - blob 이 준비된 뒤 썸네일 풀에서 만들어 blob 옆({key}.thumb-{size}.jpg)에 저장하고 document_blob 에 크기를 기록
+ * - 같은 내용의 이미지는 blob 을 공유하므로 썸네일도 한 번만 만든다
+ * - 썸네일 객체는 blob GC 가 원본과 함께 지운다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentThumbnailService {
+
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final S3StorageService s3StorageService;
+    private final DocumentBlobRepository documentBlobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public static boolean isImage(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith("image/");
+    }
+
+    // 인제스트 워커에서 호출, file 은 호출자가 곧 지우므로 작업 파일로 복사해 넘긴다
+    public void schedule(String storageKey, Path file) {
+        if (documentBlobRepository.existsByStorageKeyAndThumbnailSizesIsNotNull(storageKey)) {
+            return;
+        }
+        Path work;
+        try {
+            work = thumbnailGenerator.newWorkFile();
+            Files.copy(file, work, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("[DocumentThumbnailService] 썸네일 작업 파일 준비 실패. key={}", storageKey, e);
+            return;
+        }
+        thumbnailGenerator.submit(work, thumbnails -> store(storageKey, thumbnails));
+    }
+
+    void store(String storageKey, Map<Integer, byte[]> thumbnails) throws IOException {
+        for (Map.Entry<Integer, byte[]> thumbnail : thumbnails.entrySet()) {
+            s3StorageService.store(ThumbnailGenerator.thumbnailKey(storageKey, thumbnail.getKey()),
+                    new ByteArrayInputStream(thumbnail.getValue()), ThumbnailGenerator.CONTENT_TYPE);
+        }
+
+        String sizes = ThumbnailGenerator.joinSizes(thumbnails.keySet());
+        Integer marked = transactionTemplate.execute(status -> documentBlobRepository.markThumbnails(storageKey, sizes));
+        if (marked == null || marked == 0) {
+            // 그 사이 GC 가 blob 을 가져갔다, 기록이 없으면 아무도 지우지 않으므로 여기서 정리
+            for (Integer size : thumbnails.keySet()) {
+                s3StorageService.delete(ThumbnailGenerator.thumbnailKey(storageKey, size));
+            }
+        }
+    }
+
+    // storageKey → 만들어진 썸네일 크기
+    public Map<String, List<Integer>> sizesByKey(Collection<String> storageKeys) {
+        if (storageKeys.isEmpty()) {
+            return Map.of();
+        }
+        return documentBlobRepository.findAllByStorageKeyInAndThumbnailSizesIsNotNull(storageKeys).stream()
+                .collect(Collectors.toMap(DocumentBlob::getStorageKey,
+                        blob -> ThumbnailGenerator.parseSizes(blob.getThumbnailSizes())));
+    }
+}
@@ -0,0 +1,112 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.domain.document.dto.DocumentVersionListRes;
+import com.connecteamed.server.domain.document.dto.DocumentVersionRes;
+import com.connecteamed.server.domain.document.entity.Document;
+import com.connecteamed.server.domain.document.entity.DocumentVersion;
+import com.connecteamed.server.domain.document.repository.DocumentRepository;
+import com.connecteamed.server.domain.document.repository.DocumentVersionRepository;
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import com.connecteamed.server.global.util.TextDelta;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * TEXT 문서 버전 이력
+ * - 저장할 때마다 직전 버전 대비 delta 만 남기고, snapshot-interval 마다(또는 delta 가 본문보다 커지면) 전체 본문을 snapshot 으로 남긴다
+ * - 과거 버전은 가장 가까운 snapshot 에서 최대 snapshot-interval - 1 개의 delta 를 적용해 복원
+ * - 현재 본문은 document.content 에 그대로 있으므로 일반 조회는 이력을 읽지 않는다
+ */
+@Service
+public class DocumentVersionService {
+
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+    private final int snapshotInterval;
+
+    public DocumentVersionService(
+            DocumentRepository documentRepository,
+            DocumentVersionRepository documentVersionRepository,
+            @Value("${app.document.version.snapshot-interval:20}") int snapshotInterval
+    ) {
+        this.documentRepository = documentRepository;
+        this.documentVersionRepository = documentVersionRepository;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    /**
+     * 본문을 바꾸기 전에 호출해 문서 행을 잠그고 버전을 올린 뒤 새 번호를 반환
+     * - baseVersion 이후 다른 저장이 먼저 커밋됐으면 409
+     * - 엔티티를 먼저 바꾸면 조건부 update 직전의 auto flush 가 옛 버전 번호로 본문을 써 버려 조건이 무력해진다
+     */
+    public int advance(Document document, int baseVersion, String previousContent) {
+        int next = nextVersion(baseVersion, previousContent);
+
+        // 동시에 같은 base 로 저장한 쪽은 앞선 트랜잭션이 끝날 때까지 기다린 뒤 0 건
+        if (documentRepository.advanceTextVersion(document.getId(), baseVersion, next) == 0) {
+            throw new GeneralException(GeneralErrorCode.CONFLICT, "문서가 그 사이 수정되었습니다. 최신 버전을 다시 불러와 주세요.");
+        }
+        document.markTextVersion(next);
+        return next;
+    }
+
+    /**
+     * advance 후 본문을 바꾼 다음 같은 트랜잭션에서 호출해 새 버전 이력을 남기고 그 번호를 반환
+     * - delta 가 null 이면 previousContent → 현재 본문으로 계산
+     */
+    public int record(Document document, int baseVersion, String previousContent, String delta) {
+        // 이력 도입 전 문서는 기존 본문을 먼저 버전 1 로 남긴다 (제목은 현재 제목)
+        boolean baseline = baseVersion == 0 && previousContent != null;
+        int next = nextVersion(baseVersion, previousContent);
+
+        if (baseline) {
+            documentVersionRepository.save(
+                    DocumentVersion.snapshot(document.getId(), 1, document.getTitle(), previousContent));
+        }
+
+        String content = document.getContent() == null ? "" : document.getContent();
+        String change = (delta != null) ? delta : TextDelta.diff(previousContent, content);
+        boolean snapshot = (next - 1) % snapshotInterval == 0 || change.length() >= content.length();
+
+        documentVersionRepository.save(snapshot
+                ? DocumentVersion.snapshot(document.getId(), next, document.getTitle(), content)
+                : DocumentVersion.delta(document.getId(), next, document.getTitle(), change, content.length()));
+        return next;
+    }
+
+    private static int nextVersion(int baseVersion, String previousContent) {
+        return baseVersion == 0 && previousContent != null ? 2 : baseVersion + 1;
+    }
+
+    public List<DocumentVersionListRes.Item> list(Long documentId) {
+        return documentVersionRepository.findItemsByDocumentId(documentId);
+    }
+
+    public DocumentVersionRes restore(Long documentId, int version) {
+        DocumentVersion base = documentVersionRepository
+                .findTopByDocumentIdAndSnapshotTrueAndVersionLessThanEqualOrderByVersionDesc(documentId, version)
+                .orElseThrow(() -> new GeneralException(GeneralErrorCode.NOT_FOUND, "해당 버전을 찾을 수 없습니다."));
+
+        DocumentVersion last = base;
+        String content = base.getPayload();
+        if (base.getVersion() < version) {
+            for (DocumentVersion v : documentVersionRepository
+                    .findAllByDocumentIdAndVersionBetweenOrderByVersionAsc(documentId, base.getVersion() + 1, version)) {
+                if (v.getVersion() != last.getVersion() + 1) {
+                    throw new IllegalStateException("문서 버전 이력이 끊겨 있습니다. documentId=" + documentId
+                            + ", version=" + (last.getVersion() + 1));
+                }
+                content = TextDelta.apply(content, v.getPayload());
+                last = v;
+            }
+        }
+        if (last.getVersion() != version) {
+            throw new GeneralException(GeneralErrorCode.NOT_FOUND, "해당 버전을 찾을 수 없습니다.");
+        }
+
+        return new DocumentVersionRes(documentId, version, last.getTitle(), content, last.getCreatedAt().toString());
+    }
+}
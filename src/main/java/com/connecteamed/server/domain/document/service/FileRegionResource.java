@@ -0,0 +1,108 @@
+package com.connecteamed.server.domain.document.service;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 파일의 [position, position + length) 구간
+ * - 서블릿 컨테이너가 sendfile 을 지원하면 컨트롤러가 경로/구간만 넘겨 커널이 직접 전송한다
+ * - 그렇지 않으면 InputStream.transferTo 에서 FileChannel.transferTo 로 복사
+ */
+public class FileRegionResource extends AbstractResource {
+
+    private final Path path;
+    private final long position;
+    private final long length;
+
+    public FileRegionResource(Path path, long position, long length) {
+        this.path = path;
+        this.position = position;
+        this.length = length;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public String getDescription() {
+        return "file region [" + path + ", " + position + "+" + length + "]";
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new RegionInputStream(FileChannel.open(path, StandardOpenOption.READ), position, length);
+    }
+
+    private static final class RegionInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        private RegionInputStream(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), position);
+            if (read > 0) {
+                position += read;
+                remaining -= read;
+            }
+            return read;
+        }
+
+        // 응답 스트림으로 복사할 때 사용자 공간 버퍼를 거치지 않도록 채널 간 전송
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            WritableByteChannel target = Channels.newChannel(out);
+            long transferred = 0;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+                transferred += sent;
+            }
+            return transferred;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
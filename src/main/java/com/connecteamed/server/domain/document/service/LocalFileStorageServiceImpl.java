@@ -0,0 +1,194 @@
+package com.connecteamed.server.domain.document.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import com.connecteamed.server.global.util.TokenDigest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 로컬 디스크 저장소 (app.storage.type=local)
+ * - S3 와 같은 key 를 쓰고, 실제 파일은 sha256(key) 앞 4자리로 두 단계 샤딩한 디렉터리에 둔다
+ *   (예: root/3f/a9/3fa9...)
+ * - 다운로드는 FileRegionResource 로 넘겨 sendfile / FileChannel.transferTo 로 전송
+ * - 공개 URL 은 서버 경로 (/api/storage/{key}, LocalStorageController 가 프로젝트 이미지만 내려준다)
+ * - 오프라인에서 문서 경로 전체를 벤치마크하기 위한 용도
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalFileStorageServiceImpl implements S3StorageService {
+
+    public static final String PUBLIC_PATH = "/api/storage/";
+
+    private final Path root;
+    private final String prefix;
+
+    public LocalFileStorageServiceImpl(
+            @Value("${app.storage.local.root-dir:./data/storage}") String rootDir,
+            @Value("${app.s3.prefix:documents}") String prefix
+    ) {
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.prefix = prefix;
+    }
+
+    @Override
+    public String upload(MultipartFile file, String keyPrefix) {
+        try (InputStream in = file.getInputStream()) {
+            return upload(in, file.getOriginalFilename(), file.getContentType(), keyPrefix);
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 저장소 업로드 실패", e);
+        }
+    }
+
+    @Override
+    public String upload(InputStream in, String filename, String contentType, String keyPrefix) {
+        String original = filename == null ? "file" : filename;
+        String safeName = original.replaceAll("[\\\\/]", "_");
+        String key = "%s/%s/%s_%s".formatted(prefix, keyPrefix, UUID.randomUUID(), safeName);
+        store(key, in, contentType);
+        return key;
+    }
+
+    @Override
+    public void store(String key, InputStream in, String contentType) {
+        Path target = resolve(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            // 같은 디렉터리에 다 쓴 뒤 rename 해서 읽는 쪽이 반쯤 쓰인 파일을 보지 않게 한다
+            tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+            long size = Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Local upload done. key={}, size={}", key, size);
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            log.error("Local upload failed. root={}, key={}", root, key, e);
+            throw new RuntimeException("로컬 저장소 업로드 실패", e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public StoredObject download(String key, String range, String ifNoneMatch) {
+        Path path = resolve(key);
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new GeneralException(GeneralErrorCode.NOT_FOUND, "파일을 찾을 수 없습니다.");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long length = attrs.size();
+        Instant lastModified = attrs.lastModifiedTime().toInstant();
+        String eTag = eTag(length, lastModified);
+
+        if (ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(eTag))) {
+            return StoredObject.notModified(eTag);
+        }
+
+        List<HttpRange> ranges = parseRanges(range);
+        // 다중 구간은 S3 와 마찬가지로 지원하지 않고 전체를 보낸다
+        if (ranges.size() != 1) {
+            return StoredObject.ofFile(new FileRegionResource(path, 0, length), eTag, lastModified, null);
+        }
+        HttpRange httpRange = ranges.get(0);
+        long start;
+        long end;
+        try {
+            start = httpRange.getRangeStart(length);
+            end = httpRange.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(GeneralErrorCode.RANGE_NOT_SATISFIABLE);
+        }
+        if (start >= length || start > end) {
+            throw new GeneralException(GeneralErrorCode.RANGE_NOT_SATISFIABLE);
+        }
+        String contentRange = "bytes %d-%d/%d".formatted(start, end, length);
+        return StoredObject.ofFile(new FileRegionResource(path, start, end - start + 1), eTag, lastModified, contentRange);
+    }
+
+    @Override
+    public Optional<URI> presignedDownloadUri(String key, String contentDisposition) {
+        // 로컬 저장소는 항상 서버가 직접 전송
+        return Optional.empty();
+    }
+
+    @Override
+    public String guessDownloadFileName(String key) {
+        return Paths.get(key).getFileName().toString();
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        // 썸네일 URL 은 이 값 뒤에 접미사를 붙여 만들므로 key 의 '/' 는 그대로 둔다
+        return PUBLIC_PATH + UriUtils.encodePath(key, StandardCharsets.UTF_8);
+    }
+
+    // key 를 그대로 경로로 쓰지 않으므로 "../" 같은 값이 들어와도 root 밖으로 나가지 않는다
+    Path resolve(String key) {
+        String hash = TokenDigest.sha256Hex(key);
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static List<HttpRange> parseRanges(String range) {
+        if (range == null || range.isBlank()) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 Range 는 무시하고 전체 (RFC 9110)
+            return List.of();
+        }
+    }
+
+    // 크기 + 수정 시각 기반 (nginx 와 같은 방식), 파일을 다시 읽지 않고 계산
+    private static String eTag(long length, Instant lastModified) {
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified.toEpochMilli()) + "\"";
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}", path, e);
+        }
+    }
+}
@@ -2,9 +2,28 @@ package com.connecteamed.server.domain.document.service;
 
 import org.springframework.web.multipart.MultipartFile;
 import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
 
 public interface S3StorageService {
     String upload(MultipartFile file, String keyPrefix);
-    InputStream download(String key);
+
+    // 요청 본문을 그대로 흘려보내는 업로드 (파일 전체를 디스크/힙에 모으지 않음)
+    String upload(InputStream in, String filename, String contentType, String keyPrefix);
+
+    // 호출하는 쪽이 정한 key 로 저장 (같은 key 면 덮어쓴다)
+    void store(String key, InputStream in, String contentType);
+
+    void delete(String key);
+
+    // range / ifNoneMatch 는 요청 헤더 값 그대로 (없으면 null), 일치하면 notModified
+    StoredObject download(String key, String range, String ifNoneMatch);
+
+    // pre-signed 다운로드 모드일 때 짧게 유효한 GET URL, 꺼져 있거나 발급에 실패하면 empty (프록시 다운로드로 대체)
+    Optional<URI> presignedDownloadUri(String key, String contentDisposition);
+
     String guessDownloadFileName(String key);
+
+    // 누구나 읽을 수 있는 객체 URL (프로젝트 대표 이미지 등), 공개 URL 이 없는 저장소면 null
+    String publicUrl(String key);
 }
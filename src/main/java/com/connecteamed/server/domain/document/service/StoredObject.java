@@ -0,0 +1,44 @@
+package com.connecteamed.server.domain.document.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * 저장소에서 읽은 객체와 메타데이터
+ * - contentRange 가 있으면 Range 요청에 대한 부분 응답
+ * - notModified 면 body 없이 ETag 만 채워진다 (If-None-Match 일치)
+ * - 로컬 디스크 저장소는 body 대신 fileRegion 을 채워 zero-copy 전송이 가능하게 한다
+ */
+public record StoredObject(
+        InputStream body,
+        Long contentLength,
+        String eTag,
+        Instant lastModified,
+        String contentRange,
+        boolean notModified,
+        FileRegionResource fileRegion
+) {
+
+    public static StoredObject of(InputStream body, Long contentLength, String eTag, Instant lastModified, String contentRange) {
+        return new StoredObject(body, contentLength, eTag, lastModified, contentRange, false, null);
+    }
+
+    public static StoredObject ofFile(FileRegionResource fileRegion, String eTag, Instant lastModified, String contentRange) {
+        return new StoredObject(null, fileRegion.contentLength(), eTag, lastModified, contentRange, false, fileRegion);
+    }
+
+    public static StoredObject notModified(String eTag) {
+        return new StoredObject(null, null, eTag, null, null, true, null);
+    }
+
+    public boolean isPartial() {
+        return contentRange != null;
+    }
+
+    public void close() throws IOException {
+        if (body != null) {
+            body.close();
+        }
+    }
+}
@@ -13,7 +13,9 @@ import java.time.Instant;
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @Getter
-@Table(name= "invite_code")
+@Table(name= "invite_code", indexes = {
+        @Index(name = "idx_invite_code_expired_at", columnList = "expired_at")
+})
 public class InviteCode extends BaseEntity {
 
     @Id
@@ -2,7 +2,11 @@ package com.connecteamed.server.domain.invite.repository;
 
 import com.connecteamed.server.domain.invite.entity.InviteCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Optional;
@@ -17,4 +21,11 @@ public interface InviteCodeRepository extends JpaRepository<InviteCode, Long> {
     Optional<InviteCode> findByCodeAndExpiredAtAfter(String code, Instant now);
 
     boolean existsByCode(String code);
+
+    // 만료 행을 limit 건씩 삭제 (배치 정리 작업용, 배치마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM invite_code WHERE id IN (" +
+            "SELECT id FROM invite_code WHERE expired_at < :now ORDER BY expired_at LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("limit") int limit);
 }
@@ -4,7 +4,6 @@ import com.connecteamed.server.domain.invite.code.InviteErrorCode;
 import com.connecteamed.server.domain.invite.dto.InviteCodeRes;
 import com.connecteamed.server.domain.invite.entity.InviteCode;
 import com.connecteamed.server.domain.invite.repository.InviteCodeRepository;
-import com.connecteamed.server.domain.member.code.MemberErrorCode;
 import com.connecteamed.server.domain.member.entity.Member;
 import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.project.code.ProjectErrorCode;
@@ -13,6 +12,8 @@ import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.cache.ProjectCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -33,20 +34,21 @@ public class InviteService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final MemberRepository memberRepository;
+    private final CurrentMemberProvider currentMemberProvider;
+    private final ProjectCacheInvalidator projectCacheInvalidator;
 
 
     //초대 코드 요청자에게 제공 로직
     @Transactional
     public InviteCodeRes getOrGenerateInviteCode(Long projectId, String loginId) {
 
-        // 해당 member 존재하는지 조회
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
+        // 요청 단위로 확인된 회원 ID 사용 (토큰 principal 이면 조회 없음)
+        Long memberId = currentMemberProvider.getMemberId(loginId);
 
         projectRepository.findById(projectId).orElseThrow(() -> new GeneralException(ProjectErrorCode.PROJECT_NOT_FOUND));
 
         //요청자가 해당 프로젝트의 멤버인지 확인
-        validateProjectMember(projectId, member.getId());
+        validateProjectMember(projectId, memberId);
 
         //유효한 기존 코드 조회
         Optional<InviteCode> validCodeOpt = inviteCodeRepository
@@ -83,22 +85,27 @@ public class InviteService {
 
 
 
-        // 해당 member 존재하는지 조회
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
+        // 요청 단위로 확인된 회원 ID 사용 (토큰 principal 이면 조회 없음)
+        Long memberId = currentMemberProvider.getMemberId(loginId);
 
         // 이미 프로젝트(팀) 멤버로 들어가 있는 경우
-        if (projectMemberRepository.existsByProjectIdAndMemberId(project.getId(), member.getId())) {
+        if (projectMemberRepository.existsByProjectIdAndMemberId(project.getId(), memberId)) {
             throw new GeneralException(InviteErrorCode.INVITE_ALREADY_INVITED);
         }
 
         //프로젝트 멤버로 추가
+        // FK 설정에만 쓰이므로 SELECT 없는 참조 사용
+        Member member = memberRepository.getReferenceById(memberId);
         ProjectMember projectMember = ProjectMember.builder()
                 .project(project)
                 .member(member)
                 .build();
 
         projectMemberRepository.save(projectMember);
+
+        // 팀원 목록과 참여자의 팀 목록이 바뀜 (커밋 후 무효화)
+        projectCacheInvalidator.evictProjectMembers(project.getId());
+        projectCacheInvalidator.evictMemberTeams(memberId);
     }
 
     //새로운 초대 코드 생성
@@ -11,6 +11,8 @@ import com.connecteamed.server.domain.project.entity.Project;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import com.connecteamed.server.domain.search.service.SearchIndexer;
 import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +20,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +36,7 @@ public class MeetingService {
     private final MeetingAttendeeRepository meetingAttendeeRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final SearchIndexer searchIndexer;
 
     // 회의록 생성
     @Transactional
@@ -68,6 +75,7 @@ public class MeetingService {
 
         // 마지막에 저장
         Meeting savedMeeting = meetingRepository.save(meeting);
+        indexMeeting(savedMeeting);
 
         return new MeetingCreateRes(savedMeeting.getId(), savedMeeting.getCreatedAt());
     }
@@ -117,6 +125,8 @@ public class MeetingService {
             });
         }
 
+        indexMeeting(meeting);
+
         return getMeeting(meetingId);
     }
     // 회의록 상세 조회
@@ -158,4 +168,15 @@ public class MeetingService {
                 )).toList()
         );
     }
+
+    // 검색 색인: 제목 + 안건 제목/내용 (안건 순서대로)
+    private void indexMeeting(Meeting meeting) {
+        String body = meeting.getAgendas().stream()
+                .sorted(Comparator.comparingInt(MeetingAgenda::getSortOrder))
+                .flatMap(a -> Stream.of(a.getTitle(), a.getContent()))
+                .filter(Objects::nonNull)
+                .filter(text -> !text.isBlank())
+                .collect(Collectors.joining("\n"));
+        searchIndexer.index(SearchTargetType.MEETING, meeting.getId(), meeting.getProject().getId(), meeting.getTitle(), body);
+    }
 }
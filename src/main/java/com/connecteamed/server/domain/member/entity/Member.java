@@ -41,6 +41,10 @@ public class Member extends BaseEntity {
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     //객체 생성시에 public_id 자동 생성해주는 빌더
     @PrePersist
     public void prePersist(){
@@ -1,11 +1,20 @@
 package com.connecteamed.server.domain.member.repository;
 
 import com.connecteamed.server.domain.member.entity.Member;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -13,5 +22,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsByLoginId(String loginId);
 
+    // 로그인 아이디 필터 적재용 (엔티티 대신 문자열만 커서로 읽는다, 트랜잭션 안에서 호출)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.loginId FROM Member m WHERE m.loginId IS NOT NULL")
+    Stream<String> streamAllLoginIds();
+
+    // 마지막 동기화 이후 다른 인스턴스에서 가입한 아이디
+    @Query("SELECT m.loginId FROM Member m WHERE m.loginId IS NOT NULL AND m.createdAt > :since")
+    List<String> findLoginIdsCreatedAfter(@Param("since") Instant since);
+
     Optional<Member> findByPublicId(UUID publicId);
 }
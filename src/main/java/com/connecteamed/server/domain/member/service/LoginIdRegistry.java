@@ -0,0 +1,158 @@
+package com.connecteamed.server.domain.member.service;
+
+import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.global.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 사용 중인 로그인 아이디를 메모리에서 판별하는 레지스트리
+ * - Bloom filter 에 없으면 DB 조회 없이 "사용 가능" (아이디 중복 확인 대부분이 여기서 끝난다)
+ * - Bloom filter 에 걸린 경우에만 existsByLoginId 로 확인
+ * - 다른 인스턴스에서 가입한 아이디는 주기적인 동기화로 반영 (그 사이의 누락은 DB unique 제약이 막는다)
+ * - 원소 수가 예상치를 넘으면 크기를 두 배로 늘려 다시 적재
+ */
+@Slf4j
+@Component
+public class LoginIdRegistry {
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double falsePositiveRate;
+
+    private final AtomicLong insertions = new AtomicLong();
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter bloomFilter;
+    private volatile long capacity;
+    private volatile boolean ready = false;
+    private volatile Instant lastSyncedAt;
+
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+    private final Counter falsePositiveCounter;
+
+    public LoginIdRegistry(
+            MemberRepository memberRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.member.login-id-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.member.login-id-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.capacity = expectedInsertions;
+        this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        this.negativeCounter = Counter.builder("member.login_id.lookup")
+                .tag("result", "negative")
+                .description("Bloom filter 로 DB 조회 없이 사용 가능 판정된 요청 수")
+                .register(meterRegistry);
+        this.positiveCounter = Counter.builder("member.login_id.lookup")
+                .tag("result", "positive")
+                .description("DB 조회 결과 실제로 사용 중인 아이디였던 요청 수")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("member.login_id.lookup")
+                .tag("result", "false_positive")
+                .description("Bloom filter 에 걸렸지만 DB 에는 없던 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 애플리케이션 기동 후 전체 로그인 아이디 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild(capacity);
+        log.info("[LoginIdRegistry] {}개의 로그인 아이디 적재 완료", insertions.get());
+    }
+
+    public boolean exists(String loginId) {
+        // 적재 전에는 기존처럼 DB 로 판단
+        if (!ready) {
+            return memberRepository.existsByLoginId(loginId);
+        }
+
+        if (!bloomFilter.mightContain(loginId)) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        if (memberRepository.existsByLoginId(loginId)) {
+            positiveCounter.increment();
+            return true;
+        }
+        falsePositiveCounter.increment();
+        return false;
+    }
+
+    // 가입 시 호출
+    public void register(String loginId) {
+        if (loginId == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            // 동기화는 구간을 겹쳐 다시 읽고, 이 인스턴스에서 가입한 아이디도 다시 읽으므로 이미 있는 값은 세지 않는다
+            // (오탐으로 빠지는 몇 건은 다음 rebuild 에서 실제 개수로 맞춰진다)
+            if (bloomFilter.mightContain(loginId)) {
+                return;
+            }
+            bloomFilter.put(loginId);
+            insertions.incrementAndGet();
+        }
+    }
+
+    // 다른 인스턴스에서 가입한 아이디 반영, 예상치를 넘었으면 크게 다시 적재
+    @Scheduled(fixedDelayString = "${app.member.login-id-filter.sync-interval-ms:10000}")
+    public void syncFromDatabase() {
+        if (!ready) {
+            return;
+        }
+        if (insertions.get() > capacity) {
+            rebuild(capacity * 2);
+            return;
+        }
+        Instant now = Instant.now();
+        // 커밋 지연을 고려해 약간 겹치게 조회
+        Instant since = lastSyncedAt.minusSeconds(5);
+        memberRepository.findLoginIdsCreatedAfter(since).forEach(this::register);
+        lastSyncedAt = now;
+    }
+
+    private void rebuild(long newCapacity) {
+        Instant startedAt = Instant.now();
+        BloomFilter rebuilt = BloomFilter.create(newCapacity, falsePositiveRate);
+        AtomicLong count = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> loginIds = memberRepository.streamAllLoginIds()) {
+                loginIds.forEach(loginId -> {
+                    rebuilt.put(loginId);
+                    count.incrementAndGet();
+                });
+            }
+        });
+        synchronized (writeLock) {
+            bloomFilter = rebuilt;
+            capacity = newCapacity;
+            insertions.set(count.get());
+            lastSyncedAt = startedAt;
+            ready = true;
+        }
+    }
+
+    public long size() {
+        return insertions.get();
+    }
+}
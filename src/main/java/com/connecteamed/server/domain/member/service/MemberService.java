@@ -1,9 +1,9 @@
 package com.connecteamed.server.domain.member.service;
 
 import com.connecteamed.server.domain.member.dto.MemberRes;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -11,11 +11,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class MemberService {
 
-    private final MemberRepository memberRepository;
+    private final LoginIdRegistry loginIdRegistry;
 
+    // 대부분 DB 조회 없이 끝나므로 트랜잭션(커넥션)을 미리 잡지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MemberRes.CheckIdResultDTO checkIdDuplication(String loginId) {
-        // 아이디가 이미 존재한다면 isAvailable은 false
-        boolean isAvailable = !memberRepository.existsByLoginId(loginId);
+        // 아이디가 이미 존재한다면 isAvailable은 false (Bloom filter 에 걸린 경우에만 DB 조회)
+        boolean isAvailable = !loginIdRegistry.exists(loginId);
 
         return MemberRes.CheckIdResultDTO.builder()
                 .isAvailable(isAvailable)
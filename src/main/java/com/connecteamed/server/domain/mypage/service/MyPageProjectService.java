@@ -1,7 +1,6 @@
 package com.connecteamed.server.domain.mypage.service;
 
 import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.mypage.code.MyPageErrorCode;
 import com.connecteamed.server.domain.mypage.dto.MyPageProjectListRes;
 import com.connecteamed.server.domain.project.entity.Project;
@@ -11,7 +10,8 @@ import com.connecteamed.server.domain.project.repository.ProjectMemberRepository
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
 import com.connecteamed.server.global.auth.exception.AuthException;
-import com.connecteamed.server.global.util.SecurityUtil;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.cache.ProjectCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,7 +28,8 @@ public class MyPageProjectService {
 
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
-    private final MemberRepository memberRepository;
+    private final CurrentMemberProvider currentMemberProvider;
+    private final ProjectCacheInvalidator projectCacheInvalidator;
 
 
     /**
@@ -39,10 +40,8 @@ public class MyPageProjectService {
 
     public MyPageProjectListRes.CompletedProjectList getMyCompletedProjects() {
 
-        String loginId = SecurityUtil.getCurrentLoginId();
-
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(MyPageErrorCode.MEMBER_NOT_FOUND));
+        // 조회 조건으로만 쓰이므로 SELECT 없는 참조 사용
+        Member member = currentMemberProvider.getMemberReference();
 
         List<ProjectMember> participations = projectMemberRepository.findAllByMember(member);
 
@@ -81,14 +80,10 @@ public class MyPageProjectService {
 
     @Transactional
     public void deleteCompletedProject(Long projectId) {
-        String loginId = SecurityUtil.getCurrentLoginId();
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(MyPageErrorCode.MEMBER_NOT_FOUND));
-
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new GeneralException(MyPageErrorCode.PROJECT_NOT_FOUND));
 
-        if (!project.getOwner().getId().equals(member.getId())) {
+        if (!project.getOwner().getId().equals(currentMemberProvider.getMemberId())) {
             throw new AuthException(MyPageErrorCode.PROJECT_NOT_OWNER);
         }
 
@@ -97,6 +92,9 @@ public class MyPageProjectService {
         }
 
         project.softDelete();
+
+        // 상세/멤버 목록과 참여자 전원의 팀 목록 캐시를 커밋 이후에 비운다
+        projectCacheInvalidator.evictProject(projectId, projectMemberRepository.findMemberIdsByProjectId(projectId));
     }
 
 }
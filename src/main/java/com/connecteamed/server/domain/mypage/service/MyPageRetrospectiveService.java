@@ -2,14 +2,13 @@ package com.connecteamed.server.domain.mypage.service;
 
 
 import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.mypage.code.MyPageErrorCode;
 import com.connecteamed.server.domain.mypage.dto.MyPageRetrospectiveRes;
 import com.connecteamed.server.domain.retrospective.entity.AiRetrospective;
 import com.connecteamed.server.domain.retrospective.repository.RetrospectiveRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
 import com.connecteamed.server.global.auth.exception.AuthException;
-import com.connecteamed.server.global.util.SecurityUtil;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,14 +23,13 @@ public class MyPageRetrospectiveService {
 
 
     private final RetrospectiveRepository retrospectiveRepository;
-    private final MemberRepository memberRepository;
+    private final CurrentMemberProvider currentMemberProvider;
 
 
     public MyPageRetrospectiveRes.RetrospectiveList getMyRetrospectives() {
 
-        String loginId = SecurityUtil.getCurrentLoginId();
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(MyPageErrorCode.MEMBER_NOT_FOUND));
+        // 조회 조건으로만 쓰이므로 SELECT 없는 참조 사용
+        Member member = currentMemberProvider.getMemberReference();
 
         List<AiRetrospective> retrospectives = retrospectiveRepository
                 .findAllByWriterMemberAndDeletedAtIsNullOrderByCreatedAtDesc(member);
@@ -54,10 +52,6 @@ public class MyPageRetrospectiveService {
     @Transactional
     public void deleteRetrospective(Long retrospectiveId) {
 
-        String loginId = SecurityUtil.getCurrentLoginId();
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(MyPageErrorCode.RETROSPECTIVE_MEMBER_NOT_FOUND));
-
         AiRetrospective retrospective = retrospectiveRepository.findById(retrospectiveId)
                 .orElseThrow(() -> new GeneralException(MyPageErrorCode.RETROSPECTIVE_NOT_FOUND));
 
@@ -65,7 +59,7 @@ public class MyPageRetrospectiveService {
             throw new GeneralException(MyPageErrorCode.RETROSPECTIVE_ALREADY_DELETED);
         }
 
-        if (!retrospective.getWriter().getMember().getId().equals(member.getId())) {
+        if (!retrospective.getWriter().getMember().getId().equals(currentMemberProvider.getMemberId())) {
             throw new AuthException(MyPageErrorCode.RETROSPECTIVE_NOT_WRITER);
         }
 
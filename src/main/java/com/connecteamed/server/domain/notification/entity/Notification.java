@@ -11,7 +11,12 @@ import lombok.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "notification")
+@Table(name = "notification",
+        indexes = {
+                // 대시보드 최근 알림 키셋 조회용
+                @Index(name = "idx_notification_receiver_created_at_id", columnList = "receiver_id, created_at DESC, id DESC")
+        }
+)
 public class Notification extends BaseEntity {
 
     @Id
@@ -1,15 +1,35 @@
 package com.connecteamed.server.domain.notification.repository;
 
 import com.connecteamed.server.domain.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    @EntityGraph(attributePaths = {"project"})
-    List<Notification> findAllByReceiverLoginIdOrderByCreatedAtDesc(String loginId);
+    // 대시보드 최근 알림 (키셋 페이지네이션: createdAt DESC, id DESC)
+    @Query("SELECT n FROM Notification n " +
+            "JOIN FETCH n.project " +
+            "JOIN n.receiver r " +
+            "WHERE r.loginId = :loginId " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findRecentByReceiverLoginId(@Param("loginId") String loginId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n " +
+            "JOIN FETCH n.project " +
+            "JOIN n.receiver r " +
+            "WHERE r.loginId = :loginId " +
+            "AND (n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findRecentByReceiverLoginIdBefore(
+            @Param("loginId") String loginId,
+            @Param("cursorAt") Instant cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 }
@@ -1,5 +1,6 @@
 package com.connecteamed.server.domain.project.dto;
 
+import java.io.Serializable;
 import java.util.List;
 
 public record ProjectMemberRes(
@@ -7,9 +8,9 @@ public record ProjectMemberRes(
         Long memberId,
         String memberName,
         List<RoleRes> roles
-) {
+) implements Serializable {
     public record RoleRes(
             Long roleId,
             String roleName
-    ) {}
+    ) implements Serializable {}
 }
@@ -5,8 +5,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.io.Serializable;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 public class ProjectRes {
 
@@ -28,7 +30,7 @@ public class ProjectRes {
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     @AllArgsConstructor
     @Builder
-    public static class DetailResponse {
+    public static class DetailResponse implements Serializable {
         @JsonProperty("projectId")
         @Schema(description = "프로젝트 ID", example = "7")
         private Long projectId;
@@ -44,6 +46,15 @@ public class ProjectRes {
         @JsonProperty("requiredRoleNames")
         @Schema(description = "필요 역할 목록", example = "[\"DESIGNER\", \"SERVER\", \"ANDROID\"]")
         private List<String> requiredRoleNames;
+
+        @JsonProperty("imageUrl")
+        @Schema(description = "대표 이미지 원본 URL")
+        private String imageUrl;
+
+        @JsonProperty("thumbnailUrls")
+        @Schema(description = "대표 이미지 썸네일 URL (긴 변 px → URL), 아직 만들어지지 않았으면 null",
+                example = "{\"64\": \"https://bucket.s3.amazonaws.com/project/x.png.thumb-64.jpg\"}")
+        private Map<Integer, String> thumbnailUrls;
     }
 
     @Getter
@@ -1,9 +1,10 @@
 package com.connecteamed.server.domain.project.dto;
 
+import java.io.Serializable;
 import java.util.List;
 
 public record ProjectRoleListRes(
         List<RoleItem> roles
-) {
-    public record RoleItem(Long roleId, String name) {}
+) implements Serializable {
+    public record RoleItem(Long roleId, String name) implements Serializable {}
 }
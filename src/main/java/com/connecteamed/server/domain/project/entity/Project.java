@@ -39,6 +39,10 @@ public class Project extends BaseEntity {
     @Column(name="image_url")
     private String imageUrl;
 
+    // 만들어진 대표 이미지 썸네일 크기 ("64,256,1024"), 아직 없으면 null
+    @Column(name="thumbnail_sizes", length = 64)
+    private String thumbnailSizes;
+
     @Enumerated(EnumType.STRING)
     @Column(name="status", nullable = false)
     @Builder.Default
@@ -67,6 +71,11 @@ public class Project extends BaseEntity {
         }
     }
 
+    // 비즈니스 로직: 대표 이미지 썸네일 생성 완료
+    public void markThumbnails(String thumbnailSizes) {
+        this.thumbnailSizes = thumbnailSizes;
+    }
+
     // 비즈니스 로직: 프로젝트 종료
     public void closeProject() {
         this.status = ProjectStatus.COMPLETED;
@@ -13,7 +13,9 @@ import lombok.*;
 @Table(name= "project_role")
 public class ProjectRole extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 배치 INSERT 를 위해 시퀀스 + pooled 할당 사용 (IDENTITY 는 JDBC 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_role_seq")
+    @SequenceGenerator(name = "project_role_seq", sequenceName = "project_role_seq", allocationSize = 50)
     private Long id;
 
     @Column(name="role_name",nullable = false,columnDefinition = "TEXT")
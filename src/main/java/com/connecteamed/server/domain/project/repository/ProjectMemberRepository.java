@@ -30,6 +30,10 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
             "AND p.deletedAt IS NULL")
     List<ProjectMember> findAllByMemberIdWithProject(Long memberId);
 
+    // 캐시 무효화용 참여자 ID 목록
+    @Query("SELECT pm.member.id FROM ProjectMember pm WHERE pm.project.id = :projectId")
+    List<Long> findMemberIdsByProjectId(Long projectId);
+
     Optional<ProjectMember> findByProject_IdAndMember_Id(Long projectId, Long memberId);
 
     boolean existsByProjectIdAndMemberId(Long projectId, Long memberId);
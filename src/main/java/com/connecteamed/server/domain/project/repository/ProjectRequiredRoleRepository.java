@@ -1,6 +1,7 @@
 package com.connecteamed.server.domain.project.repository;
 
 import com.connecteamed.server.domain.project.entity.ProjectRequiredRole;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,8 @@ import java.util.List;
 @Repository
 public interface ProjectRequiredRoleRepository extends JpaRepository<ProjectRequiredRole, Long> {
 
+    // 역할명까지 함께 로딩 (역할별 추가 조회 방지)
+    @EntityGraph(attributePaths = {"projectRole"})
     List<ProjectRequiredRole> findByProjectId(Long projectId);
 
     // ProjectRequiredRole -> ProjectRole 조인해서 필요한 필드만 뽑기 (N+1 방지)
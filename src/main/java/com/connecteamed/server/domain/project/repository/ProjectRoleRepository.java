@@ -5,9 +5,13 @@ import com.connecteamed.server.domain.project.entity.ProjectRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRoleRepository extends JpaRepository<ProjectRole, Long> {
     Optional<ProjectRole> findByRoleName(String roleName);
+
+    List<ProjectRole> findByRoleNameIn(Collection<String> roleNames);
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import com.connecteamed.server.domain.project.repository.ProjectRequiredRoleRepo
 import com.connecteamed.server.domain.project.repository.ProjectRoleRepository;
 import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import com.connecteamed.server.global.cache.CacheNames;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +38,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     private final ProjectRequiredRoleRepository projectRequiredRoleRepository;
 
     @Override //TODO : 프로젝트 존재 체크 예외처리 필요 2026/01/16
+    @Cacheable(cacheNames = CacheNames.PROJECT_MEMBERS, key = "#projectId")
     public List<ProjectMemberRes> getProjectMembers(Long projectId) {
         List<ProjectMember> members = projectMemberRepository.findAllByProjectId(projectId);
 
@@ -45,6 +49,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.PROJECT_MEMBERS, key = "#projectId")
     public ProjectMemberRes updateMemberRoles(Long projectId, Long projectMemberId, ProjectMemberRoleUpdateReq req) {
         log.info("updateMemberRoles called. projectId={}, projectMemberId={}, req={}",
                 projectId, projectMemberId, req);
@@ -115,6 +120,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
 
     @Override  //TODO: projectId가 실제로 존재하는 프로젝트인지 확인 예외처리 필요 2026/01/16
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PROJECT_ROLES, key = "#projectId")
     public ProjectRoleListRes getProjectRoles(Long projectId) {
         List<Object[]> rows = projectRequiredRoleRepository.findRequiredRoles(projectId);
 
@@ -1,5 +1,6 @@
 package com.connecteamed.server.domain.project.service;
 
+import com.connecteamed.server.domain.document.service.S3StorageService;
 import com.connecteamed.server.domain.member.entity.Member;
 import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.project.code.ProjectErrorCode;
@@ -15,16 +16,28 @@ import com.connecteamed.server.domain.project.repository.ProjectRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRequiredRoleRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRoleRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
-import com.connecteamed.server.global.util.S3Uploader;
+import com.connecteamed.server.global.cache.CacheNames;
+import com.connecteamed.server.global.cache.ProjectCacheInvalidator;
+import com.connecteamed.server.global.image.ThumbnailGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,8 +50,10 @@ public class ProjectService {
     private final ProjectRoleRepository projectRoleRepository;
     private final ProjectRequiredRoleRepository projectRequiredRoleRepository;
     private final MemberRepository memberRepository;
-    private final Optional<S3Uploader> s3Uploader;
+    private final S3StorageService s3StorageService;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectCacheInvalidator projectCacheInvalidator;
+    private final ProjectThumbnailService projectThumbnailService;
 
     /**
      * 프로젝트 생성
@@ -65,14 +80,19 @@ public class ProjectService {
                 });
         log.info("[ProjectService] Member found: id={}, name={}", owner.getId(), owner.getName());
 
+        String imageKey = null;
         String imageUrl = null;
         MultipartFile image = createReq.getImage();
-        if (image != null && !image.isEmpty() && s3Uploader.isPresent()) {
-            try {
+        if (image != null && !image.isEmpty()) {
+            String originalFileName = image.getOriginalFilename() == null ? "file" : image.getOriginalFilename();
+            // 기존 이미지와 같은 위치 (project/{uuid}_{파일명})
+            imageKey = "project/" + UUID.randomUUID() + "_" + originalFileName.replaceAll("[\\\\/]", "_");
+            try (InputStream in = image.getInputStream()) {
                 log.debug("[ProjectService] Uploading image: {}", image.getOriginalFilename());
-                imageUrl = s3Uploader.get().upload(image, "project");
+                s3StorageService.store(imageKey, in, image.getContentType());
+                imageUrl = s3StorageService.publicUrl(imageKey);
                 log.info("[ProjectService] Image uploaded successfully: {}", imageUrl);
-            } catch (IOException e) {
+            } catch (IOException | RuntimeException e) {
                 log.error("[ProjectService] Image upload failed: ", e);
                 throw new GeneralException(ProjectErrorCode.INVALID_REQUEST, "이미지 업로드 실패: " + e.getMessage());
             }
@@ -95,31 +115,17 @@ public class ProjectService {
                 .member(owner)
                 .build();
         projectMemberRepository.save(projectOwnerAsMember);
+        // 대표 이미지 썸네일은 커밋 뒤 백그라운드에서 만든다
+        projectThumbnailService.schedule(savedProject.getId(), imageKey, imageUrl, image);
+        // 소유자의 팀 목록에 새 프로젝트가 추가됨
+        projectCacheInvalidator.evictMemberTeams(owner.getId());
 
-        // 3. 필요 역할 등록
+        // 3. 필요 역할 등록 (역할 조회 1번, 없는 역할은 자동 생성, 필요 역할은 배치 INSERT)
         if (createReq.getRequiredRoleNames() != null && !createReq.getRequiredRoleNames().isEmpty()) {
             log.debug("[ProjectService] Registering required roles: {}", createReq.getRequiredRoleNames());
-            for (String roleName : createReq.getRequiredRoleNames()) {
-                // 역할명으로 ProjectRole 조회, 없으면 자동 생성
-                log.debug("[ProjectService] Finding or creating ProjectRole: {}", roleName);
-                ProjectRole projectRole = projectRoleRepository.findByRoleName(roleName)
-                        .orElseGet(() -> {
-                            log.info("[ProjectService] ProjectRole not found, creating new role: {}", roleName);
-                            ProjectRole newRole = ProjectRole.builder()
-                                    .roleName(roleName)
-                                    .build();
-                            return projectRoleRepository.save(newRole);
-                        });
-
-                // ProjectRequiredRole 생성 및 저장
-                ProjectRequiredRole requiredRole = ProjectRequiredRole.builder()
-                        .project(savedProject)
-                        .projectRole(projectRole)
-                        .build();
-
-                projectRequiredRoleRepository.save(requiredRole);
-                log.debug("[ProjectService] Required role registered: {}", roleName);
-            }
+            List<ProjectRole> roles = resolveRoles(createReq.getRequiredRoleNames(), true);
+            projectRequiredRoleRepository.saveAll(toRequiredRoles(savedProject, roles));
+            log.debug("[ProjectService] Required roles registered: count={}", roles.size());
         }
 
         // 4. 응답 반환
@@ -136,6 +142,7 @@ public class ProjectService {
      * @return 프로젝트 상세 정보
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PROJECT_DETAIL, key = "#projectId")
     public ProjectRes.DetailResponse getProjectDetail(Long projectId) {
         log.info("[ProjectService] getProjectDetail called with projectId: {}", projectId);
 
@@ -160,15 +167,34 @@ public class ProjectService {
                 .name(project.getName())
                 .goal(project.getGoal())
                 .requiredRoleNames(requiredRoleNames)
+                .imageUrl(project.getImageUrl())
+                .thumbnailUrls(thumbnailUrls(project))
                 .build();
     }
 
+    // 썸네일이 아직 없으면 null (원본 imageUrl 을 쓰면 된다)
+    private static Map<Integer, String> thumbnailUrls(Project project) {
+        List<Integer> sizes = ThumbnailGenerator.parseSizes(project.getThumbnailSizes());
+        if (project.getImageUrl() == null || sizes.isEmpty()) {
+            return null;
+        }
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (Integer size : sizes) {
+            urls.put(size, ThumbnailGenerator.thumbnailKey(project.getImageUrl(), size));
+        }
+        return urls;
+    }
+
     /**
      * 프로젝트 수정
      * @param projectId 프로젝트 ID
      * @param updateReq 프로젝트 수정 요청
      * @return 수정된 프로젝트 정보
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJECT_DETAIL, key = "#projectId"),
+            @CacheEvict(cacheNames = CacheNames.PROJECT_ROLES, key = "#projectId")
+    })
     public ProjectRes.CreateResponse updateProject(Long projectId, ProjectUpdateReq updateReq) {
         log.info("[ProjectService] updateProject called with projectId: {}", projectId);
 
@@ -189,33 +215,44 @@ public class ProjectService {
         }
 
         // 3. 프로젝트 기본 정보 수정
+        String previousName = project.getName();
         project.updateProject(updateReq.getName(), updateReq.getGoal());
         log.info("[ProjectService] Project basic info updated: name={}, goal={}", project.getName(), project.getGoal());
 
-        // 4. 기존 필요 역할 삭제
+        // 팀 목록에는 프로젝트명만 보이므로 이름이 바뀐 경우에만 이 프로젝트 팀원들의 팀 목록 캐시를 비운다
+        if (!Objects.equals(previousName, project.getName())) {
+            projectMemberRepository.findMemberIdsByProjectId(projectId)
+                    .forEach(projectCacheInvalidator::evictMemberTeams);
+        }
+
+        // 4. 요청 역할 조회 (없는 역할이면 실패)
+        List<String> requestedNames = updateReq.getRequiredRoleNames() == null
+                ? List.of() : updateReq.getRequiredRoleNames();
+        List<ProjectRole> desiredRoles = requestedNames.isEmpty() ? List.of() : resolveRoles(requestedNames, false);
+        Set<Long> desiredRoleIds = desiredRoles.stream()
+                .map(ProjectRole::getId)
+                .collect(Collectors.toSet());
+
+        // 5. 기존 필요 역할과 비교해 바뀐 행만 삭제/추가
         List<ProjectRequiredRole> existingRoles = projectRequiredRoleRepository.findByProjectId(projectId);
-        projectRequiredRoleRepository.deleteAll(existingRoles);
-        log.debug("[ProjectService] Existing required roles deleted: count={}", existingRoles.size());
-
-        // 5. 새로운 필요 역할 등록
-        if (updateReq.getRequiredRoleNames() != null && !updateReq.getRequiredRoleNames().isEmpty()) {
-            log.debug("[ProjectService] Registering new required roles: {}", updateReq.getRequiredRoleNames());
-            for (String roleName : updateReq.getRequiredRoleNames()) {
-                ProjectRole projectRole = projectRoleRepository.findByRoleName(roleName)
-                        .orElseThrow(() -> {
-                            log.error("[ProjectService] ProjectRole not found: {}", roleName);
-                            return new GeneralException(ProjectErrorCode.ROLE_NOT_FOUND);
-                        });
-
-                ProjectRequiredRole requiredRole = ProjectRequiredRole.builder()
-                        .project(project)
-                        .projectRole(projectRole)
-                        .build();
+        Set<Long> existingRoleIds = existingRoles.stream()
+                .map(requiredRole -> requiredRole.getProjectRole().getId())
+                .collect(Collectors.toSet());
+
+        List<ProjectRequiredRole> removed = existingRoles.stream()
+                .filter(requiredRole -> !desiredRoleIds.contains(requiredRole.getProjectRole().getId()))
+                .toList();
+        if (!removed.isEmpty()) {
+            projectRequiredRoleRepository.deleteAllInBatch(removed);
+        }
 
-                projectRequiredRoleRepository.save(requiredRole);
-                log.debug("[ProjectService] Required role registered: {}", roleName);
-            }
+        List<ProjectRole> added = desiredRoles.stream()
+                .filter(role -> !existingRoleIds.contains(role.getId()))
+                .toList();
+        if (!added.isEmpty()) {
+            projectRequiredRoleRepository.saveAll(toRequiredRoles(project, added));
         }
+        log.debug("[ProjectService] Required roles updated: removed={}, added={}", removed.size(), added.size());
 
         // 6. 응답 반환
         log.info("[ProjectService] Returning CreateResponse: projectId={}", project.getId());
@@ -246,6 +283,9 @@ public class ProjectService {
         log.info("[ProjectService] Project closed: id={}, status={}, closedAt={}",
                 project.getId(), project.getStatus(), project.getClosedAt());
 
+        // 상세/멤버 목록과 참여자 전원의 팀 목록 캐시를 커밋 이후에 비운다
+        projectCacheInvalidator.evictProject(projectId, projectMemberRepository.findMemberIdsByProjectId(projectId));
+
         // 3. 응답 반환
         return ProjectRes.CloseResponse.builder()
                 .projectId(project.getId())
@@ -253,5 +293,53 @@ public class ProjectService {
                 .closedAt(project.getClosedAt())
                 .build();
     }
-}
 
+    /**
+     * 역할명 목록을 ProjectRole 로 일괄 변환 (중복 제거, 요청 순서 유지)
+     * @param roleNames 역할명 목록
+     * @param createMissing true 면 없는 역할을 한 번에 생성, false 면 ROLE_NOT_FOUND
+     * @return 역할 목록
+     */
+    private List<ProjectRole> resolveRoles(List<String> roleNames, boolean createMissing) {
+        Set<String> names = roleNames.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, ProjectRole> rolesByName = new HashMap<>();
+        for (ProjectRole role : projectRoleRepository.findByRoleNameIn(names)) {
+            rolesByName.putIfAbsent(role.getRoleName(), role);
+        }
+
+        List<String> missingNames = names.stream()
+                .filter(name -> !rolesByName.containsKey(name))
+                .toList();
+        if (!missingNames.isEmpty()) {
+            if (!createMissing) {
+                log.error("[ProjectService] ProjectRole not found: {}", missingNames);
+                throw new GeneralException(ProjectErrorCode.ROLE_NOT_FOUND);
+            }
+            log.info("[ProjectService] ProjectRole not found, creating new roles: {}", missingNames);
+            List<ProjectRole> newRoles = missingNames.stream()
+                    .map(name -> ProjectRole.builder().roleName(name).build())
+                    .toList();
+            projectRoleRepository.saveAll(newRoles)
+                    .forEach(role -> rolesByName.put(role.getRoleName(), role));
+        }
+
+        return names.stream()
+                .map(rolesByName::get)
+                .toList();
+    }
+
+    private List<ProjectRequiredRole> toRequiredRoles(Project project, List<ProjectRole> roles) {
+        return roles.stream()
+                .map(role -> ProjectRequiredRole.builder()
+                        .project(project)
+                        .projectRole(role)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.connecteamed.server.domain.project.service;
+
+import com.connecteamed.server.domain.document.service.S3StorageService;
+import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import com.connecteamed.server.global.cache.ProjectCacheInvalidator;
+import com.connecteamed.server.global.image.ThumbnailGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 프로젝트 대표 이미지 썸네일
+ * - 프로젝트 생성이 커밋된 뒤 썸네일 풀에서 만들어 원본 옆({key}.thumb-{size}.jpg)에 올린다 (URL 도 원본 URL 뒤에 같은 접미사)
+ * - 올린 크기를 project.thumbnail_sizes 에 기록하고 상세 캐시를 비운다 (그 전까지 상세 응답의 thumbnailUrls 는 null)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectThumbnailService {
+
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final S3StorageService s3StorageService;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectCacheInvalidator projectCacheInvalidator;
+
+    // multipart 임시 파일은 요청이 끝나면 지워지므로 작업 파일로 옮겨 둔다
+    public void schedule(Long projectId, String imageKey, String imageUrl, MultipartFile image) {
+        // 공개 URL 이 없으면 썸네일 URL 도 줄 수 없다
+        if (imageKey == null || imageUrl == null) {
+            return;
+        }
+        Path work;
+        try {
+            work = thumbnailGenerator.newWorkFile();
+            image.transferTo(work);
+        } catch (IOException | RuntimeException e) {
+            log.warn("[ProjectThumbnailService] 썸네일 작업 파일 준비 실패. projectId={}", projectId, e);
+            return;
+        }
+
+        Runnable submit = () -> thumbnailGenerator.submit(work, thumbnails -> store(projectId, imageKey, thumbnails));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit.run();
+            return;
+        }
+        // 프로젝트 행이 커밋된 뒤에 시작해야 크기를 기록할 수 있다, 롤백이면 작업 파일만 지운다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    submit.run();
+                } else {
+                    deleteQuietly(work);
+                }
+            }
+        });
+    }
+
+    void store(Long projectId, String imageKey, Map<Integer, byte[]> thumbnails) {
+        for (Map.Entry<Integer, byte[]> thumbnail : thumbnails.entrySet()) {
+            s3StorageService.store(ThumbnailGenerator.thumbnailKey(imageKey, thumbnail.getKey()),
+                    new ByteArrayInputStream(thumbnail.getValue()), ThumbnailGenerator.CONTENT_TYPE);
+        }
+
+        String sizes = ThumbnailGenerator.joinSizes(thumbnails.keySet());
+        transactionTemplate.executeWithoutResult(status ->
+                projectRepository.findById(projectId).ifPresent(project -> project.markThumbnails(sizes)));
+        projectCacheInvalidator.evictProjectDetail(projectId);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[ProjectThumbnailService] 작업 파일 삭제 실패. path={}", path);
+        }
+    }
+}
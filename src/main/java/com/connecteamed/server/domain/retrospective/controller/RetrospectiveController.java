@@ -4,13 +4,12 @@ import com.connecteamed.server.domain.retrospective.dto.*;
 import com.connecteamed.server.domain.retrospective.service.RetrospectiveService;
 import com.connecteamed.server.global.apiPayload.ApiResponse;
 import com.connecteamed.server.global.apiPayload.code.GeneralSuccessCode;
-import com.connecteamed.server.global.auth.CustomUserDetails;
+import com.connecteamed.server.global.auth.CurrentMember;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "Retrospective", description = "AI 회고 관련 API")
@@ -25,10 +24,9 @@ public class RetrospectiveController {
     @PostMapping("/ai")
     public ApiResponse<RetrospectiveCreateRes> createRetrospective(
             @PathVariable Long projectId,
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(hidden = true) @CurrentMember Long memberId,
             @Valid @RequestBody RetrospectiveCreateReq request
     ) {
-        Long memberId = customUserDetails.member().getId();
         RetrospectiveCreateRes response = retrospectiveService.createAiRetrospective(projectId, memberId, request);
         return ApiResponse.onSuccess(GeneralSuccessCode._CREATED, response);
     }
@@ -57,10 +55,10 @@ public class RetrospectiveController {
     public ApiResponse<String> updateRetrospective(
             @PathVariable Long projectId,
             @PathVariable Long retrospectiveId,
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(hidden = true) @CurrentMember Long memberId,
             @Valid @RequestBody RetrospectiveUpdateReq request
     ) {
-        retrospectiveService.updateRetrospective(customUserDetails.member().getId(), projectId, retrospectiveId, request);
+        retrospectiveService.updateRetrospective(memberId, projectId, retrospectiveId, request);
         return ApiResponse.onSuccess(GeneralSuccessCode._OK, "회고가 성공적으로 수정되었습니다.");
     }
 
@@ -69,9 +67,9 @@ public class RetrospectiveController {
     public ApiResponse<String> deleteRetrospective(
             @PathVariable Long projectId,
             @PathVariable Long retrospectiveId,
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails
+            @Parameter(hidden = true) @CurrentMember Long memberId
     ) {
-        retrospectiveService.deleteRetrospective(customUserDetails.member().getId(), projectId, retrospectiveId);
+        retrospectiveService.deleteRetrospective(memberId, projectId, retrospectiveId);
         return ApiResponse.onSuccess(GeneralSuccessCode._OK, "회고가 성공적으로 삭제되었습니다.");
     }
 }
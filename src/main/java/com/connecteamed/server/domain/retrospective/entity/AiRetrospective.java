@@ -20,7 +20,13 @@ import java.util.UUID;
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @Getter
-@Table(name = "ai_retrospective")
+@Table(name = "ai_retrospective",
+        indexes = {
+                // 대시보드 최근 회고 키셋 조회용
+                @Index(name = "idx_ai_retrospective_created_at_id", columnList = "created_at DESC, id DESC"),
+                @Index(name = "idx_ai_retrospective_writer_created_at_id", columnList = "writer_id, created_at DESC, id DESC")
+        }
+)
 @SQLDelete(sql = "UPDATE ai_retrospective SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
 public class AiRetrospective extends BaseEntity {
@@ -2,27 +2,59 @@ package com.connecteamed.server.domain.retrospective.repository;
 
 import com.connecteamed.server.domain.member.entity.Member;
 import com.connecteamed.server.domain.retrospective.entity.AiRetrospective;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface RetrospectiveRepository extends JpaRepository<AiRetrospective, Long> {
 
+    // 대시보드 최근 회고 (키셋 페이지네이션: createdAt DESC, id DESC)
     @Query("SELECT ar FROM AiRetrospective ar " +
+            "JOIN FETCH ar.project " +
             "WHERE ar.deletedAt IS NULL " +
-            "ORDER BY ar.createdAt DESC")
-    List<AiRetrospective> findRecentRetrospectives();
+            "ORDER BY ar.createdAt DESC, ar.id DESC")
+    List<AiRetrospective> findRecentRetrospectives(Pageable pageable);
 
     @Query("SELECT ar FROM AiRetrospective ar " +
+            "JOIN FETCH ar.project " +
+            "WHERE ar.deletedAt IS NULL " +
+            "AND (ar.createdAt < :cursorAt OR (ar.createdAt = :cursorAt AND ar.id < :cursorId)) " +
+            "ORDER BY ar.createdAt DESC, ar.id DESC")
+    List<AiRetrospective> findRecentRetrospectivesBefore(
+            @Param("cursorAt") Instant cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("SELECT ar FROM AiRetrospective ar " +
+            "JOIN FETCH ar.project " +
+            "JOIN ar.writer pm " +
+            "JOIN pm.member m " +
+            "WHERE ar.deletedAt IS NULL " +
+            "AND m.loginId = :username " +
+            "ORDER BY ar.createdAt DESC, ar.id DESC")
+    List<AiRetrospective> findRecentRetrospectivesByUsername(@Param("username") String username, Pageable pageable);
+
+    @Query("SELECT ar FROM AiRetrospective ar " +
+            "JOIN FETCH ar.project " +
             "JOIN ar.writer pm " +
             "JOIN pm.member m " +
             "WHERE ar.deletedAt IS NULL " +
             "AND m.loginId = :username " +
-            "ORDER BY ar.createdAt DESC")
-    List<AiRetrospective> findRecentRetrospectivesByUsername(@Param("username") String username);
+            "AND (ar.createdAt < :cursorAt OR (ar.createdAt = :cursorAt AND ar.id < :cursorId)) " +
+            "ORDER BY ar.createdAt DESC, ar.id DESC")
+    List<AiRetrospective> findRecentRetrospectivesByUsernameBefore(
+            @Param("username") String username,
+            @Param("cursorAt") Instant cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
     List<AiRetrospective> findAllByWriterMemberAndDeletedAtIsNullOrderByCreatedAtDesc(Member member);
 }
@@ -0,0 +1,42 @@
+package com.connecteamed.server.domain.search.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.connecteamed.server.domain.search.dto.SearchRes;
+import com.connecteamed.server.domain.search.service.SearchService;
+import com.connecteamed.server.global.apiPayload.ApiResponse;
+import com.connecteamed.server.global.apiPayload.code.GeneralSuccessCode;
+import com.connecteamed.server.global.util.SecurityUtil;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/projects/{projectId}")
+@Tag(name = "Search", description = "프로젝트 검색 API")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "프로젝트 통합 검색",
+            description = "TEXT 문서, 업무, 회의록(안건 포함)을 관련도 순으로 검색합니다. 공백으로 나눈 모든 단어를 포함하는 항목만 나오며 각 단어는 접두어로 일치합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<SearchRes>> search(
+            @PathVariable Long projectId,
+            @RequestParam("q") String q,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        String loginId = SecurityUtil.getCurrentLoginId();
+        return ResponseEntity.ok(
+                ApiResponse.onSuccess(GeneralSuccessCode._OK, searchService.search(projectId, loginId, q, page, size))
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.connecteamed.server.domain.search.dto;
+
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+
+public record SearchHit(
+        SearchTargetType type,
+        Long targetId,
+        String title,
+        String body,
+        double score
+) {
+}
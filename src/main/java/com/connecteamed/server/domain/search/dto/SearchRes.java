@@ -0,0 +1,23 @@
+package com.connecteamed.server.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "프로젝트 통합 검색 결과 (관련도 순)")
+public record SearchRes(
+        List<Item> results,
+        int page,
+        int size,
+        boolean hasNext
+) {
+    public record Item(
+            @Schema(description = "DOCUMENT / TASK / MEETING", example = "TASK")
+            String type,
+            Long id,
+            String title,
+            @Schema(description = "본문 앞부분")
+            String snippet,
+            double score
+    ) {}
+}
@@ -0,0 +1,64 @@
+package com.connecteamed.server.domain.search.entity;
+
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 프로젝트 검색 색인 (문서/업무/회의록 한 건당 한 행)
+ * - 원본을 쓰는 트랜잭션 안에서 같이 갱신되므로 커밋되면 바로 검색된다
+ * - PostgreSQL 에서는 title/body 로 만든 search_vector(tsvector, generated) 컬럼과 GIN 인덱스를
+ *   SearchIndexSchema 가 추가한다 (JPA 매핑에는 없음)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(name = "search_entry",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_entry_target", columnNames = {"target_type", "target_id"}),
+        indexes = @Index(name = "idx_search_entry_project_id", columnList = "project_id"))
+public class SearchEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private SearchTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "title", columnDefinition = "TEXT")
+    private String title;
+
+    @Column(name = "body", columnDefinition = "TEXT")
+    private String body;
+
+    @Column(name = "indexed_at", nullable = false)
+    private Instant indexedAt;
+
+    public static SearchEntry create(Long projectId, SearchTargetType targetType, Long targetId, String title, String body) {
+        return SearchEntry.builder()
+                .projectId(projectId)
+                .targetType(targetType)
+                .targetId(targetId)
+                .title(title)
+                .body(body)
+                .indexedAt(Instant.now())
+                .build();
+    }
+
+    public void update(String title, String body) {
+        this.title = title;
+        this.body = body;
+        this.indexedAt = Instant.now();
+    }
+}
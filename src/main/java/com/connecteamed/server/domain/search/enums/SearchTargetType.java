@@ -0,0 +1,5 @@
+package com.connecteamed.server.domain.search.enums;
+
+public enum SearchTargetType {
+    DOCUMENT, TASK, MEETING
+}
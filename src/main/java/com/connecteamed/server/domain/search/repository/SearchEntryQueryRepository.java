@@ -0,0 +1,14 @@
+package com.connecteamed.server.domain.search.repository;
+
+import com.connecteamed.server.domain.search.dto.SearchHit;
+
+import java.util.List;
+
+public interface SearchEntryQueryRepository {
+
+    // PostgreSQL: search_vector @@ tsquery, ts_rank 순
+    List<SearchHit> searchFullText(Long projectId, String tsQuery, int offset, int limit);
+
+    // 그 외(H2 테스트 등): 모든 검색어를 제목이나 본문에 포함하는 행, 최근 색인 순 (관련도 정렬은 서비스에서)
+    List<SearchHit> searchContaining(Long projectId, List<String> terms, int limit);
+}
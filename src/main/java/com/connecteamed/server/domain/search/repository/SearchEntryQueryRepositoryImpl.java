@@ -0,0 +1,67 @@
+package com.connecteamed.server.domain.search.repository;
+
+import com.connecteamed.server.domain.search.dto.SearchHit;
+import com.connecteamed.server.domain.search.entity.SearchEntry;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+/**
+ * 검색 질의
+ * - 전문 검색은 GIN 인덱스를 타도록 native 로 작성 (search_vector 는 엔티티에 매핑되지 않음)
+ * - 포함 검색은 검색어 수만큼 조건을 동적으로 붙인다
+ */
+public class SearchEntryQueryRepositoryImpl implements SearchEntryQueryRepository {
+
+    private static final String FULL_TEXT_SQL =
+            "SELECT e.target_type, e.target_id, e.title, left(e.body, 200), ts_rank(e.search_vector, q.query) AS rank " +
+            "FROM search_entry e, to_tsquery('simple', :query) AS q(query) " +
+            "WHERE e.project_id = :projectId AND e.search_vector @@ q.query " +
+            "ORDER BY rank DESC, e.id DESC " +
+            "LIMIT :limit OFFSET :offset";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchHit> searchFullText(Long projectId, String tsQuery, int offset, int limit) {
+        List<Object[]> rows = em.createNativeQuery(FULL_TEXT_SQL)
+                .setParameter("query", tsQuery)
+                .setParameter("projectId", projectId)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new SearchHit(
+                        SearchTargetType.valueOf((String) row[0]),
+                        ((Number) row[1]).longValue(),
+                        (String) row[2],
+                        (String) row[3],
+                        ((Number) row[4]).doubleValue()))
+                .toList();
+    }
+
+    @Override
+    public List<SearchHit> searchContaining(Long projectId, List<String> terms, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT e FROM SearchEntry e WHERE e.projectId = :projectId ");
+        for (int i = 0; i < terms.size(); i++) {
+            jpql.append("AND (lower(e.title) LIKE :t").append(i)
+                    .append(" OR lower(e.body) LIKE :t").append(i).append(") ");
+        }
+        jpql.append("ORDER BY e.indexedAt DESC, e.id DESC");
+
+        TypedQuery<SearchEntry> query = em.createQuery(jpql.toString(), SearchEntry.class)
+                .setParameter("projectId", projectId)
+                .setMaxResults(limit);
+        for (int i = 0; i < terms.size(); i++) {
+            query.setParameter("t" + i, "%" + terms.get(i) + "%");
+        }
+        return query.getResultList().stream()
+                .map(e -> new SearchHit(e.getTargetType(), e.getTargetId(), e.getTitle(), e.getBody(), 0))
+                .toList();
+    }
+}
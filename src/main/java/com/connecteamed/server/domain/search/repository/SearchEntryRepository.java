@@ -0,0 +1,44 @@
+package com.connecteamed.server.domain.search.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.connecteamed.server.domain.search.entity.SearchEntry;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+
+public interface SearchEntryRepository extends JpaRepository<SearchEntry, Long>, SearchEntryQueryRepository {
+
+    Optional<SearchEntry> findByTargetTypeAndTargetId(SearchTargetType targetType, Long targetId);
+
+    @Modifying
+    @Query("delete from SearchEntry e where e.targetType = :targetType and e.targetId = :targetId")
+    int deleteByTarget(@Param("targetType") SearchTargetType targetType, @Param("targetId") Long targetId);
+
+    // 색인이 비어 있을 때 기존 데이터를 한 번에 채우는 용도
+    @Modifying
+    @Query("insert into SearchEntry (projectId, targetType, targetId, title, body, indexedAt) " +
+            "select d.project.id, com.connecteamed.server.domain.search.enums.SearchTargetType.DOCUMENT, d.id, d.title, d.content, :now " +
+            "from Document d " +
+            "where d.fileType = com.connecteamed.server.domain.document.enums.DocumentFileType.TEXT and d.deletedAt is null")
+    int backfillDocuments(@Param("now") Instant now);
+
+    @Modifying
+    @Query("insert into SearchEntry (projectId, targetType, targetId, title, body, indexedAt) " +
+            "select t.project.id, com.connecteamed.server.domain.search.enums.SearchTargetType.TASK, t.id, t.name, t.content, :now " +
+            "from Task t where t.deletedAt is null")
+    int backfillTasks(@Param("now") Instant now);
+
+    @Modifying
+    @Query("insert into SearchEntry (projectId, targetType, targetId, title, body, indexedAt) " +
+            "select m.project.id, com.connecteamed.server.domain.search.enums.SearchTargetType.MEETING, m.id, m.title, " +
+            "listagg(concat(coalesce(a.title, ''), ' ', coalesce(a.content, '')), ' ') within group (order by a.sortOrder), :now " +
+            "from Meeting m left join m.agendas a " +
+            "where m.deletedAt is null " +
+            "group by m.id, m.project.id, m.title")
+    int backfillMeetings(@Param("now") Instant now);
+}
@@ -0,0 +1,92 @@
+package com.connecteamed.server.domain.search.service;
+
+import com.connecteamed.server.domain.search.repository.SearchEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+/**
+ * 검색 색인 스키마 준비
+ * - PostgreSQL: ddl-auto 로는 만들 수 없는 tsvector generated 컬럼과 GIN 인덱스를 추가하고 전문 검색 사용
+ *   (한국어 형태소 사전이 없으므로 'simple' 설정 + 접두어 일치)
+ * - 그 외(H2 테스트): 전문 검색 없이 포함 검색으로 대체
+ * - 색인이 비어 있으면 기존 문서/업무/회의록으로 한 번 채운다
+ *   (요청을 받기 시작한 뒤에 새 글이 먼저 색인되면 비어 있지 않다고 보고 건너뛰게 되므로 웹 서버 기동 전에 실행)
+ */
+@Slf4j
+@Component
+public class SearchIndexSchema implements SmartInitializingSingleton {
+
+    private static final String ADD_VECTOR_COLUMN =
+            "ALTER TABLE search_entry ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+            "GENERATED ALWAYS AS (" +
+            "setweight(to_tsvector('simple', coalesce(title, '')), 'A') || " +
+            "setweight(to_tsvector('simple', coalesce(body, '')), 'B')) STORED";
+    private static final String CREATE_GIN_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_search_entry_vector ON search_entry USING GIN (search_vector)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchEntryRepository searchEntryRepository;
+
+    private volatile boolean fullTextEnabled = false;
+
+    public SearchIndexSchema(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             SearchEntryRepository searchEntryRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.searchEntryRepository = searchEntryRepository;
+    }
+
+    public boolean isFullTextEnabled() {
+        return fullTextEnabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        prepare();
+    }
+
+    void prepare() {
+        if (isPostgres()) {
+            try {
+                jdbcTemplate.execute(ADD_VECTOR_COLUMN);
+                jdbcTemplate.execute(CREATE_GIN_INDEX);
+                fullTextEnabled = true;
+            } catch (RuntimeException e) {
+                log.warn("[SearchIndexSchema] 전문 검색 컬럼/인덱스 생성 실패, 포함 검색으로 대체: {}", e.getMessage());
+            }
+        }
+        backfillIfEmpty();
+    }
+
+    private void backfillIfEmpty() {
+        if (searchEntryRepository.count() > 0) {
+            return;
+        }
+        Instant now = Instant.now();
+        Integer indexed = transactionTemplate.execute(status ->
+                searchEntryRepository.backfillDocuments(now)
+                        + searchEntryRepository.backfillTasks(now)
+                        + searchEntryRepository.backfillMeetings(now));
+        if (indexed != null && indexed > 0) {
+            log.info("[SearchIndexSchema] 기존 데이터 {}건 색인", indexed);
+        }
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.connecteamed.server.domain.search.service;
+
+import com.connecteamed.server.domain.search.entity.SearchEntry;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import com.connecteamed.server.domain.search.repository.SearchEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 색인 증분 갱신
+ * - 원본을 쓰는 서비스의 트랜잭션에 그대로 참여하므로 원본과 색인이 같이 커밋/롤백된다
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+
+    private final SearchEntryRepository searchEntryRepository;
+
+    public void index(SearchTargetType type, Long targetId, Long projectId, String title, String body) {
+        searchEntryRepository.findByTargetTypeAndTargetId(type, targetId)
+                .ifPresentOrElse(
+                        entry -> entry.update(title, body),
+                        () -> searchEntryRepository.save(SearchEntry.create(projectId, type, targetId, title, body))
+                );
+    }
+
+    public void remove(SearchTargetType type, Long targetId) {
+        searchEntryRepository.deleteByTarget(type, targetId);
+    }
+}
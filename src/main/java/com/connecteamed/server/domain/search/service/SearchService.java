@@ -0,0 +1,120 @@
+package com.connecteamed.server.domain.search.service;
+
+import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
+import com.connecteamed.server.domain.search.dto.SearchHit;
+import com.connecteamed.server.domain.search.dto.SearchRes;
+import com.connecteamed.server.domain.search.repository.SearchEntryRepository;
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 통합 검색 (TEXT 문서 / 업무 / 회의록)
+ * - 검색어는 글자/숫자 단위로 나누고 모든 단어를 포함(AND)하는 항목만, 각 단어는 접두어 일치
+ * - PostgreSQL 이면 tsvector + GIN 으로 ts_rank 순 정렬, 아니면 포함 검색 후 제목 가중치로 정렬
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 8;
+    private static final int SNIPPET_LENGTH = 200;
+    // 포함 검색은 DB 에서 정렬할 수 없으므로 이만큼만 읽어 메모리에서 정렬
+    private static final int FALLBACK_SCAN_LIMIT = 1000;
+
+    private final SearchEntryRepository searchEntryRepository;
+    private final SearchIndexSchema searchIndexSchema;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final CurrentMemberProvider currentMemberProvider;
+
+    public SearchRes search(Long projectId, String loginId, String q, Integer page, Integer size) {
+        Long memberId = currentMemberProvider.getMemberId(loginId);
+        if (projectMemberRepository.findByProject_IdAndMember_Id(projectId, memberId).isEmpty()) {
+            throw new GeneralException(GeneralErrorCode.FORBIDDEN, "해당 프로젝트의 멤버가 아닙니다.");
+        }
+
+        List<String> terms = parseTerms(q);
+        if (terms.isEmpty()) {
+            throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "검색어를 입력해주세요.");
+        }
+
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        int pageSize = KeysetCursor.pageSize(size);
+        int offset = pageNumber * pageSize;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<SearchHit> hits = searchIndexSchema.isFullTextEnabled()
+                ? searchEntryRepository.searchFullText(projectId, toTsQuery(terms), offset, pageSize + 1)
+                : rankContaining(searchEntryRepository.searchContaining(projectId, terms, FALLBACK_SCAN_LIMIT), terms, offset, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        List<SearchRes.Item> items = hits.stream()
+                .limit(pageSize)
+                .map(hit -> new SearchRes.Item(hit.type().name(), hit.targetId(), hit.title(), snippet(hit.body()), hit.score()))
+                .toList();
+        return new SearchRes(items, pageNumber, pageSize, hasNext);
+    }
+
+    static List<String> parseTerms(String q) {
+        if (q == null) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD.split(q.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isBlank())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    // parseTerms 를 거친 단어는 글자/숫자뿐이므로 tsquery 문법 문자가 섞이지 않는다
+    static String toTsQuery(List<String> terms) {
+        return terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    private static List<SearchHit> rankContaining(List<SearchHit> hits, List<String> terms, int offset, int limit) {
+        return hits.stream()
+                .map(hit -> new SearchHit(hit.type(), hit.targetId(), hit.title(), hit.body(), score(hit, terms)))
+                .sorted(Comparator.comparingDouble(SearchHit::score).reversed())
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    // 제목에 있으면 2, 본문에 있으면 1 (단어별 합)
+    private static double score(SearchHit hit, List<String> terms) {
+        String title = hit.title() == null ? "" : hit.title().toLowerCase(Locale.ROOT);
+        String body = hit.body() == null ? "" : hit.body().toLowerCase(Locale.ROOT);
+        double score = 0;
+        for (String term : terms) {
+            if (title.contains(term)) {
+                score += 2;
+            }
+            if (body.contains(term)) {
+                score += 1;
+            }
+        }
+        return score;
+    }
+
+    private static String snippet(String body) {
+        if (body == null || body.length() <= SNIPPET_LENGTH) {
+            return body;
+        }
+        return body.substring(0, SNIPPET_LENGTH);
+    }
+}
@@ -8,6 +8,7 @@ import com.connecteamed.server.domain.task.service.CompletedTaskService;
 import com.connecteamed.server.global.apiPayload.ApiResponse;
 import com.connecteamed.server.global.apiPayload.code.GeneralSuccessCode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -20,10 +21,16 @@ public class CompletedTaskController {
 
     private final CompletedTaskService completedTaskService;
 
-    @Operation(summary = "완료한 업무 목록 조회", description = "프로젝트 내 상태가 DONE인 업무 리스트를 반환합니다.")
+    @Operation(summary = "완료한 업무 목록 조회", description = "프로젝트 내 상태가 DONE인 업무 리스트를 페이지 단위로 반환합니다.")
     @GetMapping("/projects/{projectId}/tasks/completed")
-    public ApiResponse<CompletedTaskListRes> getCompletedTasks(@PathVariable Long projectId) {
-        return ApiResponse.onSuccess(GeneralSuccessCode._OK, completedTaskService.getCompletedTasks(projectId));
+    public ApiResponse<CompletedTaskListRes> getCompletedTasks(
+            @PathVariable Long projectId,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size
+    ) {
+        return ApiResponse.onSuccess(GeneralSuccessCode._OK, completedTaskService.getCompletedTasks(projectId, cursor, size));
     }
 
     @Operation(summary = "완료한 업무 상태 변경", description = "업무의 진행 상태를 변경합니다.")
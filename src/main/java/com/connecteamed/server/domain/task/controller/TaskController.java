@@ -2,6 +2,7 @@ package com.connecteamed.server.domain.task.controller;
 
 import com.connecteamed.server.domain.task.code.TaskSuccessCode;
 import com.connecteamed.server.domain.task.dto.*;
+import com.connecteamed.server.domain.task.enums.TaskStatus;
 import com.connecteamed.server.domain.task.service.TaskService;
 import com.connecteamed.server.global.apiPayload.ApiResponse;
 import com.connecteamed.server.global.apiPayload.code.GeneralSuccessCode;
@@ -10,11 +11,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -60,7 +63,7 @@ public class TaskController {
         );
     }
 
-    @Operation(summary = "업무 목록 조회(전체)", description = "업무 목록 조회(전체) API입니다.")
+    @Operation(summary = "업무 목록 조회(전체)", description = "업무 목록 조회(전체) API입니다. startDate 순 키셋 페이지네이션이며, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
@@ -72,7 +75,8 @@ public class TaskController {
                     value = """
                     {
                         "status": "success",
-                        "data": [
+                        "data": {
+                            "tasks": [
                             {
                             "taskId": 1,
                             "name": "string",
@@ -97,8 +101,10 @@ public class TaskController {
                                 "memberName": "string2"
                                 }
                             ]
-                            },
-                        ],
+                            }
+                            ],
+                            "nextCursor": "MjAyNi0wMS0yMlQwODozOTowMC4yNjBafDE"
+                        },
                         "message": "업무 목록 조회에 성공하였습니다.",
                         "code": null
                     }
@@ -108,10 +114,23 @@ public class TaskController {
         )
     })
     @GetMapping("/projects/{projectId}/tasks")
-    public ResponseEntity<ApiResponse<List<TaskSummaryRes>>> getProjectTasks(
-            @PathVariable Long projectId
+    public ResponseEntity<ApiResponse<TaskPageRes>> getProjectTasks(
+            @PathVariable Long projectId,
+            @Parameter(description = "업무 상태 필터 (여러 개 가능)", example = "TODO")
+            @RequestParam(required = false) List<TaskStatus> status,
+            @Parameter(description = "담당자 프로젝트 멤버 ID 필터", example = "13")
+            @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "기간 필터 시작 (업무 기간이 겹치는 업무)", example = "2026-01-01T00:00:00Z")
+            @RequestParam(required = false) Instant from,
+            @Parameter(description = "기간 필터 끝 (미포함)", example = "2026-02-01T00:00:00Z")
+            @RequestParam(required = false) Instant to,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size
     ) {
-        List<TaskSummaryRes> projectTasks = taskService.getProjectTasks(projectId);
+        TaskSearchCond cond = new TaskSearchCond(status, assigneeId, from, to);
+        TaskPageRes projectTasks = taskService.getProjectTasks(projectId, cond, cursor, size);
         return ResponseEntity.ok(ApiResponse.onSuccess(TaskSuccessCode.TASK_LIST_GET_SUCCESS, projectTasks));
     }
 
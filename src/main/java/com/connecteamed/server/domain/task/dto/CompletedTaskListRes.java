@@ -4,7 +4,8 @@ import java.time.Instant;
 import java.util.List;
 
 public record CompletedTaskListRes(
-        List<TaskSummary> tasks
+        List<TaskSummary> tasks,
+        String nextCursor
 ) {
     public record TaskSummary(
             Long taskId,
@@ -0,0 +1,9 @@
+package com.connecteamed.server.domain.task.dto;
+
+import java.util.List;
+
+public record TaskPageRes(
+        List<TaskSummaryRes> tasks,
+        String nextCursor
+) {
+}
@@ -0,0 +1,22 @@
+package com.connecteamed.server.domain.task.dto;
+
+import com.connecteamed.server.domain.task.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 프로젝트 업무 목록 조회 조건
+ * - 값이 null(또는 빈 목록)인 조건은 적용하지 않는다
+ * - from/to 는 업무 기간(startDate ~ dueDate)이 구간과 겹치는지로 판단
+ */
+public record TaskSearchCond(
+        List<TaskStatus> statuses,
+        Long assigneeProjectMemberId,
+        Instant from,
+        Instant to
+) {
+    public static TaskSearchCond empty() {
+        return new TaskSearchCond(null, null, null, null);
+    }
+}
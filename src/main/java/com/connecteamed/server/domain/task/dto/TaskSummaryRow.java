@@ -0,0 +1,23 @@
+package com.connecteamed.server.domain.task.dto;
+
+import com.connecteamed.server.domain.task.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 업무 목록 조회용 프로젝션 (엔티티를 만들지 않고 조회)
+ * - 담당자는 페이지의 업무 ID 로 따로 조회해 toSummaryRes 에 넘긴다
+ */
+public record TaskSummaryRow(
+        Long taskId,
+        String name,
+        String content,
+        TaskStatus status,
+        Instant startDate,
+        Instant dueDate
+) {
+    public TaskSummaryRes toSummaryRes(List<TaskAssigneeRes> assignees) {
+        return new TaskSummaryRes(taskId, name, content, status, startDate, dueDate, assignees);
+    }
+}
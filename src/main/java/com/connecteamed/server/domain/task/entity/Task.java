@@ -16,7 +16,14 @@ import java.util.UUID;
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @Getter
-@Table(name= "task")
+@Table(name= "task",
+        indexes = {
+                // 대시보드 다가오는 업무 키셋 조회용
+                @Index(name = "idx_task_due_date_id", columnList = "due_date, id"),
+                // 프로젝트 업무 목록 키셋 조회용
+                @Index(name = "idx_task_project_start_date_id", columnList = "project_id, start_date, id")
+        }
+)
 public class Task extends BaseEntity {
 
     @Id
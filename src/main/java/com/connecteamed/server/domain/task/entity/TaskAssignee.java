@@ -18,6 +18,10 @@ import lombok.*;
                 name="uk_task_assignee_task_member",
                 columnNames={"task_id","project_member_id"}
         )
+        },
+        indexes = {
+                // 담당자 기준 업무 조회용 (유니크 제약은 task_id 가 선행 컬럼)
+                @Index(name = "idx_task_assignee_project_member_task", columnList = "project_member_id, task_id")
         }
 )
 public class TaskAssignee extends BaseEntity {
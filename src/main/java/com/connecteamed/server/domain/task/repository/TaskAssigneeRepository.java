@@ -20,11 +20,9 @@ public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, Long
   
     List<TaskAssignee> findAllByTaskId(Long taskId);
 
-    List<TaskAssignee> findAllByTaskIdIn(List<Long> taskIds);
-
     @Query("SELECT ta FROM TaskAssignee ta " +
         "JOIN FETCH ta.projectMember pm " +
         "JOIN FETCH pm.member " +
-        "WHERE ta.task IN :tasks")
-    List<TaskAssignee> findAllByTaskInWithDetails(@Param("tasks") List<Task> tasks);
+        "WHERE ta.task.id = :taskId")
+    List<TaskAssignee> findAllByTaskIdWithDetails(@Param("taskId") Long taskId);
 }
@@ -0,0 +1,27 @@
+package com.connecteamed.server.domain.task.repository;
+
+import com.connecteamed.server.domain.task.dto.TaskAssigneeRes;
+import com.connecteamed.server.domain.task.dto.TaskSearchCond;
+import com.connecteamed.server.domain.task.dto.TaskSummaryRow;
+import com.connecteamed.server.global.util.KeysetCursor;
+
+import java.util.List;
+import java.util.Map;
+
+public interface TaskQueryRepository {
+
+    /**
+     * 프로젝트 업무 목록 조회 (startDate ASC, id ASC)
+     * - 업무 목록/완료 업무 목록이 함께 사용하는 단일 조회 경로
+     * - 담당자는 findAssigneesByTaskIds 로 페이지 단위로 따로 가져온다
+     * @param cursor 이전 페이지 마지막 업무의 (startDate, id), 첫 페이지면 null
+     * @param limit 최대 조회 건수, null 이면 제한 없음
+     */
+    List<TaskSummaryRow> findProjectTaskRows(Long projectId, TaskSearchCond cond, KeysetCursor cursor, Integer limit);
+
+    /**
+     * 업무별 담당자 (projectMemberId 순), 담당자가 없는 업무는 키가 없다
+     * @param taskIds 한 페이지의 업무 ID
+     */
+    Map<Long, List<TaskAssigneeRes>> findAssigneesByTaskIds(List<Long> taskIds);
+}
@@ -0,0 +1,91 @@
+package com.connecteamed.server.domain.task.repository;
+
+import com.connecteamed.server.domain.task.dto.TaskAssigneeRes;
+import com.connecteamed.server.domain.task.dto.TaskSearchCond;
+import com.connecteamed.server.domain.task.dto.TaskSummaryRow;
+import com.connecteamed.server.global.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필터 조합에 따라 JPQL 을 동적으로 만든다
+ * - 사용하지 않는 조건은 WHERE 절에서 아예 빠지므로 null 파라미터 타입 추론 문제가 없다
+ * - 담당자는 페이지의 업무 ID 로 IN 조회 한 번 (업무 목록은 업무당 한 행, GROUP BY 없이 인덱스 순서대로 limit)
+ */
+public class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<TaskSummaryRow> findProjectTaskRows(Long projectId, TaskSearchCond cond, KeysetCursor cursor, Integer limit) {
+        StringBuilder jpql = new StringBuilder("SELECT new com.connecteamed.server.domain.task.dto.TaskSummaryRow(" +
+                "t.id, t.name, t.content, t.status, t.startDate, t.dueDate) " +
+                "FROM Task t " +
+                "WHERE t.project.id = :projectId " +
+                "AND t.deletedAt IS NULL ");
+        Map<String, Object> params = new HashMap<>();
+        params.put("projectId", projectId);
+
+        if (cond.statuses() != null && !cond.statuses().isEmpty()) {
+            jpql.append("AND t.status IN :statuses ");
+            params.put("statuses", cond.statuses());
+        }
+        if (cond.assigneeProjectMemberId() != null) {
+            jpql.append("AND EXISTS (SELECT 1 FROM TaskAssignee fa " +
+                    "WHERE fa.task = t AND fa.projectMember.id = :assigneeId) ");
+            params.put("assigneeId", cond.assigneeProjectMemberId());
+        }
+        // 기간 필터: 업무 기간이 [from, to) 와 겹치는 업무
+        if (cond.from() != null) {
+            jpql.append("AND t.dueDate >= :from ");
+            params.put("from", cond.from());
+        }
+        if (cond.to() != null) {
+            jpql.append("AND t.startDate < :to ");
+            params.put("to", cond.to());
+        }
+        if (cursor != null) {
+            jpql.append("AND (t.startDate > :cursorAt OR (t.startDate = :cursorAt AND t.id > :cursorId)) ");
+            params.put("cursorAt", cursor.at());
+            params.put("cursorId", cursor.id());
+        }
+        jpql.append("ORDER BY t.startDate ASC, t.id ASC");
+
+        TypedQuery<TaskSummaryRow> query = em.createQuery(jpql.toString(), TaskSummaryRow.class);
+        params.forEach(query::setParameter);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Map<Long, List<TaskAssigneeRes>> findAssigneesByTaskIds(List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = em.createQuery("SELECT ta.task.id, pm.id, m.id, coalesce(m.name, '') " +
+                        "FROM TaskAssignee ta " +
+                        "JOIN ta.projectMember pm " +
+                        "JOIN pm.member m " +
+                        "WHERE ta.task.id IN :taskIds " +
+                        "ORDER BY pm.id", Tuple.class)
+                .setParameter("taskIds", taskIds)
+                .getResultList();
+
+        Map<Long, List<TaskAssigneeRes>> assignees = new HashMap<>();
+        for (Tuple row : rows) {
+            assignees.computeIfAbsent(row.get(0, Long.class), taskId -> new ArrayList<>())
+                    .add(new TaskAssigneeRes(row.get(1, Long.class), row.get(2, Long.class), row.get(3, String.class)));
+        }
+        return assignees;
+    }
+}
@@ -1,6 +1,7 @@
 package com.connecteamed.server.domain.task.repository;
 
 import com.connecteamed.server.domain.task.entity.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,15 +11,11 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskQueryRepository {
 
     Optional<Task> findByIdAndDeletedAtIsNull(Long id);
 
-    // TODO: 업무목록 조회 & 완료된 업무 목록 조회 -> 하나로 통일 필요
-    List<Task> findAllByProject_IdAndDeletedAtIsNullOrderByStartDateAsc(Long projectId);
-  
-    List<Task> findAllByProjectIdAndStatusAndDeletedAtIsNull(Long projectId, TaskStatus status);
-
+    // 대시보드 다가오는 업무 (키셋 페이지네이션: dueDate ASC, id ASC)
     @Query("SELECT DISTINCT t FROM Task t " +
             "JOIN FETCH t.project p " +
             "JOIN t.assignees ta " +
@@ -27,10 +24,29 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "WHERE m.loginId = :userId " +
             "AND t.status IN :statuses " +
             "AND t.deletedAt IS NULL " +
-            "ORDER BY t.dueDate ASC")
+            "ORDER BY t.dueDate ASC, t.id ASC")
     List<Task> findUpcomingTasksByUserId(
             @Param("userId") String userId,
-            @Param("statuses") List<TaskStatus> statuses
+            @Param("statuses") List<TaskStatus> statuses,
+            Pageable pageable
+    );
+
+    @Query("SELECT DISTINCT t FROM Task t " +
+            "JOIN FETCH t.project p " +
+            "JOIN t.assignees ta " +
+            "JOIN ta.projectMember pm " +
+            "JOIN pm.member m " +
+            "WHERE m.loginId = :userId " +
+            "AND t.status IN :statuses " +
+            "AND t.deletedAt IS NULL " +
+            "AND (t.dueDate > :cursorAt OR (t.dueDate = :cursorAt AND t.id > :cursorId)) " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<Task> findUpcomingTasksByUserIdAfter(
+            @Param("userId") String userId,
+            @Param("statuses") List<TaskStatus> statuses,
+            @Param("cursorAt") Instant cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
     );
 
     @Query("SELECT DISTINCT t FROM Task t " +
@@ -1,9 +1,13 @@
 package com.connecteamed.server.domain.task.service;
 
-import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import com.connecteamed.server.domain.search.service.SearchIndexer;
 import com.connecteamed.server.domain.task.dto.CompletedTaskDetailRes;
 import com.connecteamed.server.domain.task.dto.CompletedTaskListRes;
 import com.connecteamed.server.domain.task.dto.CompletedTaskUpdateReq;
+import com.connecteamed.server.domain.task.dto.TaskAssigneeRes;
+import com.connecteamed.server.domain.task.dto.TaskSearchCond;
+import com.connecteamed.server.domain.task.dto.TaskSummaryRow;
 import com.connecteamed.server.domain.task.entity.Task;
 import com.connecteamed.server.domain.task.entity.TaskAssignee;
 import com.connecteamed.server.domain.task.entity.TaskNote;
@@ -13,16 +17,15 @@ import com.connecteamed.server.domain.task.repository.TaskNoteRepository;
 import com.connecteamed.server.domain.task.repository.TaskRepository;
 import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
-import com.connecteamed.server.global.util.SecurityUtil;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,46 +35,43 @@ public class CompletedTaskService {
     private final TaskRepository taskRepository;
     private final TaskAssigneeRepository taskAssigneeRepository;
     private final TaskNoteRepository taskNoteRepository;
-    private final MemberRepository  memberRepository;
-
-    // 완료한 업무 목록 조회
-    public CompletedTaskListRes getCompletedTasks(Long projectId) {
-        List<Task> completedTasks = taskRepository.findAllByProjectIdAndStatusAndDeletedAtIsNull(
-                projectId,
-                TaskStatus.DONE
-        );
-
-        if (completedTasks.isEmpty()) {
-            return new CompletedTaskListRes(Collections.emptyList());
+    private final CurrentMemberProvider currentMemberProvider;
+    private final SearchIndexer searchIndexer;
+
+    // 완료한 업무 목록 조회 (키셋 페이지네이션)
+    public CompletedTaskListRes getCompletedTasks(Long projectId, String cursor, Integer size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        // 업무 목록 조회와 같은 쿼리를 DONE 상태 조건으로 사용, 다음 페이지 확인용으로 한 건 더 조회
+        TaskSearchCond cond = new TaskSearchCond(List.of(TaskStatus.DONE), null, null, null);
+        List<TaskSummaryRow> rows = taskRepository.findProjectTaskRows(projectId, cond, keyset, pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            TaskSummaryRow last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.startDate(), last.taskId()).encode();
         }
 
-        List<Long> taskIds = completedTasks.stream()
-                .map(Task::getId)
-                .toList();
-
-        List<TaskAssignee> allAssignees = taskAssigneeRepository.findAllByTaskIdIn(taskIds);
-
-        Map<Long, List<String>> assigneeMap = allAssignees.stream()
-                .collect(Collectors.groupingBy(
-                        assignee -> assignee.getTask().getId(),
-                        Collectors.mapping(
-                                assignee -> assignee.getProjectMember().getMember().getName(),
-                                Collectors.toList()
-                        )
-                ));
-
-        List<CompletedTaskListRes.TaskSummary> summaries = completedTasks.stream()
-                .map(task -> new CompletedTaskListRes.TaskSummary(
-                        task.getId(),
-                        task.getName(),
-                        task.getContent(),
-                        task.getStartDate(),
-                        task.getDueDate(),
-                        task.getStatus().name(),
-                        assigneeMap.getOrDefault(task.getId(), Collections.emptyList())
+        // 담당자 이름은 페이지의 업무 ID 로 한 번에 조회
+        Map<Long, List<TaskAssigneeRes>> assignees = taskRepository.findAssigneesByTaskIds(
+                rows.stream().map(TaskSummaryRow::taskId).toList());
+
+        List<CompletedTaskListRes.TaskSummary> summaries = rows.stream()
+                .map(row -> new CompletedTaskListRes.TaskSummary(
+                        row.taskId(),
+                        row.name(),
+                        row.content(),
+                        row.startDate(),
+                        row.dueDate(),
+                        row.status().name(),
+                        assignees.getOrDefault(row.taskId(), List.of()).stream()
+                                .map(TaskAssigneeRes::memberName)
+                                .toList()
                 )).toList();
 
-        return new CompletedTaskListRes(summaries);
+        return new CompletedTaskListRes(summaries, nextCursor);
     }
 
     // 완료한 업무 상태 변경
@@ -89,7 +89,7 @@ public class CompletedTaskService {
 
         List<String> assigneeNames = getAssigneeNames(taskId);
 
-        Long currentMemberId = getCurrentUserId();
+        Long currentMemberId = currentMemberProvider.getMemberId();
 
         String myNote = taskNoteRepository.findByTaskIdAndTaskAssignee_ProjectMember_Id(taskId, currentMemberId)
                 .map(TaskNote::getContent)
@@ -113,8 +113,9 @@ public class CompletedTaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new GeneralException(GeneralErrorCode.NOT_FOUND, "해당 ID의 업무를 찾을 수 없습니다."));
         task.updateInfo(req.name(), req.content());
+        searchIndexer.index(SearchTargetType.TASK, task.getId(), task.getProject().getId(), task.getName(), task.getContent());
 
-        Long currentMemberId = getCurrentUserId();
+        Long currentMemberId = currentMemberProvider.getMemberId();
 
         TaskNote note = taskNoteRepository.findByTaskIdAndTaskAssignee_ProjectMember_Id(taskId, currentMemberId)
                 .orElseGet(() -> createNewNote(task, currentMemberId));
@@ -128,10 +129,11 @@ public class CompletedTaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new GeneralException(GeneralErrorCode.NOT_FOUND, "해당 ID의 업무를 찾을 수 없습니다."));
         task.softDelete();
+        searchIndexer.remove(SearchTargetType.TASK, taskId);
     }
 
     private List<String> getAssigneeNames(Long taskId) {
-        return taskAssigneeRepository.findAllByTaskId(taskId).stream()
+        return taskAssigneeRepository.findAllByTaskIdWithDetails(taskId).stream()
                 .map(a -> a.getProjectMember().getMember().getName())
                 .toList();
     }
@@ -148,11 +150,4 @@ public class CompletedTaskService {
                 .content("")
                 .build());
     }
-
-    private Long getCurrentUserId() {
-        String loginId = SecurityUtil.getCurrentLoginId();
-        return memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(GeneralErrorCode.UNAUTHORIZED, "인증된 사용자 정보를 찾을 수 없습니다."))
-                .getId();
-    }
 }
@@ -8,7 +8,7 @@ public interface TaskService {
 
     Long createTask(Long projectId, TaskCreateReq req);
 
-    List<TaskSummaryRes> getProjectTasks(Long projectId);
+    TaskPageRes getProjectTasks(Long projectId, TaskSearchCond cond, String cursor, Integer size);
 
     TaskDetailRes getTaskDetail(Long taskId);
 
@@ -4,6 +4,8 @@ import com.connecteamed.server.domain.project.entity.Project;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import com.connecteamed.server.domain.search.service.SearchIndexer;
 import com.connecteamed.server.domain.task.dto.*;
 import com.connecteamed.server.domain.task.entity.Task;
 import com.connecteamed.server.domain.task.entity.TaskAssignee;
@@ -11,6 +13,7 @@ import com.connecteamed.server.domain.task.exception.TaskErrorCode;
 import com.connecteamed.server.domain.task.exception.TaskException;
 import com.connecteamed.server.domain.task.repository.TaskAssigneeRepository;
 import com.connecteamed.server.domain.task.repository.TaskRepository;
+import com.connecteamed.server.global.util.KeysetCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +34,7 @@ public class TaskServiceImpl implements TaskService {
 
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final SearchIndexer searchIndexer;
 
     //업무 추가
     @Override
@@ -55,41 +59,39 @@ public class TaskServiceImpl implements TaskService {
         List<Long> assigneeIds = req.assigneeProjectMemberIds() == null ? List.of() : req.assigneeProjectMemberIds();
         attachAssignees(saved, projectId, assigneeIds);
 
+        searchIndexer.index(SearchTargetType.TASK, saved.getId(), projectId, saved.getName(), saved.getContent());
+
         return saved.getId();
     }
 
-    //업무 목록 조회(전체)
+    //업무 목록 조회(전체, 키셋 페이지네이션)
     @Override
-    public List<TaskSummaryRes> getProjectTasks(Long projectId) {
-        projectRepository.findById(projectId)
-                .orElseThrow(() -> new TaskException(TaskErrorCode.PROJECT_NOT_FOUND));
+    public TaskPageRes getProjectTasks(Long projectId, TaskSearchCond cond, String cursor, Integer size) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new TaskException(TaskErrorCode.PROJECT_NOT_FOUND);
+        }
+
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
 
-        List<Task> tasks = taskRepository.findAllByProject_IdAndDeletedAtIsNullOrderByStartDateAsc(projectId);
-        if (tasks.isEmpty()) return List.of();
-
-        // 1번 쿼리로 담당자/멤버까지 한 번에 로딩
-        List<TaskAssignee> allAssignees = taskAssigneeRepository.findAllByTaskInWithDetails(tasks);
-
-        // taskId(또는 task) 기준으로 grouping
-        var assigneeMap = allAssignees.stream()
-                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
-
-        List<TaskSummaryRes> result = new ArrayList<>(tasks.size());
-        for (Task task : tasks) {
-            List<TaskAssignee> tas = assigneeMap.getOrDefault(task.getId(), List.of());
-            List<TaskAssigneeRes> assignees = toAssigneeRes(tas);
-
-            result.add(new TaskSummaryRes(
-                    task.getId(),
-                    task.getName(),
-                    task.getContent(),
-                    task.getStatus(),
-                    task.getStartDate(),
-                    task.getDueDate(),
-                    assignees
-            ));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<TaskSummaryRow> rows = taskRepository.findProjectTaskRows(
+                projectId, cond == null ? TaskSearchCond.empty() : cond, keyset, pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            TaskSummaryRow last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.startDate(), last.taskId()).encode();
         }
-        return result;
+
+        // 담당자는 페이지의 업무 ID 로 한 번에 조회
+        Map<Long, List<TaskAssigneeRes>> assignees = taskRepository.findAssigneesByTaskIds(
+                rows.stream().map(TaskSummaryRow::taskId).toList());
+        List<TaskSummaryRes> result = rows.stream()
+                .map(row -> row.toSummaryRes(assignees.getOrDefault(row.taskId(), List.of())))
+                .toList();
+        return new TaskPageRes(result, nextCursor);
     }
 
     //업무 상세 조회
@@ -157,6 +159,7 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new TaskException(TaskErrorCode.TASK_NOT_FOUND));
 
         task.softDelete();
+        searchIndexer.remove(SearchTargetType.TASK, taskId);
     }
 
     private void attachAssignees(Task task, Long projectId, List<Long> projectMemberIds) {
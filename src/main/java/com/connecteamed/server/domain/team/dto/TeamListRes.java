@@ -3,6 +3,7 @@ package com.connecteamed.server.domain.team.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.io.Serializable;
 import java.time.Instant;
 import java.util.List;
 
@@ -14,7 +15,7 @@ public class TeamListRes {
     @Builder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     @AllArgsConstructor
-    public static class TeamDataList {
+    public static class TeamDataList implements Serializable {
 
         @Schema(description = "참여 중인 팀(프로젝트) 리스트")
         List<TeamInfo> teams;
@@ -24,7 +25,7 @@ public class TeamListRes {
     @Builder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     @AllArgsConstructor
-    public static class TeamInfo {
+    public static class TeamInfo implements Serializable {
         @Schema(description = "팀(프로젝트) ID", example = "1")
         private Long teamId;
         @Schema(description = "팀(프로젝트) 이름", example = "connecteamed")
@@ -1,16 +1,15 @@
 package com.connecteamed.server.domain.team.service;
 
-import com.connecteamed.server.domain.member.code.MemberErrorCode;
-import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.mypage.code.MyPageErrorCode;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.team.code.TeamErrorCode;
 import com.connecteamed.server.domain.team.dto.TeamListRes;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
-import com.connecteamed.server.global.util.SecurityUtil;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,16 +21,16 @@ import java.util.List;
 @Transactional
 public class TeamService {
 
-    private final MemberRepository memberRepository;
+    private final CurrentMemberProvider currentMemberProvider;
     private final ProjectMemberRepository projectMemberRepository;
 
+    // 캐시 키는 요청 사용자의 memberId
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.MY_TEAMS, key = "@currentMemberProvider.getMemberId()")
     public TeamListRes.TeamDataList getMyProjectTeams() {
-        String loginId = SecurityUtil.getCurrentLoginId();
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
+        Long memberId = currentMemberProvider.getMemberId();
 
-        List<ProjectMember> projectMembers = projectMemberRepository.findAllByMemberIdWithProject(member.getId());
+        List<ProjectMember> projectMembers = projectMemberRepository.findAllByMemberIdWithProject(memberId);
 
         List<TeamListRes.TeamInfo> teams = projectMembers.stream()
                 .map(pm -> TeamListRes.TeamInfo.builder()
@@ -9,6 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.Instant;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_blacklisted_token_expiry_date", columnList = "expiry_date")
+})
 @Getter
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 public class BlacklistedToken extends BaseEntity {
@@ -2,12 +2,23 @@ package com.connecteamed.server.domain.token.entity;
 
 import com.connecteamed.server.domain.member.entity.Member;
 import com.connecteamed.server.global.entity.BaseEntity;
+import com.connecteamed.server.global.util.TokenDigest;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
+import java.util.UUID;
 
+/**
+ * 회원별 refresh token
+ * - 토큰 원문은 저장하지 않고 jti(고유 인덱스)와 SHA-256 다이제스트만 보관
+ * - 같은 로그인에서 이어진 토큰들은 familyId 를 공유하고, 직전 jti 는 재사용 탐지에 쓴다
+ */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_previous_jti", columnList = "previous_jti"),
+        @Index(name = "idx_refresh_token_expiry_date", columnList = "expiry_date")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,9 +29,22 @@ public class RefreshToken extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    // 레거시 원문 컬럼 (기동 시 다이제스트로 옮긴 뒤 비운다)
+    @Column
     private String token;
 
+    @Column(name = "jti", length = 36, unique = true)
+    private String jti;
+
+    @Column(name = "token_hash", columnDefinition = "char(" + TokenDigest.HEX_LENGTH + ")", unique = true)
+    private String tokenHash;
+
+    @Column(name = "family_id", length = 36)
+    private String familyId;
+
+    @Column(name = "previous_jti", length = 36)
+    private String previousJti;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -33,12 +57,36 @@ public class RefreshToken extends BaseEntity {
         return expiryDate.isBefore(Instant.now());
     }
 
+    // 로그인: 이전 패밀리를 끊고 새 패밀리 시작
+    public RefreshToken startNewFamily(String newFamilyId, String newJti, String newTokenHash, Instant newExpiryDate) {
+        this.familyId = newFamilyId;
+        this.previousJti = null;
+        return replace(newJti, newTokenHash, newExpiryDate);
+    }
 
-    public RefreshToken updateToken(String newToken, Instant newExpiryDate) {
-        this.token = newToken;
-        this.expiryDate = newExpiryDate;
-        return this;
+    // 재발급: 같은 패밀리 안에서 교체하고 직전 jti 를 남긴다
+    public RefreshToken rotate(String newJti, String newTokenHash, Instant newExpiryDate) {
+        this.previousJti = this.jti;
+        return replace(newJti, newTokenHash, newExpiryDate);
     }
 
+    // 원문만 가진 기존 행을 다이제스트 저장 방식으로 옮긴다
+    public void migrateLegacyToken() {
+        if (this.token == null) {
+            return;
+        }
+        this.tokenHash = TokenDigest.sha256Hex(this.token);
+        if (this.familyId == null) {
+            this.familyId = UUID.randomUUID().toString();
+        }
+        this.token = null;
+    }
 
-}
\ No newline at end of file
+    private RefreshToken replace(String newJti, String newTokenHash, Instant newExpiryDate) {
+        this.jti = newJti;
+        this.tokenHash = newTokenHash;
+        this.expiryDate = newExpiryDate;
+        this.token = null;
+        return this;
+    }
+}
@@ -2,7 +2,30 @@ package com.connecteamed.server.domain.token.repository;
 
 import com.connecteamed.server.domain.token.entity.BlacklistedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedToken, Long> {
     Boolean existsByToken(String token);
+
+    Optional<BlacklistedToken> findByToken(String token);
+
+    // 아직 만료되지 않은 블랙리스트 (메모리 캐시 초기 적재용)
+    List<BlacklistedToken> findAllByExpiryDateAfter(Instant now);
+
+    // 마지막 동기화 이후 다른 인스턴스에서 추가된 블랙리스트
+    List<BlacklistedToken> findAllByCreatedAtAfterAndExpiryDateAfter(Instant since, Instant now);
+
+    // 만료 행을 limit 건씩 삭제 (배치 정리 작업용, 배치마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM blacklisted_token WHERE id IN (" +
+            "SELECT id FROM blacklisted_token WHERE expiry_date < :now ORDER BY expiry_date LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("limit") int limit);
 }
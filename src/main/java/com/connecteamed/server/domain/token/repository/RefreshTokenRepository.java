@@ -2,14 +2,34 @@ package com.connecteamed.server.domain.token.repository;
 
 import com.connecteamed.server.domain.member.entity.Member;
 import com.connecteamed.server.domain.token.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken,Long> {
-    Optional<RefreshToken> findByToken(String refreshToken);
+
+    // 재발급 시 회원 정보까지 한 번에 조회
+    // 같은 토큰으로 동시에 재발급하면 둘 다 교체에 성공하지 않도록 행을 잠근다 (뒤의 요청은 교체된 jti 를 보고 재사용으로 판단)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.member WHERE r.jti = :jti")
+    Optional<RefreshToken> findByJti(@Param("jti") String jti);
+
+    // jti 가 없는 레거시 토큰 조회용 (잠금은 findByJti 와 같은 이유)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.member WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 이미 교체된 토큰이 다시 들어왔는지 확인
+    Optional<RefreshToken> findByPreviousJti(String previousJti);
 
     //기존 토큰 존재 여부 확인
     Optional<RefreshToken> findByMember(Member member);
@@ -19,5 +39,21 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken,Long>
 
     @Transactional
     @Modifying
-    void deleteByToken(String refreshToken);
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 재사용이 탐지된 패밀리 전체 폐기
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    // 다이제스트로 옮겨지지 않은 레거시 행
+    List<RefreshToken> findByTokenHashIsNullAndTokenIsNotNull(Pageable pageable);
+
+    // 만료 행을 limit 건씩 삭제 (배치 정리 작업용, 배치마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE id IN (" +
+            "SELECT id FROM refresh_token WHERE expiry_date < :now ORDER BY expiry_date LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("limit") int limit);
 }
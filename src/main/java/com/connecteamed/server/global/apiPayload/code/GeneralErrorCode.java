@@ -25,6 +25,12 @@ public enum GeneralErrorCode implements BaseErrorCode{
     // 409 Conflict: 서버의 현재 상태와 요청이 충돌함
     CONFLICT(HttpStatus.CONFLICT, "COMMON409", "데이터 충돌이 발생했습니다."),
 
+    // 416 Range Not Satisfiable: 요청한 바이트 범위가 리소스 크기를 벗어남
+    RANGE_NOT_SATISFIABLE(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, "COMMON416", "요청한 범위를 처리할 수 없습니다."),
+
+    // 429 Too Many Requests: 요청이 몰려 처리할 수 없음
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON429", "요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
     // 500 Internal Server Error: 서버 내부 에러
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON500", "예기치 않은 서버 에러가 발생했습니다.");
     ;
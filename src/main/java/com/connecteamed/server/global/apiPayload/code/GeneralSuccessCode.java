@@ -13,6 +13,9 @@ public enum GeneralSuccessCode implements BaseSuccessCode{
     // 201 Created: 새 리소스가 성공적으로 생성됨
     _CREATED(HttpStatus.CREATED, "COMMON201", "리소스가 성공적으로 생성되었습니다."),
 
+    // 202 Accepted: 요청은 받았고 처리는 비동기로 진행
+    _ACCEPTED(HttpStatus.ACCEPTED, "COMMON202", "요청이 접수되었습니다."),
+
     // 204 No Content
     _NO_CONTENT(HttpStatus.NO_CONTENT, "COMMON204", "성공적으로 처리되었으나 본문이 비어있습니다.");
     ;
@@ -0,0 +1,15 @@
+package com.connecteamed.server.global.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 로그인한 회원 ID(Long) 를 주입
+ * ex) public ApiResponse<...> create(@CurrentMember Long memberId, ...)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentMember {
+}
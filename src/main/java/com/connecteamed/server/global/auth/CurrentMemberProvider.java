@@ -0,0 +1,81 @@
+package com.connecteamed.server.global.auth;
+
+import com.connecteamed.server.domain.member.code.MemberErrorCode;
+import com.connecteamed.server.domain.member.entity.Member;
+import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import com.connecteamed.server.global.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 요청 단위로 현재 로그인한 회원을 한 번만 확인하는 holder
+ * - principal 이 CustomUserDetails 면 토큰에 담긴 memberId 를 그대로 사용 (조회 0회)
+ * - 그 외(local 프로파일 테스트 계정, @WithMockUser 등)에는 loginId 로 한 번만 조회 후 요청 끝까지 재사용
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentMemberProvider {
+
+    private final MemberRepository memberRepository;
+
+    private String loginId;
+    private Long memberId;
+    private Member member;
+
+    public String getLoginId() {
+        if (loginId == null) {
+            loginId = SecurityUtil.getCurrentLoginId();
+        }
+        return loginId;
+    }
+
+    public Long getMemberId() {
+        if (memberId == null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null
+                    && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                    && userDetails.memberId() != null) {
+                loginId = userDetails.loginId();
+                memberId = userDetails.memberId();
+            } else {
+                memberId = getMember().getId();
+            }
+        }
+        return memberId;
+    }
+
+    // 컨트롤러에서 loginId 를 넘겨받는 기존 서비스용
+    public Long getMemberId(String loginId) {
+        if (loginId == null || loginId.equals(getLoginId())) {
+            return getMemberId();
+        }
+        return memberRepository.findByLoginId(loginId)
+                .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND))
+                .getId();
+    }
+
+    // 엔티티가 꼭 필요한 경우에만 사용 (요청당 최대 1회 조회)
+    public Member getMember() {
+        if (member == null) {
+            member = (memberId != null
+                    ? memberRepository.findById(memberId)
+                    : memberRepository.findByLoginId(getLoginId()))
+                    .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
+            memberId = member.getId();
+        }
+        return member;
+    }
+
+    // 연관관계 설정/조회 조건용 프록시 (SELECT 없음)
+    public Member getMemberReference() {
+        if (member != null) {
+            return member;
+        }
+        return memberRepository.getReferenceById(getMemberId());
+    }
+}
@@ -2,33 +2,81 @@ package com.connecteamed.server.global.auth;
 
 
 import com.connecteamed.server.domain.member.entity.Member;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
-public record CustomUserDetails(Member member) implements UserDetails {
+/**
+ * 인증된 사용자 정보
+ * - 로그인 시에는 Member 엔티티로부터, 인증 필터에서는 토큰 Claims 로부터 생성
+ * - 엔티티를 들고 다니지 않으므로 요청마다 Member 를 조회할 필요가 없다
+ */
+public record CustomUserDetails(
+        Long memberId,
+        UUID publicId,
+        String loginId,
+        String password,
+        List<GrantedAuthority> authorities
+) implements UserDetails {
 
+    // 모든 유저에게 "USER"라는 기본 권한 부여.
+    // 나중에 관리자 기능이 필요해지면 엔티티에 필드를 추가
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES =
+            Collections.singletonList(new SimpleGrantedAuthority("USER"));
+
+    public CustomUserDetails(Member member) {
+        this(member.getId(), member.getPublicId(), member.getLoginId(), member.getPassword(), DEFAULT_AUTHORITIES);
+    }
+
+    // 액세스 토큰의 Claims 로 principal 복원 (DB 조회 없음)
+    public static CustomUserDetails fromClaims(Claims claims) {
+        String publicId = claims.get(JwtUtil.CLAIM_PUBLIC_ID, String.class);
+        String roles = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+
+        List<GrantedAuthority> authorities = roles == null || roles.isBlank()
+                ? DEFAULT_AUTHORITIES
+                : Arrays.stream(roles.split(","))
+                        .map(String::trim)
+                        .filter(role -> !role.isEmpty())
+                        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                        .toList();
+
+        return new CustomUserDetails(
+                claims.get(JwtUtil.CLAIM_MEMBER_ID, Long.class),
+                publicId == null ? null : UUID.fromString(publicId),
+                claims.getSubject(),
+                null,
+                authorities
+        );
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // 모든 유저에게 "USER"라는 기본 권한 부여.
-        // 나중에 관리자 기능이 필요해지면 엔티티에 필드를 추가
-        return Collections.singletonList(new SimpleGrantedAuthority("USER"));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
         // 이메일이 아닌 로그인 ID(또는 식별값)를 반환하도록 설정
-        return member.getLoginId();
+        return loginId;
+    }
+
+    // 비밀번호 해시가 로그에 남지 않도록 제외
+    @Override
+    public String toString() {
+        return "CustomUserDetails[memberId=" + memberId + ", loginId=" + loginId + ", authorities=" + authorities + "]";
     }
 
     // 아래 계정 상태 값들은 우선 모두 true로 설정합니다.
@@ -36,4 +84,4 @@ public record CustomUserDetails(Member member) implements UserDetails {
     @Override public boolean isAccountNonLocked() { return true; }
     @Override public boolean isCredentialsNonExpired() { return true; }
     @Override public boolean isEnabled() { return true; }
-}
\ No newline at end of file
+}
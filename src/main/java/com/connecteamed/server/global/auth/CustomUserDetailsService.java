@@ -4,15 +4,24 @@ package com.connecteamed.server.global.auth;
 import com.connecteamed.server.domain.member.code.MemberErrorCode;
 import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final boolean statelessPrincipal;
+
+    public CustomUserDetailsService(
+            MemberRepository memberRepository,
+            @Value("${app.auth.stateless-principal:true}") boolean statelessPrincipal
+    ) {
+        this.memberRepository = memberRepository;
+        this.statelessPrincipal = statelessPrincipal;
+    }
 
     @Override
     public CustomUserDetails loadUserByUsername(String loginId) throws GeneralException {
@@ -20,4 +29,13 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(CustomUserDetails::new)
                 .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
     }
+
+    // 인증 필터용: 토큰에 회원 정보가 들어있으면 DB 조회 없이 principal 생성
+    public CustomUserDetails loadUserByClaims(Claims claims) throws GeneralException {
+        if (statelessPrincipal && claims.get(JwtUtil.CLAIM_MEMBER_ID) != null) {
+            return CustomUserDetails.fromClaims(claims);
+        }
+        // 이전 버전에서 발급된 토큰이거나 stateless 모드가 꺼진 경우
+        return loadUserByUsername(claims.getSubject());
+    }
 }
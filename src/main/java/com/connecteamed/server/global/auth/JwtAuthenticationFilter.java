@@ -1,9 +1,9 @@
 package com.connecteamed.server.global.auth;
-import com.connecteamed.server.domain.token.repository.BlacklistedTokenRepository;
 import com.connecteamed.server.global.apiPayload.code.BaseErrorCode;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
 import com.connecteamed.server.global.auth.exception.code.AuthErrorCode;
 import com.connecteamed.server.global.util.FilterResponseUtils;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +20,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
-    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
     private final FilterResponseUtils filterResponseUtils;
 
     @Override
@@ -37,17 +37,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authorization.substring(7);
 
             try {
-                // 1. 블랙리스트 체크
-                if (blacklistedTokenRepository.existsByToken(token)) {
+                // 1. 블랙리스트 체크 (Bloom filter 에 걸린 경우에만 DB 조회)
+                if (revokedTokenRegistry.isRevoked(token)) {
                     throw new GeneralException(AuthErrorCode.INVALID_TOKEN); // 혹은 별도 에러코드
                 }
 
-                // 2. 상세 검증-> 문제시 예외 throw 지점
-                jwtUtil.validateToken(token);
+                // 2. 상세 검증-> 문제시 예외 throw 지점 (서명 검증은 요청당 최대 1회)
+                Claims claims = jwtUtil.validateToken(token);
 
-                // 3. 인증 처리
-                String loginId = jwtUtil.getUserId(token);
-                CustomUserDetails userDetails = customUserDetailsService.loadUserByUsername(loginId);
+                // 3. 인증 처리 (토큰 Claims 로 principal 복원, DB 조회 없음)
+                CustomUserDetails userDetails = customUserDetailsService.loadUserByClaims(claims);
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
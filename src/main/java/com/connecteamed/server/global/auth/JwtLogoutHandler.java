@@ -3,6 +3,7 @@ package com.connecteamed.server.global.auth;
 import com.connecteamed.server.domain.token.entity.BlacklistedToken;
 import com.connecteamed.server.domain.token.repository.BlacklistedTokenRepository;
 import com.connecteamed.server.domain.token.repository.RefreshTokenRepository;
+import com.connecteamed.server.global.util.TokenDigest;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ public class JwtLogoutHandler implements LogoutHandler {
     private final BlacklistedTokenRepository blacklistedTokenRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtUtil jwtUtil;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -36,11 +38,14 @@ public class JwtLogoutHandler implements LogoutHandler {
                 if (!blacklistedTokenRepository.existsByToken(token)) {
                     blacklistedTokenRepository.save(new BlacklistedToken(token, expiryDate));
                 }
+
+                // 3. 메모리 블랙리스트에도 즉시 반영
+                revokedTokenRegistry.register(token, expiryDate);
             }
         }
 
         if (refreshToken != null) {
-            refreshTokenRepository.deleteByToken(refreshToken);
+            refreshTokenRepository.deleteByTokenHash(TokenDigest.sha256Hex(refreshToken));
         }
     }
 }
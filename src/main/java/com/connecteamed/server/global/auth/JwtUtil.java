@@ -5,7 +5,6 @@ import com.connecteamed.server.global.auth.exception.code.AuthErrorCode;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
@@ -21,36 +20,50 @@ import java.util.stream.Collectors;
 @Component
 public class JwtUtil {
 
+    // 요청마다 Member 를 조회하지 않도록 principal 복원에 필요한 값을 토큰에 담는다
+    public static final String CLAIM_MEMBER_ID = "mid";
+    public static final String CLAIM_PUBLIC_ID = "pid";
+    public static final String CLAIM_ROLE = "role";
+
     private final SecretKey secretKey;
     private final Duration accessExpiration;
     private final Duration refreshExpiration;
+    private final JwtParser jwtParser;
+    private final VerifiedClaimsCache claimsCache;
 
     public JwtUtil(
             @Value("${jwt.token.secret-key}") String secret,
             @Value("${jwt.token.expiration.access}") Long accessExpiration,
-            @Value("${jwt.token.expiration.refresh}") Long refreshExpiration
+            @Value("${jwt.token.expiration.refresh}") Long refreshExpiration,
+            @Value("${jwt.token.claims-cache.max-size:10000}") int claimsCacheMaxSize
     ) {
         // [1] 문자열 키를 HMAC-SHA 알고리즘에 적합한 SecretKey 객체로 변환
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessExpiration = Duration.ofMillis(accessExpiration);
         this.refreshExpiration = Duration.ofMillis(refreshExpiration);
+        // 파서는 불변 객체이므로 한 번만 만들어 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .clockSkewSeconds(60) // 시간 오차 허용 (네트워크 지연 등 대비)
+                .build();
+        this.claimsCache = new VerifiedClaimsCache(claimsCacheMaxSize);
     }
 
     // [2] AccessToken 생성 (이메일 대신 ID/Username 사용)
     public String createAccessToken(CustomUserDetails user) {
-        return createToken(user, accessExpiration);
+        return createToken(user, accessExpiration, null);
     }
 
-    // RefreshToken 생성
-    public String createRefreshToken(CustomUserDetails user) {
-        return createToken(user, refreshExpiration);
+    // RefreshToken 생성 (jti 로 DB 행을 찾으므로 매번 새로 발급)
+    public String createRefreshToken(CustomUserDetails user, String jti) {
+        return createToken(user, refreshExpiration, jti);
     }
 
     // [3] 토큰에서 사용자 식별자(Subject) 가져오기
     public String getUserId(String token) {
         try {
             //유효하지 않을 시 getClaim은 jwtexception throw
-            return getClaims(token).getPayload().getSubject();
+            return getClaims(token).getSubject();
         } catch (JwtException e) {
             return null;
         }
@@ -68,7 +81,7 @@ public class JwtUtil {
     }
 
     // [5] 실제 토큰 생성 로직
-    private String createToken(CustomUserDetails user, Duration expiration) {
+    private String createToken(CustomUserDetails user, Duration expiration, String jti) {
         Instant now = Instant.now();
 
         // 권한 정보 추출 (예: ROLE_USER, ROLE_ADMIN)
@@ -78,37 +91,36 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .subject(user.getUsername()) // 유저의 고유 식별자(ID)를 넣습니다.
-                .claim("role", authorities)  // 커스텀 클레임으로 권한 추가
+                .claim(CLAIM_MEMBER_ID, user.memberId())
+                .claim(CLAIM_PUBLIC_ID, user.publicId() == null ? null : user.publicId().toString())
+                .claim(CLAIM_ROLE, authorities)  // 커스텀 클레임으로 권한 추가
+                .id(jti)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plus(expiration)))
                 .signWith(secretKey)
                 .compact();
     }
 
-    // [6] 토큰 파싱 및 검증
-    private Jws<Claims> getClaims(String token) throws JwtException {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .clockSkewSeconds(60) // 시간 오차 허용 (네트워크 지연 등 대비)
-                .build()
-                .parseSignedClaims(token);
+    // [6] 토큰 파싱 및 검증 (검증된 Claims 는 exp 까지 캐시)
+    private Claims getClaims(String token) throws JwtException {
+        Claims cached = token == null ? null : claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        claimsCache.put(token, claims);
+        return claims;
     }
 
 //토큰 내부에서 만료시간을 꺼내오는 로직
     public Instant getExpiryDate(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getExpiration().toInstant();
+        return getClaims(token).getExpiration().toInstant();
     }
 
-    //예외 처리를 위한 토큰 유효처리함수
-    public void validateToken(String token) {
+    //예외 처리를 위한 토큰 유효처리함수 (검증된 Claims 반환)
+    public Claims validateToken(String token) {
         try {
-            getClaims(token); // 여기서 ExpiredJwtException 등이 발생
+            return getClaims(token); // 여기서 ExpiredJwtException 등이 발생
         } catch (ExpiredJwtException e) {
             throw new GeneralException(AuthErrorCode.TOKEN_EXPIRED);
         } catch (JwtException | IllegalArgumentException e) {
@@ -116,6 +128,17 @@ public class JwtUtil {
         }
     }
 
+    // refresh token 검증 (재발급 API 전용 에러 코드로 변환)
+    public Claims validateRefreshToken(String token) {
+        try {
+            return getClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw new GeneralException(AuthErrorCode.REFRESH_TOKEN_EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        }
+    }
+
 //서비스 만료시간 계산 위해 호출
 public Duration getRefreshExpiration() {
     return this.refreshExpiration;
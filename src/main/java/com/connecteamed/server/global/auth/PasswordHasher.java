@@ -0,0 +1,132 @@
+package com.connecteamed.server.global.auth;
+
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀
+ * - BCrypt 는 CPU 를 오래 쓰므로 동시 실행 수를 코어 수 정도로 제한하고, 대기열이 차면 즉시 429 로 거절한다
+ * - 로그인 폭주 시에도 해시 작업이 요청 스레드 전체를 점유하지 않아 다른 API 가 영향을 덜 받는다
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.password-hashing.threads:0}") int threads,
+            @Value("${app.auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.auth.password-hashing.timeout-ms:5000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0 이하면 코어 수만큼
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("대기열 초과로 거절된 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("비밀번호 해시 실행 시간 (대기 시간 제외)")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 true (해시 연산 없음)
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[PasswordHasher] 해시 대기열 초과로 요청 거절 (queue={})", executor.getQueue().size());
+            throw new GeneralException(GeneralErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new GeneralException(GeneralErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new GeneralException(GeneralErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,177 @@
+package com.connecteamed.server.global.auth;
+
+import com.connecteamed.server.domain.token.entity.BlacklistedToken;
+import com.connecteamed.server.domain.token.repository.BlacklistedTokenRepository;
+import com.connecteamed.server.global.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃된 access token 을 메모리에서 판별하는 레지스트리
+ * - Bloom filter 에서 걸리지 않으면 DB 조회 없이 통과
+ * - Bloom filter 에 걸리면 만료시간을 가진 메모리 Set 을 보고, 거기에도 없을 때만 DB 를 조회
+ * - 만료된 토큰은 주기적으로 제거하고, 제거된 만큼 Bloom filter 를 다시 만든다
+ * - 다른 인스턴스에서 추가된 블랙리스트는 주기적인 동기화로 반영
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry {
+
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // token -> expiryDate
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean ready = false;
+    private volatile Instant lastSyncedAt;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter falsePositiveCounter;
+
+    public RevokedTokenRegistry(
+            BlacklistedTokenRepository blacklistedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.blacklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${app.auth.blacklist.false-positive-rate:0.001}") double falsePositiveRate
+    ) {
+        this.blacklistedTokenRepository = blacklistedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        this.hitCounter = Counter.builder("auth.blacklist.lookup")
+                .tag("result", "hit")
+                .description("블랙리스트에 등록된 토큰으로 판별된 요청 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("auth.blacklist.lookup")
+                .tag("result", "miss")
+                .description("Bloom filter 에서 바로 통과된 요청 수")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("auth.blacklist.lookup")
+                .tag("result", "false_positive")
+                .description("Bloom filter 에 걸렸지만 실제로는 블랙리스트가 아니었던 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.blacklist.size", revokedTokens, Map::size)
+                .description("메모리에 보관 중인 블랙리스트 토큰 수")
+                .register(meterRegistry);
+    }
+
+    // 애플리케이션 기동 후 아직 만료되지 않은 블랙리스트를 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Instant now = Instant.now();
+        List<BlacklistedToken> tokens = blacklistedTokenRepository.findAllByExpiryDateAfter(now);
+        synchronized (writeLock) {
+            tokens.forEach(token -> register(token.getToken(), token.getExpiryDate()));
+            lastSyncedAt = now;
+            ready = true;
+        }
+        log.info("[RevokedTokenRegistry] {}개의 블랙리스트 토큰 적재 완료", tokens.size());
+    }
+
+    public boolean isRevoked(String token) {
+        // 적재 전에는 기존처럼 DB 로 판단
+        if (!ready) {
+            return blacklistedTokenRepository.existsByToken(token);
+        }
+
+        if (!bloomFilter.mightContain(token)) {
+            missCounter.increment();
+            return false;
+        }
+
+        if (revokedTokens.containsKey(token)) {
+            hitCounter.increment();
+            return true;
+        }
+
+        // Bloom filter 에는 걸렸지만 메모리에 없는 경우에만 DB 확인
+        return blacklistedTokenRepository.findByToken(token)
+                .map(found -> {
+                    register(found.getToken(), found.getExpiryDate());
+                    hitCounter.increment();
+                    return true;
+                })
+                .orElseGet(() -> {
+                    falsePositiveCounter.increment();
+                    return false;
+                });
+    }
+
+    // 로그아웃 시 호출
+    public void register(String token, Instant expiryDate) {
+        if (expiryDate == null || !expiryDate.isAfter(Instant.now())) {
+            return;
+        }
+        synchronized (writeLock) {
+            revokedTokens.put(token, expiryDate);
+            bloomFilter.put(token);
+        }
+    }
+
+    // 다른 인스턴스에서 추가된 블랙리스트 반영
+    @Scheduled(fixedDelayString = "${app.auth.blacklist.sync-interval-ms:10000}")
+    public void syncFromDatabase() {
+        if (!ready) {
+            return;
+        }
+        Instant now = Instant.now();
+        // 커밋 지연을 고려해 약간 겹치게 조회
+        Instant since = lastSyncedAt.minusSeconds(5);
+        List<BlacklistedToken> tokens = blacklistedTokenRepository.findAllByCreatedAtAfterAndExpiryDateAfter(since, now);
+        tokens.forEach(token -> register(token.getToken(), token.getExpiryDate()));
+        lastSyncedAt = now;
+    }
+
+    // 만료된 토큰 제거 후 Bloom filter 재생성
+    @Scheduled(fixedDelayString = "${app.auth.blacklist.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        synchronized (writeLock) {
+            int before = revokedTokens.size();
+            revokedTokens.values().removeIf(expiryDate -> !expiryDate.isAfter(now));
+            int removed = before - revokedTokens.size();
+            if (removed == 0) {
+                return;
+            }
+
+            BloomFilter rebuilt = BloomFilter.create(Math.max(expectedInsertions, revokedTokens.size()), falsePositiveRate);
+            revokedTokens.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+            log.debug("[RevokedTokenRegistry] 만료된 블랙리스트 {}개 제거", removed);
+        }
+    }
+
+    public long getHitCount() {
+        return (long) hitCounter.count();
+    }
+
+    public long getMissCount() {
+        return (long) missCounter.count();
+    }
+
+    public long getFalsePositiveCount() {
+        return (long) falsePositiveCounter.count();
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.connecteamed.server.global.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 교체된 refresh token 의 jti → familyId
+ * - 재사용 탐지를 DB 조회 없이 처리하기 위한 메모리 캐시 (인스턴스 로컬)
+ * - 각 항목은 원래 토큰의 만료 시각까지만 유지 (그 이후엔 서명 검증에서 걸러진다)
+ * - 캐시에서 밀려난 경우엔 DB 의 previous_jti 로 한 단계 전까지는 여전히 탐지된다
+ */
+@Component
+public class RotatedRefreshTokenCache {
+
+    private record Entry(String familyId, long expiresAtMillis) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public RotatedRefreshTokenCache(@Value("${app.auth.refresh-token.rotated-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public void record(String jti, String familyId, Instant expiresAt) {
+        if (maxSize <= 0 || jti == null || familyId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(jti, new Entry(familyId, expiresAt.toEpochMilli()));
+    }
+
+    // 교체된 적 있는 jti 면 familyId, 아니면 null
+    public String findFamily(String jti) {
+        if (jti == null) {
+            return null;
+        }
+        Entry entry = entries.get(jti);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(jti, entry);
+            return null;
+        }
+        return entry.familyId();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+        // 만료 항목을 지워도 가득 차 있으면 1/10 을 비운다
+        int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
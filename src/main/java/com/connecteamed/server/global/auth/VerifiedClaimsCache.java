@@ -0,0 +1,84 @@
+package com.connecteamed.server.global.auth;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims 캐시
+ * - 키는 토큰 원문이 아닌 SHA-256 해시
+ * - 각 항목은 토큰의 exp 시각에 만료
+ * - 최대 크기를 넘으면 만료된 항목부터 정리하고, 그래도 넘치면 일부를 비운다
+ */
+class VerifiedClaimsCache {
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    VerifiedClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    Claims get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (maxSize <= 0 || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest(token), new Entry(claims, expiration.getTime()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+        // 만료 항목을 지워도 가득 차 있으면 1/10 을 비운다
+        int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
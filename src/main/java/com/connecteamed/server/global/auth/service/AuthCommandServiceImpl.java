@@ -2,13 +2,15 @@ package com.connecteamed.server.global.auth.service;
 
 import com.connecteamed.server.domain.member.entity.Member;
 import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.domain.member.service.LoginIdRegistry;
+import com.connecteamed.server.global.auth.PasswordHasher;
 import com.connecteamed.server.global.auth.converter.AuthConverter;
 import com.connecteamed.server.global.auth.dto.AuthReqDTO;
 import com.connecteamed.server.global.auth.dto.AuthResDTO;
 import com.connecteamed.server.global.auth.exception.AuthException;
 import com.connecteamed.server.global.auth.exception.code.AuthErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,25 +18,32 @@ import org.springframework.stereotype.Service;
 public class AuthCommandServiceImpl implements AuthCommandService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginIdRegistry loginIdRegistry;
 
     // 회원가입
     @Override
     public AuthResDTO.JoinDTO signup(
             AuthReqDTO.JoinDTO dto
     ) {
-        //중복 에러 처리
-        if (memberRepository.existsByLoginId(dto.loginId())) {
+        //중복 에러 처리 (Bloom filter 에 걸린 경우에만 DB 조회)
+        if (loginIdRegistry.exists(dto.loginId())) {
             throw new AuthException(AuthErrorCode.DUPLICATE_LOGIN_ID);
         }
 
-        String encodedPassword = passwordEncoder.encode(dto.password());
+        String encodedPassword = passwordHasher.encode(dto.password());
 
         Member newMember = AuthConverter.toMember(dto, encodedPassword);
 
-        // DB 저장
-        Member savedMember = memberRepository.save(newMember);
-        memberRepository.flush();
+        // DB 저장 (동기화 전의 다른 인스턴스 가입과 겹치면 unique 제약으로 걸러진다)
+        Member savedMember;
+        try {
+            savedMember = memberRepository.save(newMember);
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new AuthException(AuthErrorCode.DUPLICATE_LOGIN_ID);
+        }
+        loginIdRegistry.register(savedMember.getLoginId());
 
         return AuthConverter.toJoinResultDTO(savedMember);
 
@@ -8,19 +8,29 @@ import com.connecteamed.server.domain.token.repository.RefreshTokenRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
 import com.connecteamed.server.global.auth.CustomUserDetails;
 import com.connecteamed.server.global.auth.JwtUtil;
+import com.connecteamed.server.global.auth.PasswordHasher;
+import com.connecteamed.server.global.auth.RotatedRefreshTokenCache;
 import com.connecteamed.server.global.auth.converter.AuthConverter;
 import com.connecteamed.server.global.auth.dto.AuthReqDTO;
 import com.connecteamed.server.global.auth.dto.AuthResDTO;
 import com.connecteamed.server.global.auth.exception.AuthException;
 import com.connecteamed.server.global.auth.exception.code.AuthErrorCode;
+import com.connecteamed.server.global.util.TokenDigest;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.UUID;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true) // 로그인 및 조회는 ReadOnly로 성능 최적화
@@ -28,11 +38,18 @@ public class AuthQueryServiceImpl implements AuthQueryService {
 
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
-
+    private final RotatedRefreshTokenCache rotatedRefreshTokenCache;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * BCrypt 비교/재해시는 수 백 ms 가 걸리고 해시 풀 대기까지 더해질 수 있으므로 트랜잭션 밖에서 한다
+     * (그동안 DB 커넥션을 잡고 있으면 로그인 폭주가 커넥션 풀을 말려 다른 API 까지 멈춘다)
+     * 회원 조회는 리포지토리의 짧은 읽기 트랜잭션, 해시 갱신과 refresh token 저장만 짧은 쓰기 트랜잭션으로 묶는다
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResDTO.LoginDTO login(AuthReqDTO.LoginDTO dto) {
         // 1. 아이디(Email)로 사용자 존재 여부 확인
         Member member = memberRepository.findByLoginId(dto.loginId())
@@ -40,28 +57,47 @@ public class AuthQueryServiceImpl implements AuthQueryService {
 
         // 2. 비밀번호 일치 여부 검증
         // DB의 암호화된 비번과 사용자가 입력한 평문 비번을 비교합니다.
-        if (!passwordEncoder.matches(dto.password(), member.getPassword())) {
+        // 해시 비교는 전용 스레드 풀에서 수행 (대기열 초과 시 429)
+        if (!passwordHasher.matches(dto.password(), member.getPassword())) {
             throw new AuthException(AuthErrorCode.INCORRECT_PASSWORD);
         }
 
+        // 저장된 해시의 cost 가 현재 설정보다 낮으면 평문을 알고 있는 지금 다시 해시
+        String upgradedPassword = passwordHasher.needsRehash(member.getPassword())
+                ? passwordHasher.encode(dto.password())
+                : null;
+
         // 3. JWT 토큰 발급을 위한 Security 전용 객체 생성
         CustomUserDetails userDetails = new CustomUserDetails(member);
 
         // 4. 액세스 토큰 생성
         String accessToken = jwtUtil.createAccessToken(userDetails);
-        String refreshToken = jwtUtil.createRefreshToken(userDetails);
+        String jti = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(userDetails, jti);
+        String tokenHash = TokenDigest.sha256Hex(refreshToken);
+        String familyId = UUID.randomUUID().toString();
 
         Instant expiryDate = Instant.now().plus(jwtUtil.getRefreshExpiration());
 
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByMember(member)
-        .map(existingToken -> existingToken.updateToken(refreshToken, expiryDate))
-                .orElseGet(() -> RefreshToken.builder()
-                        .token(refreshToken)
-                        .member(member)
-                        .expiryDate(expiryDate)
-                        .build());
-
-        refreshTokenRepository.save(refreshTokenEntity);
+        transactionTemplate.executeWithoutResult(status -> {
+            Member managed = memberRepository.getReferenceById(member.getId());
+            if (upgradedPassword != null) {
+                managed.updatePassword(upgradedPassword);
+            }
+
+            // 로그인마다 새 패밀리 시작 (원문 대신 다이제스트만 저장)
+            RefreshToken refreshTokenEntity = refreshTokenRepository.findByMember(managed)
+                    .map(existingToken -> existingToken.startNewFamily(familyId, jti, tokenHash, expiryDate))
+                    .orElseGet(() -> RefreshToken.builder()
+                            .jti(jti)
+                            .tokenHash(tokenHash)
+                            .familyId(familyId)
+                            .member(managed)
+                            .expiryDate(expiryDate)
+                            .build());
+
+            refreshTokenRepository.save(refreshTokenEntity);
+        });
 
         // 5. 만료 시간 설정 (초 단위로 변환: 예: 4시간 = 14400초)
         Long expiresIn = jwtUtil.getAccessTokenExpirationMillis() / 1000;
@@ -72,12 +108,36 @@ public class AuthQueryServiceImpl implements AuthQueryService {
 
 
     //refreshToken 재발급 로직
+    // 재사용 탐지 시 패밀리 삭제는 예외와 함께 커밋되어야 하므로 AuthException 으로는 롤백하지 않는다
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = AuthException.class)
     public AuthResDTO.RefreshResultDTO reissue(AuthReqDTO.ReissueDTO dto) {
-        //DB에서 해당 리프레시 토큰 검색
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByToken(dto.refreshToken())
-                .orElseThrow(() -> new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN));
+        String presentedToken = dto.refreshToken();
+
+        // 1. 서명/만료 검증 후 jti 추출
+        Claims claims = jwtUtil.validateRefreshToken(presentedToken);
+        String jti = claims.getId();
+
+        // 2. 최근 교체된 토큰이 다시 들어오면 탈취로 보고 패밀리 전체 폐기
+        String reusedFamilyId = rotatedRefreshTokenCache.findFamily(jti);
+        if (reusedFamilyId != null) {
+            throw revokeFamily(reusedFamilyId);
+        }
+
+        // 3. jti(고유 인덱스)로 단건 조회, jti 가 없는 레거시 토큰은 다이제스트로 조회
+        RefreshToken refreshTokenEntity = (jti != null
+                ? refreshTokenRepository.findByJti(jti)
+                : refreshTokenRepository.findByTokenHash(TokenDigest.sha256Hex(presentedToken)))
+                .orElseThrow(() -> jti == null
+                        ? new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN)
+                        : refreshTokenRepository.findByPreviousJti(jti)
+                                // 캐시에서 밀려났어도 직전 토큰이면 재사용으로 판단
+                                .map(current -> revokeFamily(current.getFamilyId()))
+                                .orElseGet(() -> new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN)));
+
+        if (!TokenDigest.matches(presentedToken, refreshTokenEntity.getTokenHash())) {
+            throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        }
 
         //토큰 만료 여부 확인
         if (refreshTokenEntity.isExpired()) {
@@ -91,15 +151,35 @@ public class AuthQueryServiceImpl implements AuthQueryService {
 
         //새로운 Access Token 및 Refresh Token 발급
         String newAccessToken = jwtUtil.createAccessToken(userDetails);
-        String newRefreshToken = jwtUtil.createRefreshToken(userDetails);
+        String newJti = UUID.randomUUID().toString();
+        String newRefreshToken = jwtUtil.createRefreshToken(userDetails, newJti);
         Instant newExpiryDate = Instant.now().plus(jwtUtil.getRefreshExpiration());
 
-        // 5. DB의 기존 토큰 정보 갱신
-        refreshTokenEntity.updateToken(newRefreshToken, newExpiryDate);
+        // 5. 같은 패밀리 안에서 교체하고, 교체된 jti 는 재사용 탐지용으로 기억
+        refreshTokenEntity.rotate(newJti, TokenDigest.sha256Hex(newRefreshToken), newExpiryDate);
+        recordRotatedAfterCommit(jti, refreshTokenEntity.getFamilyId(), claims.getExpiration().toInstant());
 
         // 6. 컨버터를 통해 응답 DTO로 변환하여 반환
         return AuthConverter.toRefreshResultDTO(newAccessToken, newRefreshToken);
     }
 
+    // 교체가 롤백되면 옛 토큰이 여전히 유효하므로 커밋된 뒤에만 재사용 탐지 대상으로 기억한다
+    private void recordRotatedAfterCommit(String jti, String familyId, Instant expiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rotatedRefreshTokenCache.record(jti, familyId, expiresAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rotatedRefreshTokenCache.record(jti, familyId, expiresAt);
+            }
+        });
+    }
 
+    private AuthException revokeFamily(String familyId) {
+        int deleted = refreshTokenRepository.deleteByFamilyId(familyId);
+        log.warn("[AuthQueryService] refresh token 재사용 탐지, family={} 폐기 ({}건)", familyId, deleted);
+        return new AuthException(AuthErrorCode.REFRESH_TOKEN_REUSED);
+    }
 }
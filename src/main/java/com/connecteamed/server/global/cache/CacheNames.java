@@ -0,0 +1,22 @@
+package com.connecteamed.server.global.cache;
+
+/**
+ * 캐시 이름 모음
+ * - 읽기 위주 프로젝트 메타데이터만 캐시한다
+ */
+public final class CacheNames {
+
+    // key: projectId
+    public static final String PROJECT_DETAIL = "projectDetail";
+    // key: projectId
+    public static final String PROJECT_MEMBERS = "projectMembers";
+    // key: projectId
+    public static final String PROJECT_ROLES = "projectRoles";
+    // key: memberId
+    public static final String MY_TEAMS = "myTeams";
+
+    public static final String[] ALL = {PROJECT_DETAIL, PROJECT_MEMBERS, PROJECT_ROLES, MY_TEAMS};
+
+    private CacheNames() {
+    }
+}
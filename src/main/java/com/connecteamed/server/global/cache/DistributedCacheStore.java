@@ -0,0 +1,20 @@
+package com.connecteamed.server.global.cache;
+
+import java.time.Duration;
+
+/**
+ * 분산 캐시 저장소 (2차 캐시)
+ * - Redis 의 GET / SET PX / DEL / SCAN+DEL 에 그대로 대응하는 최소 연산만 둔다
+ * - 값 직렬화는 TieredCache 가 담당하므로 저장소는 byte[] 만 다룬다
+ */
+public interface DistributedCacheStore {
+
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void evict(String key);
+
+    // prefix 로 시작하는 모든 키 삭제
+    void evictByPrefix(String prefix);
+}
@@ -0,0 +1,53 @@
+package com.connecteamed.server.global.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내장 분산 캐시 대역
+ * - 로컬 개발/테스트에서 Redis 없이 2차 캐시 경로를 검증하기 위한 구현
+ * - 만료된 항목은 조회 시점에 제거한다
+ */
+public class InMemoryDistributedCacheStore implements DistributedCacheStore {
+
+    private record Entry(byte[] value, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(String key) {
+        Entry entry = store.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        store.put(key, new Entry(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(String key) {
+        store.remove(key);
+    }
+
+    @Override
+    public void evictByPrefix(String prefix) {
+        store.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
@@ -0,0 +1,45 @@
+package com.connecteamed.server.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 메서드 인자만으로 캐시 키를 알 수 없는 곳(@CacheEvict 를 쓰기 어려운 곳)에서 쓰는 명시적 무효화
+ * - 트랜잭션 안에서 호출하면 커밋 이후에 삭제된다
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public void evictProjectDetail(Long projectId) {
+        evict(CacheNames.PROJECT_DETAIL, projectId);
+    }
+
+    public void evictProjectMembers(Long projectId) {
+        evict(CacheNames.PROJECT_MEMBERS, projectId);
+    }
+
+    public void evictMemberTeams(Long memberId) {
+        evict(CacheNames.MY_TEAMS, memberId);
+    }
+
+    // 프로젝트 상태가 바뀌어(종료/삭제) 상세, 멤버 목록, 참여자 전원의 팀 목록이 모두 달라지는 경우
+    public void evictProject(Long projectId, Collection<Long> memberIds) {
+        evictProjectDetail(projectId);
+        evictProjectMembers(projectId);
+        memberIds.forEach(this::evictMemberTeams);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.connecteamed.server.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬(Caffeine) + 분산(선택) 2단 캐시
+ * - 조회: 로컬 → 분산 → 원본 순서, 분산에서 찾으면 로컬에 다시 채운다
+ * - 저장/삭제: 두 계층에 모두 반영
+ * - 분산 계층 장애는 캐시 미스로 취급하고 원본 조회로 넘어간다
+ */
+@Slf4j
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache local;
+    private final DistributedCacheStore remote;
+    private final Duration remoteTtl;
+
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter();
+
+    private final Counter remoteHit;
+    private final Counter remoteMiss;
+    private final Counter remoteError;
+
+    public TieredCache(String name, Cache local, DistributedCacheStore remote, Duration remoteTtl, MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.remoteTtl = remoteTtl;
+        this.remoteHit = remoteCounter(meterRegistry, name, "hit");
+        this.remoteMiss = remoteCounter(meterRegistry, name, "miss");
+        this.remoteError = remoteCounter(meterRegistry, name, "error");
+    }
+
+    private static Counter remoteCounter(MeterRegistry registry, String cache, String result) {
+        return Counter.builder("cache.remote.gets")
+                .description("분산 캐시 계층 조회 결과")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        ValueWrapper localValue = local.get(key);
+        if (localValue != null) {
+            // 로컬 캐시는 null 도 NullValue 로 감싸 저장하므로 그대로 돌려준다
+            return toStoreValue(localValue.get());
+        }
+        if (remote == null) {
+            return null;
+        }
+        Object remoteValue = readRemote(key);
+        if (remoteValue != null) {
+            local.put(key, fromStoreValue(remoteValue));
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        // 같은 키의 동시 적재는 로컬 Caffeine 이 한 번만 수행한다
+        return local.get(key, () -> {
+            T value = valueLoader.call();
+            writeRemote(key, toStoreValue(value));
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        writeRemote(key, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        if (remote != null) {
+            try {
+                remote.evict(remoteKey(key));
+            } catch (RuntimeException e) {
+                log.warn("[TieredCache] {} 분산 캐시 삭제 실패: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        if (remote != null) {
+            try {
+                remote.evictByPrefix(name + "::");
+            } catch (RuntimeException e) {
+                log.warn("[TieredCache] {} 분산 캐시 비우기 실패: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private Object readRemote(Object key) {
+        try {
+            byte[] bytes = remote.get(remoteKey(key));
+            if (bytes == null) {
+                remoteMiss.increment();
+                return null;
+            }
+            remoteHit.increment();
+            return deserializer.convert(bytes);
+        } catch (RuntimeException e) {
+            remoteError.increment();
+            log.warn("[TieredCache] {} 분산 캐시 조회 실패: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(Object key, Object storeValue) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(remoteKey(key), serializer.convert(storeValue), remoteTtl);
+        } catch (RuntimeException e) {
+            log.warn("[TieredCache] {} 분산 캐시 저장 실패: {}", name, e.getMessage());
+        }
+    }
+
+    // Redis 키 규칙과 같은 "캐시이름::키" 형식
+    private String remoteKey(Object key) {
+        return name + "::" + key;
+    }
+}
@@ -0,0 +1,45 @@
+package com.connecteamed.server.global.config;
+
+import com.connecteamed.server.global.cache.DistributedCacheStore;
+import com.connecteamed.server.global.cache.InMemoryDistributedCacheStore;
+import com.connecteamed.server.global.cache.TieredCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 2차 캐시가 없으면 로컬 캐시만 사용
+    @Bean
+    public CacheManager cacheManager(
+            ObjectProvider<DistributedCacheStore> distributedCacheStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${app.cache.local.ttl-ms:30000}") long localTtlMillis,
+            @Value("${app.cache.remote.ttl-ms:600000}") long remoteTtlMillis
+    ) {
+        return new TieredCacheManager(
+                localMaxSize,
+                Duration.ofMillis(localTtlMillis),
+                distributedCacheStore.getIfAvailable(),
+                Duration.ofMillis(remoteTtlMillis),
+                meterRegistry
+        );
+    }
+
+    // 내장 2차 캐시 (Redis 대신 프로세스 내 저장소, 개발/테스트용)
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.remote.type", havingValue = "embedded")
+    public DistributedCacheStore inMemoryDistributedCacheStore() {
+        return new InMemoryDistributedCacheStore();
+    }
+}
@@ -0,0 +1,55 @@
+package com.connecteamed.server.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 대시보드 섹션 병렬 조회용
+    // 섹션마다 DB 커넥션을 잡으므로 스레드 수를 커넥션 풀(기본 10)보다 작게 고정해 다른 API 의 커넥션을 남겨 둔다
+    // 큐가 가득 차면 요청 스레드에서 직접 조회 (병렬성만 포기하고 실패시키지 않는다)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService dashboardExecutor(
+            @Value("${app.dashboard.threads:4}") int threads,
+            @Value("${app.dashboard.queue-capacity:100}") int queueCapacity
+    ) {
+        int size = Math.max(1, threads);
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("dashboard-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // 문서 업로드 워커 (큐가 가득 차면 RejectedExecutionException → 요청을 429 로 거절)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService documentIngestExecutor(
+            @Value("${app.document.ingest.threads:4}") int threads,
+            @Value("${app.document.ingest.queue-capacity:200}") int queueCapacity
+    ) {
+        int size = Math.max(1, threads);
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("document-ingest-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 이미지 썸네일 생성 (CPU 작업이라 적게, 큐가 가득 차면 RejectedExecutionException → 썸네일을 건너뛴다)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService thumbnailExecutor(
+            @Value("${app.image.thumbnail.threads:2}") int threads,
+            @Value("${app.image.thumbnail.queue-capacity:100}") int queueCapacity
+    ) {
+        int size = Math.max(1, threads);
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("thumbnail-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,63 @@
+package com.connecteamed.server.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY → SEQUENCE 로 바꾼 테이블의 시퀀스를 기존 최대 id 이후로 맞춘다 (PostgreSQL 전용)
+ * - ddl-auto 가 새로 만든 시퀀스는 1부터 시작하므로 그대로 두면 기존 행과 id 가 충돌한다
+ * - 시퀀스가 이미 앞서 있으면 값을 바꾸지 않는다 (다른 인스턴스가 할당 중인 구간 보호)
+ * - 웹 서버가 요청을 받기 전에 끝나야 하므로 싱글톤 초기화 직후(ddl-auto 이후, 서버 기동 전)에 실행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    // 시퀀스명 → 테이블명
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "project_role_seq", "project_role",
+            "project_required_role_seq", "project_required_role"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        align();
+    }
+
+    void align() {
+        if (!isPostgres()) {
+            return;
+        }
+        SEQUENCES.forEach((sequence, table) -> {
+            try {
+                Long value = jdbcTemplate.queryForObject(
+                        "SELECT setval('" + sequence + "', GREATEST(" +
+                                "(SELECT COALESCE(MAX(id), 1) FROM " + table + "), " +
+                                "(SELECT last_value FROM " + sequence + ")))",
+                        Long.class);
+                log.info("[IdSequenceAligner] {} aligned to {}", sequence, value);
+            } catch (RuntimeException e) {
+                log.warn("[IdSequenceAligner] {} 정렬 실패: {}", sequence, e.getMessage());
+            }
+        });
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
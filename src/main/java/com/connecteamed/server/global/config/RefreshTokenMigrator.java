@@ -0,0 +1,90 @@
+package com.connecteamed.server.global.config;
+
+import com.connecteamed.server.domain.token.entity.RefreshToken;
+import com.connecteamed.server.domain.token.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * refresh token 원문 저장 → 다이제스트 저장 전환
+ * - ddl-auto(update)는 기존 컬럼의 NOT NULL 을 풀지 않으므로 token 컬럼 제약을 직접 제거 (PostgreSQL 전용)
+ * - 원문만 있는 행은 배치 단위로 다이제스트/familyId 를 채우고 원문을 비운다
+ * - 옮겨진 레거시 토큰은 jti 가 없으므로 다이제스트로 조회되고, 첫 재발급 때 jti 를 갖게 된다
+ * - 전환 전 행은 재발급에서 찾을 수 없으므로 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 끝낸다
+ */
+@Slf4j
+@Component
+public class RefreshTokenMigrator implements SmartInitializingSingleton {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public RefreshTokenMigrator(
+            RefreshTokenRepository refreshTokenRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.auth.refresh-token.migration-batch-size:500}") int batchSize
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    void migrate() {
+        dropLegacyNotNull();
+
+        int migrated = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<RefreshToken> legacy = refreshTokenRepository
+                        .findByTokenHashIsNullAndTokenIsNotNull(PageRequest.of(0, batchSize));
+                legacy.forEach(RefreshToken::migrateLegacyToken);
+                return legacy.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            migrated += count;
+        }
+        if (migrated > 0) {
+            log.info("[RefreshTokenMigrator] 레거시 refresh token {}건 다이제스트로 전환", migrated);
+        }
+    }
+
+    private void dropLegacyNotNull() {
+        if (!isPostgres()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("ALTER TABLE refresh_token ALTER COLUMN token DROP NOT NULL");
+        } catch (RuntimeException e) {
+            log.warn("[RefreshTokenMigrator] token 컬럼 제약 변경 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -5,23 +5,111 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class S3Config {
 
-    @Bean
-    public S3Client s3Client(
+    private final Region region;
+    private final StaticCredentialsProvider credentialsProvider;
+    private final String endpoint;
+    private final boolean pathStyleAccess;
+
+    // endpoint 를 지정하면 MinIO/LocalStack 같은 S3 호환 저장소로 붙는다 (로컬/테스트용)
+    public S3Config(
             @Value("${app.s3.region}") String region,
             @Value("${app.s3.access-key}") String accessKey,
-            @Value("${app.s3.secret-key}") String secretKey
+            @Value("${app.s3.secret-key}") String secretKey,
+            @Value("${app.s3.endpoint:}") String endpoint,
+            @Value("${app.s3.path-style-access:false}") boolean pathStyleAccess
+    ) {
+        this.region = Region.of(region);
+        this.credentialsProvider = StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        this.endpoint = endpoint;
+        this.pathStyleAccess = pathStyleAccess;
+    }
+
+    /**
+     * 모든 S3 호출이 함께 쓰는 비동기 클라이언트
+     * - 연결 풀 크기/연결 대기/소켓 타임아웃을 명시 (SDK 기본값에 기대지 않는다)
+     * - 일시 오류는 full jitter 지수 백오프로 재시도, 429/503(SlowDown)은 equal jitter 로 더 길게 쉰다
+     * - 호출 단위 타임아웃은 S3StorageEngine 이 요청마다 정한다
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(
+            @Value("${app.s3.client.max-connections:128}") int maxConnections,
+            @Value("${app.s3.client.max-pending-acquires:10000}") int maxPendingAcquires,
+            @Value("${app.s3.client.connection-acquire-timeout-ms:10000}") long acquireTimeoutMillis,
+            @Value("${app.s3.client.connect-timeout-ms:3000}") long connectTimeoutMillis,
+            @Value("${app.s3.client.read-timeout-ms:30000}") long readTimeoutMillis,
+            @Value("${app.s3.client.write-timeout-ms:30000}") long writeTimeoutMillis,
+            @Value("${app.s3.client.max-idle-ms:60000}") long maxIdleMillis,
+            @Value("${app.s3.retry.max-retries:3}") int maxRetries,
+            @Value("${app.s3.retry.base-delay-ms:100}") long baseDelayMillis,
+            @Value("${app.s3.retry.max-backoff-ms:5000}") long maxBackoffMillis
     ) {
-        return S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(
-                        StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
-                )
+        NettyNioAsyncHttpClient.Builder httpClient = NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(Math.max(1, maxConnections))
+                .maxPendingConnectionAcquires(Math.max(1, maxPendingAcquires))
+                .connectionAcquisitionTimeout(Duration.ofMillis(acquireTimeoutMillis))
+                .connectionTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                .writeTimeout(Duration.ofMillis(writeTimeoutMillis))
+                .connectionMaxIdleTime(Duration.ofMillis(maxIdleMillis))
+                .tcpKeepAlive(true);
+
+        Duration baseDelay = Duration.ofMillis(baseDelayMillis);
+        Duration maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        RetryPolicy retryPolicy = RetryPolicy.builder()
+                .numRetries(Math.max(0, maxRetries))
+                .backoffStrategy(FullJitterBackoffStrategy.builder()
+                        .baseDelay(baseDelay)
+                        .maxBackoffTime(maxBackoff)
+                        .build())
+                .throttlingBackoffStrategy(EqualJitterBackoffStrategy.builder()
+                        .baseDelay(baseDelay.multipliedBy(5))
+                        .maxBackoffTime(maxBackoff)
+                        .build())
                 .build();
+
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .forcePathStyle(pathStyleAccess)
+                .httpClientBuilder(httpClient)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(retryPolicy)
+                        .build());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    // 다운로드용 pre-signed URL 발급 (서명만 하므로 네트워크 호출 없음)
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(pathStyleAccess)
+                        .build());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 }
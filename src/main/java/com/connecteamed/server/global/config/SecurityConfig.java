@@ -1,17 +1,24 @@
 package com.connecteamed.server.global.config;
 
-import com.connecteamed.server.domain.token.repository.BlacklistedTokenRepository;
 import com.connecteamed.server.global.apiPayload.ApiResponse;
 import com.connecteamed.server.global.auth.JwtAuthenticationFilter;
 import com.connecteamed.server.global.auth.JwtLogoutHandler;
 import com.connecteamed.server.global.auth.JwtUtil;
+import com.connecteamed.server.global.auth.RevokedTokenRegistry;
 import com.connecteamed.server.global.auth.CustomUserDetailsService;
 import com.connecteamed.server.global.auth.exception.code.AuthErrorCode;
 import com.connecteamed.server.global.auth.exception.code.AuthSuccessCode;
+import com.connecteamed.server.global.ratelimit.RateLimitFilter;
+import com.connecteamed.server.global.ratelimit.RateLimitProperties;
+import com.connecteamed.server.global.ratelimit.RateLimiter;
 import com.connecteamed.server.global.util.FilterResponseUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -33,6 +40,7 @@ import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor // JwtUtil과 Service 주입을 위해 필요합니다.
 public class SecurityConfig {
 
@@ -40,12 +48,18 @@ public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
 
     private final JwtLogoutHandler jwtLogoutHandler;
-    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
     private final FilterResponseUtils filterResponseUtils;
 
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ServerProperties serverProperties;
+    private final MeterRegistry meterRegistry;
+
+    // strength 를 올리면 기존 해시는 다음 로그인 때 새 cost 로 다시 저장된다
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
 
@@ -85,11 +99,15 @@ public class SecurityConfig {
                 ).permitAll()
                 // 로그인/회원가입 같은 것만 예외로 오픈
                 .requestMatchers("/api/auth/login","/api/auth/refresh","/api/auth/signup","/api/members/check-id").permitAll()
+                // 로컬 저장소의 프로젝트 대표 이미지 (S3 공개 URL 과 같이 인증 없이 <img> 로 읽는다)
+                .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/storage/project/**").permitAll()
                 .anyRequest().authenticated()
                 )
                 // JWT 필터 추가
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, customUserDetailsService, blacklistedTokenRepository,filterResponseUtils),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, customUserDetailsService, revokedTokenRegistry, filterResponseUtils),
                         org.springframework.security.web.authentication.logout.LogoutFilter.class)
+                // 요청 제한은 토큰 검증 전에 (거절될 요청에 인증 비용을 쓰지 않도록)
+                .addFilterBefore(rateLimitFilter(), JwtAuthenticationFilter.class)
                 // 상세 로그아웃 설정
                 .logout(logout -> logout
                         .logoutUrl("/api/auth/logout")
@@ -156,4 +174,10 @@ public class SecurityConfig {
             response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.onSuccess(AuthSuccessCode.LOGOUT_SUCCESS, null)));
         };
     }
+
+    //요청 제한 필터 (key: ip 그룹이 실제 클라이언트 IP 를 받을 수 없는 설정이면 기동 실패)
+    private RateLimitFilter rateLimitFilter() {
+        rateLimitProperties.checkClientIpResolvable(serverProperties.getForwardHeadersStrategy());
+        return new RateLimitFilter(rateLimiter, rateLimitProperties, jwtUtil, filterResponseUtils, meterRegistry);
+    }
 }
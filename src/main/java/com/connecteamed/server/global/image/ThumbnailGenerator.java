@@ -0,0 +1,262 @@
+package com.connecteamed.server.global.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 썸네일 생성 (JDK ImageIO / Java2D)
+ * - 긴 변이 각 크기(기본 64/256/1024px)에 맞도록 줄인 JPEG 을 만든다 (원본보다 키우지 않는다)
+ * - 디코딩 단계에서 가장 큰 썸네일의 2배 해상도까지만 읽어 큰 사진도 메모리를 적게 쓴다
+ * - 작업은 크기가 정해진 전용 풀에서 돌고, 풀이 가득 차면 건너뛴다 (썸네일이 없으면 클라이언트는 원본을 쓴다)
+ * - 저장 위치는 원본 key 옆: {원본 key}.thumb-{size}.jpg
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final ExecutorService thumbnailExecutor;
+    private final int[] sizes;
+    private final float quality;
+    private final long maxPixels;
+
+    private final Counter createdCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public ThumbnailGenerator(
+            @Qualifier("thumbnailExecutor") ExecutorService thumbnailExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.image.thumbnail.sizes:64,256,1024}") int[] sizes,
+            @Value("${app.image.thumbnail.quality:0.8}") float quality,
+            @Value("${app.image.thumbnail.max-pixels:100000000}") long maxPixels
+    ) {
+        this.thumbnailExecutor = thumbnailExecutor;
+        // 큰 것부터 만들고 그 결과를 다시 줄인다
+        this.sizes = Arrays.stream(sizes).filter(size -> size > 0).distinct()
+                .boxed().sorted((a, b) -> b - a).mapToInt(Integer::intValue).toArray();
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+
+        this.createdCounter = counter(meterRegistry, "created", "썸네일을 만든 원본 이미지 수");
+        this.skippedCounter = counter(meterRegistry, "skipped", "이미지가 아니거나 너무 커서 건너뛴 수");
+        this.failedCounter = counter(meterRegistry, "failed", "썸네일 생성/저장에 실패한 수");
+        this.rejectedCounter = counter(meterRegistry, "rejected", "작업 풀이 가득 차 건너뛴 수");
+    }
+
+    public static String thumbnailKey(String originalKey, int size) {
+        return originalKey + ".thumb-" + size + ".jpg";
+    }
+
+    // DB 에는 만들어진 크기를 "64,256,1024" 형태로 남긴다
+    public static String joinSizes(Collection<Integer> sizes) {
+        return sizes.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static List<Integer> parseSizes(String sizes) {
+        if (sizes == null || sizes.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(sizes.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    // 원본 요청/임시 파일이 곧 사라지는 호출자가 복사본을 만들 작업 파일
+    public Path newWorkFile() throws IOException {
+        return Files.createTempFile("thumbnail-", ".img");
+    }
+
+    /**
+     * 작업 풀에서 source 로 썸네일을 만들어 sink 에 넘긴다
+     * source 는 작업이 끝나면(또는 거절되면) 지운다
+     */
+    public void submit(Path source, ThumbnailSink sink) {
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    Map<Integer, byte[]> thumbnails = generate(source);
+                    if (thumbnails.isEmpty()) {
+                        skippedCounter.increment();
+                        return;
+                    }
+                    sink.accept(thumbnails);
+                    createdCounter.increment();
+                } catch (Exception e) {
+                    failedCounter.increment();
+                    log.warn("[ThumbnailGenerator] 썸네일 생성 실패: {}", e.toString());
+                } finally {
+                    deleteQuietly(source);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[ThumbnailGenerator] 썸네일 작업 대기열이 가득 차 건너뜁니다.");
+            deleteQuietly(source);
+        }
+    }
+
+    /**
+     * 크기 → JPEG 바이트 (큰 크기부터)
+     * 읽을 수 없는 형식이거나 max-pixels 를 넘는 이미지는 빈 맵
+     */
+    public Map<Integer, byte[]> generate(Path source) throws IOException {
+        BufferedImage image = read(source);
+        if (image == null) {
+            return Map.of();
+        }
+
+        Map<Integer, byte[]> thumbnails = new LinkedHashMap<>();
+        BufferedImage current = image;
+        for (int size : sizes) {
+            current = fit(current, size);
+            thumbnails.put(size, writeJpeg(current));
+        }
+        return thumbnails;
+    }
+
+    private BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.info("[ThumbnailGenerator] 이미지가 너무 커 건너뜁니다. {}x{}", width, height);
+                    return null;
+                }
+
+                // 가장 큰 썸네일의 2배보다 큰 부분은 디코딩 때 건너뛴다
+                ImageReadParam param = reader.getDefaultReadParam();
+                int largest = sizes.length == 0 ? Math.max(width, height) : sizes[0];
+                int step = Math.max(1, Math.max(width, height) / (2 * largest));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return toRgb(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변을 size 에 맞춘다, 2배 넘게 줄일 때는 반씩 나눠 줄여 계단 현상을 줄인다
+    private static BufferedImage fit(BufferedImage image, int size) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = scale(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = scale(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // JPEG 은 투명도가 없으므로 흰 배경에 합성
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[ThumbnailGenerator] 작업 파일 삭제 실패. path={}", path);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("image.thumbnail")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
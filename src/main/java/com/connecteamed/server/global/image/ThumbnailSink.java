@@ -0,0 +1,11 @@
+package com.connecteamed.server.global.image;
+
+import java.io.IOException;
+import java.util.Map;
+
+// 만들어진 썸네일(크기 → JPEG 바이트)을 저장하는 쪽
+@FunctionalInterface
+public interface ThumbnailSink {
+
+    void accept(Map<Integer, byte[]> thumbnails) throws IOException;
+}
@@ -0,0 +1,124 @@
+package com.connecteamed.server.global.ratelimit;
+
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.auth.JwtUtil;
+import com.connecteamed.server.global.util.FilterResponseUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 그룹별 요청 제한 (JwtAuthenticationFilter 앞에서 실행)
+ * - user 그룹은 토큰 subject(로그인 아이디), 토큰이 없거나 깨졌으면 클라이언트 IP 로 버킷을 나눈다
+ * - 초과 시 429 + Retry-After(초) 응답, 거절 건수는 http.ratelimit.rejected 로 기록
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final JwtUtil jwtUtil;
+    private final FilterResponseUtils filterResponseUtils;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, JwtUtil jwtUtil,
+                           FilterResponseUtils filterResponseUtils, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.jwtUtil = jwtUtil;
+        this.filterResponseUtils = filterResponseUtils;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || properties.getGroups().isEmpty()
+                || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        for (Map.Entry<String, RateLimitProperties.Group> entry : properties.getGroups().entrySet()) {
+            RateLimitProperties.Group group = entry.getValue();
+            if (!matches(group, path)) {
+                continue;
+            }
+
+            String key = entry.getKey() + ":" + resolveKey(request, group);
+            long waitNanos = rateLimiter.tryAcquire(key, group);
+            if (waitNanos > 0) {
+                reject(response, entry.getKey(), group, waitNanos);
+                return;
+            }
+            break;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Group group, String path) {
+        for (String pattern : group.getPatterns()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveKey(HttpServletRequest request, RateLimitProperties.Group group) {
+        if (group.getKey() == RateLimitProperties.KeyType.USER) {
+            String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+                // 서명 검증 결과는 JwtUtil 캐시를 공유하므로 뒤의 인증 필터에서 다시 파싱하지 않는다
+                String loginId = subjectOf(authorization.substring(BEARER_PREFIX.length()));
+                if (loginId != null) {
+                    return "user:" + loginId;
+                }
+            }
+        }
+        // server.forward-headers-strategy(native/framework)가 X-Forwarded-For 로 바꿔 준 실제 클라이언트 IP
+        // (none 이면 RateLimitProperties.checkClientIpResolvable 에서 기동을 막는다)
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private String subjectOf(String token) {
+        try {
+            return jwtUtil.getUserId(token);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, String groupName, RateLimitProperties.Group group,
+                        long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        Counter.builder("http.ratelimit.rejected")
+                .tag("group", groupName)
+                .tag("key", group.getKey().name().toLowerCase())
+                .description("요청 제한으로 거절된 요청 수")
+                .register(meterRegistry)
+                .increment();
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        filterResponseUtils.sendErrorResponse(response, GeneralErrorCode.TOO_MANY_REQUESTS);
+    }
+}
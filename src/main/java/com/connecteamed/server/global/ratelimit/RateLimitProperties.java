@@ -0,0 +1,71 @@
+package com.connecteamed.server.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 그룹별 요청 제한 설정 (app.rate-limit)
+ * - 그룹은 선언 순서대로 매칭되며 처음 일치한 그룹 하나만 적용
+ * - 그룹이 없으면 제한하지 않는다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 버킷 저장소 분할 수 (2의 거듭제곱으로 올림)
+    private int stripes = 16;
+
+    // 분할 하나에 둘 수 있는 최대 키 수 (넘으면 가득 찬 버킷부터 정리)
+    private int maxKeysPerStripe = 10000;
+
+    // 프록시 없이 클라이언트가 직접 붙는 환경에서만 true (그 외에는 forward-headers-strategy 필수)
+    private boolean trustRemoteAddr = false;
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /**
+     * key: ip 그룹이 있는데 프록시 헤더를 해석하지 않으면 모든 요청이 로드밸런서 주소 하나로 묶여
+     * 서비스 전체가 한 버킷을 나눠 쓰게 되므로 기동 시 실패시킨다
+     */
+    public void checkClientIpResolvable(ServerProperties.ForwardHeadersStrategy strategy) {
+        if (!enabled || trustRemoteAddr) {
+            return;
+        }
+        boolean usesIp = groups.values().stream().anyMatch(group -> group.getKey() == KeyType.IP);
+        if (usesIp && (strategy == null || strategy == ServerProperties.ForwardHeadersStrategy.NONE)) {
+            throw new IllegalStateException("app.rate-limit 에 key: ip 그룹이 있으면 server.forward-headers-strategy 를 "
+                    + "native 또는 framework 로 설정해야 합니다 (프록시 없이 직접 노출된 경우 app.rate-limit.trust-remote-addr=true)");
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        // Ant 스타일 경로 패턴
+        private List<String> patterns = new ArrayList<>();
+
+        // user: 토큰 subject(로그인 아이디), 토큰이 없으면 IP / ip: 항상 클라이언트 IP
+        private KeyType key = KeyType.USER;
+
+        // 순간적으로 허용하는 최대 요청 수
+        private long capacity = 60;
+
+        // 초당 채워지는 요청 수
+        private double refillPerSecond = 1.0;
+    }
+
+    public enum KeyType {
+        USER, IP
+    }
+}
@@ -0,0 +1,77 @@
+package com.connecteamed.server.global.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키별 토큰 버킷 저장소
+ * - 키 해시로 고른 분할(stripe)마다 별도의 맵을 두어 정리 작업이 분할 단위로 끝나도록 한다
+ * - 가득 찬 버킷은 새 버킷과 동일하므로 정리해도 제한 결과가 달라지지 않는다
+ */
+@Component
+public class RateLimiter {
+
+    private final Map<String, TokenBucket>[] stripes;
+    private final int mask;
+    private final int maxKeysPerStripe;
+
+    @SuppressWarnings("unchecked")
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        int size = Integer.highestOneBit(Math.max(1, properties.getStripes() - 1) << 1);
+        this.stripes = new Map[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = size - 1;
+        this.maxKeysPerStripe = properties.getMaxKeysPerStripe();
+
+        Gauge.builder("http.ratelimit.buckets", this, RateLimiter::size)
+                .description("메모리에 보관 중인 요청 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 0 이면 통과, 양수면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key, RateLimitProperties.Group group) {
+        long now = System.nanoTime();
+        Map<String, TokenBucket> stripe = stripes[spread(key.hashCode()) & mask];
+        TokenBucket bucket = stripe.get(key);
+        if (bucket == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                evictFull(stripe, now);
+            }
+            bucket = stripe.computeIfAbsent(key, k -> new TokenBucket());
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / group.getRefillPerSecond());
+        return bucket.tryAcquire(now, Math.max(1, intervalNanos), Math.max(1, group.getCapacity()));
+    }
+
+    // 가득 찬(= 한동안 요청이 없던) 버킷 정리
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        long now = System.nanoTime();
+        for (Map<String, TokenBucket> stripe : stripes) {
+            evictFull(stripe, now);
+        }
+    }
+
+    public int size() {
+        return Arrays.stream(stripes).mapToInt(Map::size).sum();
+    }
+
+    private static void evictFull(Map<String, TokenBucket> stripe, long now) {
+        stripe.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,35 @@
+package com.connecteamed.server.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ * - 남은 토큰 수 대신 "버킷이 다시 가득 차는 이론상 시각" 하나만 CAS 로 갱신
+ * - 그 시각이 현재 이전이면 버킷은 가득 찬 상태이므로 버려도 동작이 같다
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrivalNanos = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @return 0 이면 통과, 양수면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    long tryAcquire(long nowNanos, long emissionIntervalNanos, long capacity) {
+        long burstWindowNanos = emissionIntervalNanos * capacity;
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long overflow = next - nowNanos - burstWindowNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isFull(long nowNanos) {
+        return theoreticalArrivalNanos.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,122 @@
+package com.connecteamed.server.global.scheduler;
+
+import com.connecteamed.server.domain.invite.repository.InviteCodeRepository;
+import com.connecteamed.server.domain.token.repository.BlacklistedTokenRepository;
+import com.connecteamed.server.domain.token.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 만료된 블랙리스트 토큰 / refresh token / 초대 코드 정리
+ * - 한 번에 batchSize 건씩 지우고 배치 사이에 쉬어 잠금 경합과 WAL 폭증을 피한다
+ * - scheduler_lock 으로 여러 인스턴스 중 한 곳에서만 실행
+ * - 테이블별 삭제 건수(purge.rows)와 소요 시간(purge.duration)을 기록
+ */
+@Slf4j
+@Component
+public class ExpiredDataPurgeJob {
+
+    static final String LOCK_NAME = "expired-data-purge";
+
+    private final SchedulerLockManager schedulerLockManager;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BiFunction<Instant, Integer, Integer>> targets = new LinkedHashMap<>();
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatchesPerTable;
+    private final Duration lockAtMost;
+
+    public ExpiredDataPurgeJob(
+            SchedulerLockManager schedulerLockManager,
+            MeterRegistry meterRegistry,
+            BlacklistedTokenRepository blacklistedTokenRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            InviteCodeRepository inviteCodeRepository,
+            @Value("${app.purge.batch-size:1000}") int batchSize,
+            @Value("${app.purge.pause-ms:200}") long pauseMillis,
+            @Value("${app.purge.max-batches-per-table:200}") int maxBatchesPerTable,
+            @Value("${app.purge.lock-at-most-ms:600000}") long lockAtMostMillis
+    ) {
+        this.schedulerLockManager = schedulerLockManager;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatchesPerTable = maxBatchesPerTable;
+        this.lockAtMost = Duration.ofMillis(lockAtMostMillis);
+
+        targets.put("blacklisted_token", blacklistedTokenRepository::deleteExpiredBatch);
+        targets.put("refresh_token", refreshTokenRepository::deleteExpiredBatch);
+        targets.put("invite_code", inviteCodeRepository::deleteExpiredBatch);
+    }
+
+    @Scheduled(cron = "${app.purge.cron:0 */10 * * * *}")
+    public void run() {
+        schedulerLockManager.runWithLock(LOCK_NAME, lockAtMost, this::purgeAll);
+    }
+
+    void purgeAll() {
+        Instant now = Instant.now();
+        targets.forEach((table, deleter) -> {
+            long startedAt = System.nanoTime();
+            long purged = 0;
+            try {
+                purged = purge(deleter, now);
+            } catch (RuntimeException e) {
+                log.warn("[ExpiredDataPurgeJob] {} 정리 실패: {}", table, e.getMessage());
+            } finally {
+                long elapsed = System.nanoTime() - startedAt;
+                Counter.builder("purge.rows").tag("table", table)
+                        .description("만료되어 삭제된 행 수")
+                        .register(meterRegistry)
+                        .increment(purged);
+                Timer.builder("purge.duration").tag("table", table)
+                        .description("테이블별 만료 데이터 정리 소요 시간")
+                        .register(meterRegistry)
+                        .record(Duration.ofNanos(elapsed));
+                if (purged > 0) {
+                    log.info("[ExpiredDataPurgeJob] {} {}건 삭제 ({}ms)", table, purged, Duration.ofNanos(elapsed).toMillis());
+                }
+            }
+        });
+    }
+
+    private long purge(BiFunction<Instant, Integer, Integer> deleter, Instant now) {
+        long purged = 0;
+        for (int batch = 0; batch < maxBatchesPerTable; batch++) {
+            int deleted = deleter.apply(now, batchSize);
+            purged += deleted;
+            // 한 배치를 다 채우지 못했으면 더 지울 행이 없다
+            if (deleted < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
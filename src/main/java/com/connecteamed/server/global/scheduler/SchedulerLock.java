@@ -0,0 +1,35 @@
+package com.connecteamed.server.global.scheduler;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하기 위한 잠금 행
+ * - lockedUntil 이 지나면 다른 인스턴스가 가져갈 수 있다 (실행 중 죽은 노드 대비)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduler_lock")
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    @Column(name = "locked_at")
+    private Instant lockedAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+}
@@ -0,0 +1,81 @@
+package com.connecteamed.server.global.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DB 행 기반 스케줄 잠금
+ * - 조건부 UPDATE 한 번으로 획득 여부가 정해지므로 별도 인프라 없이 노드 간 배타 실행
+ * - 작업이 lockAtMost 를 넘기거나 노드가 죽으면 잠금은 만료 시각에 자동으로 풀린다
+ */
+@Slf4j
+@Component
+public class SchedulerLockManager {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public SchedulerLockManager(SchedulerLockRepository schedulerLockRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        // 호출하는 쪽 트랜잭션과 무관하게 잠금 변경은 즉시 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // 잠금을 얻었을 때만 task 를 실행하고 true 반환
+    public boolean runWithLock(String name, Duration lockAtMost, Runnable task) {
+        if (!tryAcquire(name, lockAtMost)) {
+            log.debug("[SchedulerLock] {} 다른 노드에서 실행 중, 건너뜀", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.release(name, owner, Instant.now()));
+        }
+    }
+
+    private boolean tryAcquire(String name, Duration lockAtMost) {
+        ensureLockRow(name);
+        Instant now = Instant.now();
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLockRepository.tryAcquire(name, owner, now, now.plus(lockAtMost)));
+        return updated != null && updated == 1;
+    }
+
+    // 첫 실행 때 잠금 행 생성 (동시에 만들면 한쪽은 무시)
+    private void ensureLockRow(String name) {
+        if (schedulerLockRepository.existsById(name)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.insertLock(name, Instant.EPOCH));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[SchedulerLock] {} 잠금 행이 이미 생성됨", name);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
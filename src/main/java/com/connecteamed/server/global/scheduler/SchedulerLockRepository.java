@@ -0,0 +1,29 @@
+package com.connecteamed.server.global.scheduler;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // merge 로 기존 행을 덮어쓰지 않도록 INSERT 만 수행 (이미 있으면 제약 위반)
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lock (name, locked_until) VALUES (:name, :lockedUntil)", nativeQuery = true)
+    int insertLock(@Param("name") String name, @Param("lockedUntil") Instant lockedUntil);
+
+    // 잠금이 풀려 있거나 만료된 경우에만 가져간다 (1 이면 획득)
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") Instant now,
+                   @Param("until") Instant until);
+
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now);
+}
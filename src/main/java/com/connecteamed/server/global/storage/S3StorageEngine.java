@@ -0,0 +1,530 @@
+package com.connecteamed.server.global.storage;
+
+import com.connecteamed.server.domain.document.service.S3StorageService;
+import com.connecteamed.server.domain.document.service.StoredObject;
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * S3 저장 엔진 (app.storage.type=s3)
+ * - 문서와 프로젝트 이미지가 함께 쓰는 유일한 S3 경로, S3Config 의 S3AsyncClient 하나 위에서 동작
+ * - 동시에 나가는 요청 수를 maxConcurrentRequests 로 제한 (넘으면 acquireTimeout 까지 기다리고 실패)
+ * - 요청마다 호출 타임아웃을 정한다: 메타데이터/삭제/GET 첫 바이트는 requestTimeout, 본문을 보내는 PUT/part 는 transferTimeout
+ * - 큰 업로드는 InputStream 을 끝까지 버퍼링하지 않고 multipart 로 흘려보낸다
+ *   part 는 비동기로 동시에 올라가고, 메모리에 올라가는 part 버퍼 수는 전체 업로드 합산 maxBufferedParts 개
+ * - 메트릭
+ *   storage.s3.requests{operation, outcome} : 호출 지연 (p50/p95/p99)
+ *   storage.s3.bytes{direction}             : 주고받은 바이트 누적 (rate 로 bytes/sec)
+ *   storage.s3.inflight                     : 진행 중인 요청 수
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3StorageEngine implements S3StorageService {
+
+    // S3 multipart 의 최소 part 크기 (마지막 part 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final MeterRegistry meterRegistry;
+    private final String bucket;
+    private final String prefix;
+    private final String publicUrlBase;
+    private final boolean presignedDownload;
+    private final Duration presignedUrlTtl;
+    private final int partSize;
+    private final long maxObjectBytes;
+    private final Semaphore bufferPermits;
+    private final Semaphore requestPermits;
+    private final long acquireTimeoutMillis;
+    private final AwsRequestOverrideConfiguration requestTimeout;
+    private final AwsRequestOverrideConfiguration transferTimeout;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter uploadedBytes;
+    private final Counter downloadedBytes;
+
+    public S3StorageEngine(
+            S3AsyncClient s3AsyncClient,
+            S3Presigner s3Presigner,
+            MeterRegistry meterRegistry,
+            @Value("${app.s3.bucket}") String bucket,
+            @Value("${app.s3.prefix:documents}") String prefix,
+            @Value("${app.s3.endpoint:}") String endpoint,
+            @Value("${app.document.download.mode:proxy}") String downloadMode,
+            @Value("${app.document.download.presigned-ttl-seconds:60}") long presignedTtlSeconds,
+            @Value("${app.s3.upload.part-size-bytes:8388608}") int partSize,
+            @Value("${app.s3.upload.max-buffered-parts:16}") int maxBufferedParts,
+            @Value("${app.s3.upload.max-object-bytes:2147483648}") long maxObjectBytes,
+            @Value("${app.s3.client.max-concurrent-requests:64}") int maxConcurrentRequests,
+            @Value("${app.s3.client.acquire-timeout-ms:30000}") long acquireTimeoutMillis,
+            @Value("${app.s3.timeout.request-ms:10000}") long requestTimeoutMillis,
+            @Value("${app.s3.timeout.transfer-ms:120000}") long transferTimeoutMillis
+    ) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.meterRegistry = meterRegistry;
+        this.bucket = bucket;
+        this.prefix = prefix;
+        // 기존 프로젝트 이미지 URL 과 같은 형식, S3 호환 저장소면 path-style
+        this.publicUrlBase = endpoint == null || endpoint.isBlank()
+                ? "https://%s.s3.amazonaws.com/".formatted(bucket)
+                : "%s/%s/".formatted(endpoint.replaceAll("/+$", ""), bucket);
+        this.presignedDownload = "presigned".equalsIgnoreCase(downloadMode);
+        this.presignedUrlTtl = Duration.ofSeconds(presignedTtlSeconds);
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.maxObjectBytes = maxObjectBytes;
+        this.bufferPermits = new Semaphore(Math.max(1, maxBufferedParts), true);
+        this.requestPermits = new Semaphore(Math.max(1, maxConcurrentRequests), true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.requestTimeout = AwsRequestOverrideConfiguration.builder()
+                .apiCallTimeout(Duration.ofMillis(requestTimeoutMillis))
+                .build();
+        this.transferTimeout = AwsRequestOverrideConfiguration.builder()
+                .apiCallTimeout(Duration.ofMillis(transferTimeoutMillis))
+                .build();
+
+        Gauge.builder("storage.s3.inflight", inFlight, AtomicInteger::get)
+                .description("진행 중인 S3 요청 수")
+                .register(meterRegistry);
+        this.uploadedBytes = bytesCounter(meterRegistry, "upload");
+        this.downloadedBytes = bytesCounter(meterRegistry, "download");
+    }
+
+    @Override
+    public String upload(MultipartFile file, String keyPrefix) {
+        try (InputStream in = file.getInputStream()) {
+            return upload(in, file.getOriginalFilename(), file.getContentType(), keyPrefix);
+        } catch (IOException e) {
+            throw new RuntimeException("S3 업로드 실패", e);
+        }
+    }
+
+    @Override
+    public String upload(InputStream in, String filename, String contentType, String keyPrefix) {
+        String original = filename == null ? "file" : filename;
+        String safeName = original.replaceAll("[\\\\/]", "_");
+        String key = "%s/%s/%s_%s".formatted(prefix, keyPrefix, UUID.randomUUID(), safeName);
+        store(key, in, contentType);
+        return key; // DB에는 key 저장 권장
+    }
+
+    @Override
+    public void store(String key, InputStream in, String contentType) {
+        try {
+            long size = put(key, contentType, in);
+            log.debug("S3 store done. key={}, size={}", key, size);
+        } catch (Exception e) {
+            log.error("S3 store failed. bucket={}, key={}", bucket, key, e);
+            throw new RuntimeException("S3 업로드 실패", e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        join(call("DeleteObject", () -> s3AsyncClient.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .overrideConfiguration(requestTimeout)
+                .build())));
+    }
+
+    @Override
+    public StoredObject download(String key, String range, String ifNoneMatch) {
+        // 타임아웃은 응답 헤더까지, 본문은 호출자가 읽는 속도대로 흘러온다 (멈추면 read-timeout)
+        GetObjectRequest req = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range(range)
+                .ifNoneMatch(ifNoneMatch)
+                .overrideConfiguration(requestTimeout)
+                .build();
+        // 본문을 다 읽을 때까지 연결을 쓰므로 permit/진행 중 카운트는 스트림을 닫을 때 반환한다 (실패/304 는 send 가 바로 반환)
+        Permit permit = acquire("GetObject");
+        try {
+            ResponseInputStream<GetObjectResponse> in = join(send("GetObject",
+                    () -> s3AsyncClient.getObject(req, AsyncResponseTransformer.toBlockingInputStream()), permit));
+            GetObjectResponse res = in.response();
+            return StoredObject.of(new CountingInputStream(in, downloadedBytes, permit::release),
+                    res.contentLength(), res.eTag(), res.lastModified(), res.contentRange());
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                return StoredObject.notModified(ifNoneMatch);
+            }
+            if (e.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                throw new GeneralException(GeneralErrorCode.RANGE_NOT_SATISFIABLE);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<URI> presignedDownloadUri(String key, String contentDisposition) {
+        if (!presignedDownload) {
+            return Optional.empty();
+        }
+        try {
+            // 응답 헤더 값도 서명에 포함되므로 브라우저가 원래 파일명으로 저장한다
+            GetObjectRequest req = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .responseContentDisposition(contentDisposition)
+                    .build();
+            PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                    .signatureDuration(presignedUrlTtl)
+                    .getObjectRequest(req)
+                    .build());
+            return Optional.of(presigned.url().toURI());
+        } catch (Exception e) {
+            log.warn("S3 presign failed, falling back to proxy download. key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String guessDownloadFileName(String key) {
+        return Paths.get(key).getFileName().toString();
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicUrlBase + key;
+    }
+
+    /**
+     * @return 업로드한 바이트 수
+     */
+    long put(String key, String contentType, InputStream in) throws IOException {
+        byte[] first = readPart(in);
+        if (first.length < partSize) {
+            // part 하나로 끝나는 크기면 multipart 를 만들지 않는다
+            try {
+                join(call("PutObject", () -> s3AsyncClient.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .contentType(contentType)
+                                .overrideConfiguration(transferTimeout)
+                                .build(),
+                        AsyncRequestBody.fromBytesUnsafe(first))));
+                uploadedBytes.increment(first.length);
+                return first.length;
+            } finally {
+                bufferPermits.release();
+            }
+        }
+
+        String uploadId;
+        try {
+            uploadId = join(call("CreateMultipartUpload", () -> s3AsyncClient.createMultipartUpload(
+                    CreateMultipartUploadRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .overrideConfiguration(requestTimeout)
+                            .build()))).uploadId();
+        } catch (RuntimeException e) {
+            bufferPermits.release();
+            throw e;
+        }
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        long total = 0;
+        try {
+            byte[] buffer = first;
+            int partNumber = 1;
+            while (buffer.length > 0) {
+                total += buffer.length;
+                if (total > maxObjectBytes) {
+                    bufferPermits.release();
+                    throw new IOException("업로드 가능한 최대 크기(" + maxObjectBytes + " bytes)를 초과했습니다.");
+                }
+                parts.add(uploadPart(key, uploadId, partNumber++, buffer));
+                failFast(parts);
+                buffer = readPart(in);
+                if (buffer.length == 0) {
+                    bufferPermits.release();
+                }
+            }
+
+            List<CompletedPart> completed = CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                    .thenApply(done -> parts.stream()
+                            .map(CompletableFuture::join)
+                            .sorted(Comparator.comparingInt(CompletedPart::partNumber))
+                            .toList())
+                    .join();
+
+            join(call("CompleteMultipartUpload", () -> s3AsyncClient.completeMultipartUpload(
+                    CompleteMultipartUploadRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                            .overrideConfiguration(requestTimeout)
+                            .build())));
+            return total;
+        } catch (IOException | RuntimeException e) {
+            // 이미 시작된 part 는 끝까지 실행되며 버퍼 permit 을 스스로 반환한다
+            abort(key, uploadId);
+            if (e instanceof CompletionException ce && ce.getCause() != null) {
+                throw new IOException("S3 part 업로드 실패: " + ce.getCause().getMessage(), ce.getCause());
+            }
+            throw e;
+        }
+    }
+
+    // 버퍼 permit 을 얻은 뒤 part 하나를 읽는다 (permit 은 해당 part 업로드가 끝나면 반환)
+    private byte[] readPart(InputStream in) throws IOException {
+        try {
+            bufferPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("part 버퍼 대기 중 인터럽트");
+        }
+        try {
+            return in.readNBytes(partSize);
+        } catch (IOException | RuntimeException e) {
+            bufferPermits.release();
+            throw e;
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] buffer) {
+        CompletableFuture<String> eTag;
+        try {
+            // 버퍼는 part 마다 새로 읽은 배열이라 SDK 가 복사하지 않게 한다
+            eTag = call("UploadPart", () -> s3AsyncClient.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) buffer.length)
+                            .overrideConfiguration(transferTimeout)
+                            .build(),
+                    AsyncRequestBody.fromBytesUnsafe(buffer)))
+                    .thenApply(response -> response.eTag());
+        } catch (RuntimeException e) {
+            bufferPermits.release();
+            throw e;
+        }
+        return eTag.whenComplete((done, e) -> bufferPermits.release())
+                .thenApply(done -> {
+                    uploadedBytes.increment(buffer.length);
+                    return CompletedPart.builder().partNumber(partNumber).eTag(done).build();
+                });
+    }
+
+    // 이미 실패한 part 가 있으면 나머지를 읽지 않고 바로 중단
+    private static void failFast(List<CompletableFuture<CompletedPart>> parts) {
+        for (CompletableFuture<CompletedPart> part : parts) {
+            if (part.isCompletedExceptionally()) {
+                part.join();
+            }
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            join(call("AbortMultipartUpload", () -> s3AsyncClient.abortMultipartUpload(
+                    AbortMultipartUploadRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .overrideConfiguration(requestTimeout)
+                            .build())));
+        } catch (RuntimeException e) {
+            // 버킷 lifecycle 규칙(AbortIncompleteMultipartUpload)이 남은 part 를 정리한다
+            log.warn("[S3StorageEngine] abort 실패 key={}, uploadId={}: {}", key, uploadId, e.getMessage());
+        }
+    }
+
+    // 동시 요청 한도 안에서 요청을 보내고, 끝나면 permit 반환 + 지연 기록
+    private <T> CompletableFuture<T> call(String operation, Supplier<CompletableFuture<T>> request) {
+        Permit permit = acquire(operation);
+        return send(operation, request, permit).whenComplete((response, e) -> permit.release());
+    }
+
+    // 지연은 응답(헤더)까지 기록하고, permit 은 실패했을 때만 반환한다 (성공 시 반환은 호출자 몫)
+    private <T> CompletableFuture<T> send(String operation, Supplier<CompletableFuture<T>> request, Permit permit) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            record(operation, sample, e);
+            permit.release();
+            throw e;
+        }
+        return future.whenComplete((response, e) -> {
+            record(operation, sample, e);
+            if (e != null) {
+                permit.release();
+            }
+        });
+    }
+
+    private Permit acquire(String operation) {
+        try {
+            if (!requestPermits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw SdkClientException.create("S3 동시 요청 한도 대기 시간 초과: " + operation);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.create("S3 요청 대기 중 인터럽트: " + operation, e);
+        }
+        inFlight.incrementAndGet();
+        return new Permit();
+    }
+
+    private void record(String operation, Timer.Sample sample, Throwable error) {
+        sample.stop(Timer.builder("storage.s3.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome(error))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .description("S3 호출 지연")
+                .register(meterRegistry));
+    }
+
+    private static String outcome(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause == null) {
+            return "success";
+        }
+        if (cause instanceof AwsServiceException e) {
+            return e.statusCode() >= 500 ? "server_error" : "client_error";
+        }
+        return "error";
+    }
+
+    // 비동기 결과를 기다리고, SDK 예외는 감싸지 않은 채로 던진다
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (unwrap(e) instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static Counter bytesCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("storage.s3.bytes")
+                .tag("direction", direction)
+                .baseUnit("bytes")
+                .description("S3 와 주고받은 바이트 수")
+                .register(meterRegistry);
+    }
+
+    // 요청 하나가 잡은 동시 요청 한도/진행 중 카운트, 여러 번 반환해도 한 번만 반영
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                requestPermits.release();
+            }
+        }
+    }
+
+    // 다운로드 본문을 읽은 만큼 바이트 수를 세고, 닫힐 때 연결 점유(permit)를 반환한다
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final Counter counter;
+        private final Runnable onClose;
+
+        private CountingInputStream(InputStream in, Counter counter, Runnable onClose) {
+            super(in);
+            this.counter = counter;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                onClose.run();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                counter.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                counter.increment(n);
+            }
+            return n;
+        }
+    }
+}
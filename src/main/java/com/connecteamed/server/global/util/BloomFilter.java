@@ -0,0 +1,108 @@
+package com.connecteamed.server.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키 전용 Bloom filter
+ * - mightContain 이 false 면 "확실히 없음", true 면 "있을 수도 있음"
+ * - 비트 배열은 AtomicLongArray 로 관리하므로 put / mightContain 을 동시에 호출해도 안전
+ * - 삭제를 지원하지 않으므로, 원소가 많이 빠졌다면 새 인스턴스로 다시 만들어 교체해야 함
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        int words = (int) Math.max(1, (bitSize + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 허용 오탐률 (0 < p < 1)
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int k = (int) Math.max(1, Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(Math.min(m, (long) Integer.MAX_VALUE << 6), k);
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hash1, hash2, i));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(index(hash1, hash2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // Kirsch-Mitzenmacher: 두 개의 해시로 k 개의 인덱스를 만든다
+    private long index(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, bitSize);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    private static long hash(String value) {
+        long h = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87cdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,50 @@
+package com.connecteamed.server.global.util;
+
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서
+ * - (정렬 기준 시각, id) 쌍을 URL-safe Base64 문자열로 주고받는다
+ * - 같은 시각의 행이 여러 개여도 id 로 순서가 확정되므로 중복/누락이 없다
+ */
+public record KeysetCursor(Instant at, Long id) {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public String encode() {
+        String raw = at.toString() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null 이나 빈 문자열이면 첫 페이지
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new GeneralException(GeneralErrorCode.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    // 요청 page size 보정
+    public static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
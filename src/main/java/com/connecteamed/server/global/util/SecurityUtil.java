@@ -18,7 +18,7 @@ public class SecurityUtil implements ApplicationContextAware {
     @Override
     public void setApplicationContext(ApplicationContext context) {
         SecurityUtil.applicationContext = context;
-        log.info("[SecurityUtil] ApplicationContext initialized");
+        log.debug("[SecurityUtil] ApplicationContext initialized");
     }
 
     public static String getCurrentLoginId() {
@@ -27,8 +27,7 @@ public class SecurityUtil implements ApplicationContextAware {
         // 실제 인증 정보가 있으면 그 정보 사용
         if (authentication != null && authentication.getName() != null &&
                 !authentication.getName().equals("anonymousUser")) {
-            String name = authentication.getName();
-            log.info("[SecurityUtil] Using authenticated user: {}", name);
+            // 요청마다 호출되므로 INFO 로그를 남기지 않는다
             return authentication.getName();
         }
 
@@ -42,8 +41,7 @@ public class SecurityUtil implements ApplicationContextAware {
             if(isTestableProfile) {
                 testLoginId = applicationContext.getEnvironment().getProperty("app.test.login-id");
                 if (testLoginId != null && !testLoginId.isEmpty()) {
-                    log.info("[SecurityUtil] app.test.login-id from environment: {}", testLoginId);
-                    log.info("[SecurityUtil] Using test login ID: {}", testLoginId);
+                    log.debug("[SecurityUtil] Using test login ID: {}", testLoginId);
                     return testLoginId;
                 }
             }
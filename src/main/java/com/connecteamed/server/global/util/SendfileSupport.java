@@ -0,0 +1,42 @@
+package com.connecteamed.server.global.util;
+
+import com.connecteamed.server.domain.document.service.FileRegionResource;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+/**
+ * 로컬 파일 응답을 Tomcat sendfile 로 넘긴다
+ * - 컨테이너가 sendfile 을 지원하면 본문은 비워 두고 파일 경로/구간만 request attribute 로 전달
+ *   (Tomcat 이 응답 후 FileChannel.transferTo 로 소켓에 직접 전송)
+ * - 지원하지 않으면 InputStreamResource 로 감싸 Spring 의 Range 재처리 없이 그대로 복사
+ */
+public final class SendfileSupport {
+
+    private static final String SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private SendfileSupport() {
+    }
+
+    public static ResponseEntity<Resource> apply(HttpServletRequest request, ResponseEntity<Resource> response) throws IOException {
+        if (!(response.getBody() instanceof FileRegionResource region)) {
+            return response;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SUPPORT_ATTR))) {
+            request.setAttribute(FILENAME_ATTR, region.getPath().toAbsolutePath().normalize().toString());
+            request.setAttribute(START_ATTR, region.getPosition());
+            // end 는 exclusive
+            request.setAttribute(END_ATTR, region.getPosition() + region.contentLength());
+            return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders()).build();
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .body(new InputStreamResource(region.getInputStream()));
+    }
+}
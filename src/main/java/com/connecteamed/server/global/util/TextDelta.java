@@ -0,0 +1,144 @@
+package com.connecteamed.server.global.util;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 텍스트 변경분(delta) 인코딩/적용
+ * - diff-match-patch 의 delta 형식과 같다 (클라이언트는 diff_toDelta 결과를 그대로 보내면 된다)
+ *   =N : 이전 본문에서 N 글자 유지, -N : N 글자 삭제, +text : text 삽입 (URI 인코딩), 연산 구분은 탭
+ * - 길이는 UTF-16 code unit 기준 (JS String.length 와 같다)
+ */
+public final class TextDelta {
+
+    private TextDelta() {
+    }
+
+    /**
+     * before → after 변경분
+     * 공통 앞/뒤를 잘라 가운데 한 구간만 바꾸는 delta 를 만든다 (자동 저장처럼 한 곳만 고치는 경우에 가장 작다)
+     */
+    public static String diff(String before, String after) {
+        String a = before == null ? "" : before;
+        String b = after == null ? "" : after;
+
+        int prefix = 0;
+        int max = Math.min(a.length(), b.length());
+        while (prefix < max && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        // surrogate pair 를 가르지 않도록
+        if (prefix > 0 && Character.isHighSurrogate(a.charAt(prefix - 1))) {
+            prefix--;
+        }
+
+        int suffix = 0;
+        int maxSuffix = max - prefix;
+        while (suffix < maxSuffix
+                && a.charAt(a.length() - 1 - suffix) == b.charAt(b.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(a.charAt(a.length() - suffix))) {
+            suffix--;
+        }
+
+        StringBuilder delta = new StringBuilder();
+        appendRetain(delta, prefix);
+        appendDelete(delta, a.length() - prefix - suffix);
+        appendInsert(delta, b.substring(prefix, b.length() - suffix));
+        appendRetain(delta, suffix);
+        return delta.toString();
+    }
+
+    /**
+     * base 에 delta 를 적용
+     * 형식이 잘못됐거나 유지/삭제 길이 합이 base 길이와 다르면 IllegalArgumentException
+     */
+    public static String apply(String base, String delta) {
+        String text = base == null ? "" : base;
+        if (delta == null || delta.isEmpty()) {
+            if (!text.isEmpty()) {
+                throw new IllegalArgumentException("delta 가 본문 전체를 덮지 않습니다.");
+            }
+            return text;
+        }
+
+        StringBuilder out = new StringBuilder(text.length());
+        int pointer = 0;
+        for (String op : delta.split("\t", -1)) {
+            if (op.isEmpty()) {
+                continue;
+            }
+            String param = op.substring(1);
+            switch (op.charAt(0)) {
+                case '+' -> out.append(decode(param));
+                case '=', '-' -> {
+                    int n = parseLength(param);
+                    if (pointer + n > text.length()) {
+                        throw new IllegalArgumentException("delta 길이가 본문보다 깁니다.");
+                    }
+                    if (op.charAt(0) == '=') {
+                        out.append(text, pointer, pointer + n);
+                    }
+                    pointer += n;
+                }
+                default -> throw new IllegalArgumentException("알 수 없는 delta 연산: " + op.charAt(0));
+            }
+        }
+        if (pointer != text.length()) {
+            throw new IllegalArgumentException("delta 가 본문 전체를 덮지 않습니다.");
+        }
+        return out.toString();
+    }
+
+    private static void appendRetain(StringBuilder delta, int n) {
+        if (n > 0) {
+            separate(delta).append('=').append(n);
+        }
+    }
+
+    private static void appendDelete(StringBuilder delta, int n) {
+        if (n > 0) {
+            separate(delta).append('-').append(n);
+        }
+    }
+
+    private static void appendInsert(StringBuilder delta, String text) {
+        if (!text.isEmpty()) {
+            separate(delta).append('+').append(encode(text));
+        }
+    }
+
+    private static StringBuilder separate(StringBuilder delta) {
+        return delta.isEmpty() ? delta : delta.append('\t');
+    }
+
+    private static int parseLength(String param) {
+        try {
+            int n = Integer.parseInt(param);
+            if (n < 0) {
+                throw new IllegalArgumentException("delta 길이가 음수입니다.");
+            }
+            return n;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 delta 길이: " + param);
+        }
+    }
+
+    // JS encodeURI 와 같은 결과가 되도록 URLEncoder 결과에서 예약 문자를 되돌린다 (diff-match-patch Java 포트와 동일)
+    private static String encode(String text) {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8).replace('+', ' ')
+                .replace("%21", "!").replace("%7E", "~")
+                .replace("%27", "'").replace("%28", "(").replace("%29", ")")
+                .replace("%3B", ";").replace("%2F", "/").replace("%3F", "?")
+                .replace("%3A", ":").replace("%40", "@").replace("%26", "&")
+                .replace("%3D", "=").replace("%2B", "+").replace("%24", "$")
+                .replace("%2C", ",").replace("%23", "#");
+    }
+
+    private static String decode(String param) {
+        // URLDecoder 는 '+' 를 공백으로 바꾸므로 먼저 이스케이프
+        return URLDecoder.decode(param.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,37 @@
+package com.connecteamed.server.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 저장/비교할 SHA-256 다이제스트 (소문자 hex 64자 고정)
+ */
+public final class TokenDigest {
+
+    public static final int HEX_LENGTH = 64;
+
+    private TokenDigest() {
+    }
+
+    public static String sha256Hex(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // 비교 시간이 일치하는 길이에 좌우되지 않도록 상수 시간 비교
+    public static boolean matches(String token, String expectedHex) {
+        if (token == null || expectedHex == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sha256Hex(token).getBytes(StandardCharsets.US_ASCII),
+                expectedHex.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+}
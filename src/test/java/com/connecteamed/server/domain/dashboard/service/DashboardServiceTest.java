@@ -14,6 +14,7 @@ import com.connecteamed.server.domain.retrospective.repository.RetrospectiveRepo
 import com.connecteamed.server.domain.task.entity.Task;
 import com.connecteamed.server.domain.task.enums.TaskStatus;
 import com.connecteamed.server.domain.task.repository.TaskRepository;
+import com.connecteamed.server.global.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -60,13 +63,14 @@ public class DashboardServiceTest {
                 .id(1L).title("회고 제목").project(testProject).build();
 
         org.springframework.test.util.ReflectionTestUtils.setField(retro, "createdAt", java.time.Instant.now());
-        given(retrospectiveRepository.findRecentRetrospectives()).willReturn(List.of(retro));
+        given(retrospectiveRepository.findRecentRetrospectives(any(Pageable.class))).willReturn(List.of(retro));
 
         DashboardRes.RetrospectiveListRes result = dashboardService.getRecentRetrospectives();
 
         assertThat(result.getRetrospectives()).hasSize(1);
         assertThat(result.getRetrospectives().get(0).getTitle()).isEqualTo("회고 제목");
         assertThat(result.getRetrospectives().get(0).getWrittenDate()).isNotNull();
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
@@ -75,7 +79,7 @@ public class DashboardServiceTest {
         Task task = Task.builder()
                 .id(1L).name("마감 업무").status(TaskStatus.TODO).project(testProject)
                 .dueDate(Instant.now()).build();
-        given(taskRepository.findUpcomingTasksByUserId(anyString(), anyList())).willReturn(List.of(task));
+        given(taskRepository.findUpcomingTasksByUserId(anyString(), anyList(), any(Pageable.class))).willReturn(List.of(task));
 
         UpcomingTaskListRes result = dashboardService.getUpcomingTasks(userId);
 
@@ -88,7 +92,7 @@ public class DashboardServiceTest {
     void getRecentNotifications_Success() {
         Notification notification = Notification.builder()
                 .id(1L).content("새로운 메시지").project(testProject).isRead(false).build();
-        given(notificationRepository.findAllByReceiverLoginIdOrderByCreatedAtDesc(userId)).willReturn(List.of(notification));
+        given(notificationRepository.findRecentByReceiverLoginId(eq(userId), any(Pageable.class))).willReturn(List.of(notification));
 
         NotificationListRes result = dashboardService.getRecentNotifications(userId);
 
@@ -96,6 +100,39 @@ public class DashboardServiceTest {
         assertThat(result.notifications().get(0).message()).isEqualTo("새로운 메시지");
     }
 
+    @Test
+    @DisplayName("3-1. 알림 키셋 조회 - size 보다 많으면 잘라내고 마지막 항목으로 다음 커서를 만든다")
+    void getRecentNotifications_NextCursor() {
+        Instant now = Instant.now();
+        Notification first = Notification.builder()
+                .id(3L).content("알림3").project(testProject).isRead(false).build();
+        Notification second = Notification.builder()
+                .id(2L).content("알림2").project(testProject).isRead(false).build();
+        Notification extra = Notification.builder()
+                .id(1L).content("알림1").project(testProject).isRead(false).build();
+        ReflectionTestUtils.setField(first, "createdAt", now);
+        ReflectionTestUtils.setField(second, "createdAt", now.minusSeconds(10));
+        ReflectionTestUtils.setField(extra, "createdAt", now.minusSeconds(20));
+        given(notificationRepository.findRecentByReceiverLoginId(eq(userId), any(Pageable.class)))
+                .willReturn(List.of(first, second, extra));
+
+        NotificationListRes result = dashboardService.getRecentNotifications(userId, null, 2);
+
+        assertThat(result.notifications()).hasSize(2);
+        KeysetCursor cursor = KeysetCursor.decode(result.nextCursor());
+        assertThat(cursor.at()).isEqualTo(now.minusSeconds(10));
+        assertThat(cursor.id()).isEqualTo(2L);
+
+        // 다음 페이지는 커서 이후 조건으로 조회
+        given(notificationRepository.findRecentByReceiverLoginIdBefore(eq(userId), eq(cursor.at()), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(extra));
+
+        NotificationListRes nextPage = dashboardService.getRecentNotifications(userId, result.nextCursor(), 2);
+
+        assertThat(nextPage.notifications()).hasSize(1);
+        assertThat(nextPage.nextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("4. 날짜별 일정 조회 - 업무와 회의가 통합되고 시간순 정렬된다")
     void getDailySchedules_Success() {
@@ -0,0 +1,85 @@
+package com.connecteamed.server.domain.dashboard.service;
+
+import com.connecteamed.server.domain.dashboard.dto.DailyScheduleListRes;
+import com.connecteamed.server.domain.dashboard.dto.DashboardRes;
+import com.connecteamed.server.domain.dashboard.dto.DashboardSummaryRes;
+import com.connecteamed.server.domain.dashboard.dto.NotificationListRes;
+import com.connecteamed.server.domain.dashboard.dto.UpcomingTaskListRes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardSummaryServiceTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    private ExecutorService executor;
+    private DashboardSummaryService dashboardSummaryService;
+
+    private final String userId = "testUser";
+    private final Instant date = Instant.parse("2026-01-22T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        dashboardSummaryService = new DashboardSummaryService(dashboardService, executor, 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("네 섹션을 모두 조회해 하나의 응답으로 합친다")
+    void getSummary_AllSections() {
+        given(dashboardService.getRecentRetrospectives(userId))
+                .willReturn(DashboardRes.RetrospectiveListRes.builder().retrospectives(List.of()).build());
+        given(dashboardService.getUpcomingTasks(userId)).willReturn(new UpcomingTaskListRes(List.of()));
+        given(dashboardService.getRecentNotifications(userId)).willReturn(new NotificationListRes(List.of()));
+        given(dashboardService.getDailySchedules(userId, date)).willReturn(new DailyScheduleListRes(date, List.of()));
+
+        DashboardSummaryRes result = dashboardSummaryService.getSummary(userId, date);
+
+        assertThat(result.retrospectives()).isNotNull();
+        assertThat(result.upcomingTasks()).isNotNull();
+        assertThat(result.notifications()).isNotNull();
+        assertThat(result.dailySchedules()).isNotNull();
+        assertThat(result.failedSections()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패하거나 시간 초과된 섹션만 비우고 나머지는 정상 응답한다")
+    void getSummary_DegradesFailedSections() {
+        given(dashboardService.getRecentRetrospectives(userId))
+                .willReturn(DashboardRes.RetrospectiveListRes.builder().retrospectives(List.of()).build());
+        given(dashboardService.getUpcomingTasks(userId)).willThrow(new IllegalStateException("db down"));
+        given(dashboardService.getRecentNotifications(userId)).willAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return new NotificationListRes(List.of());
+        });
+        given(dashboardService.getDailySchedules(userId, date)).willReturn(new DailyScheduleListRes(date, List.of()));
+
+        DashboardSummaryRes result = dashboardSummaryService.getSummary(userId, date);
+
+        assertThat(result.retrospectives()).isNotNull();
+        assertThat(result.dailySchedules()).isNotNull();
+        assertThat(result.upcomingTasks()).isNull();
+        assertThat(result.notifications()).isNull();
+        assertThat(result.failedSections()).containsExactly("upcomingTasks", "notifications");
+    }
+}
@@ -0,0 +1,121 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.domain.document.entity.Document;
+import com.connecteamed.server.domain.document.entity.DocumentBlob;
+import com.connecteamed.server.domain.document.repository.DocumentBlobRepository;
+import com.connecteamed.server.domain.document.repository.DocumentRepository;
+import com.connecteamed.server.global.scheduler.SchedulerLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentBlobServiceTest {
+
+    @Mock
+    private S3StorageService s3StorageService;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentBlobRepository documentBlobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SchedulerLockManager schedulerLockManager;
+
+    @TempDir
+    Path tempDir;
+
+    private DocumentBlobService blobService;
+    private Path file;
+    private String sha256;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blobService = new DocumentBlobService(s3StorageService, documentRepository, documentBlobRepository,
+                new TransactionTemplate(transactionManager), schedulerLockManager, new SimpleMeterRegistry(),
+                "documents", 60, 100);
+        file = Files.writeString(tempDir.resolve("spool"), "same deck", StandardCharsets.UTF_8);
+        sha256 = DocumentBlobService.sha256Hex(file);
+    }
+
+    @Test
+    @DisplayName("같은 해시가 이미 있으면 PUT 없이 참조만 늘린다")
+    void attach_ReusesExistingBlob() throws Exception {
+        Document document = mock(Document.class);
+        given(documentRepository.findById(1L)).willReturn(Optional.of(document));
+        given(documentBlobRepository.incrementRefCount(sha256)).willReturn(1);
+
+        String key = blobService.attach(1L, file, sha256, "application/pdf");
+
+        assertThat(key).isEqualTo(blobService.storageKey(sha256));
+        verify(document).markReady(key);
+        verify(s3StorageService, never()).store(any(), any(), any());
+        verify(documentBlobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("처음 보는 내용이면 해시 key 로 올리고 refCount 1 로 등록한다")
+    void attach_StoresNewBlob() throws Exception {
+        Document document = mock(Document.class);
+        given(documentRepository.findById(1L)).willReturn(Optional.of(document));
+        given(documentBlobRepository.incrementRefCount(sha256)).willReturn(0);
+        given(documentBlobRepository.existsBySha256(sha256)).willReturn(false);
+
+        String key = blobService.attach(1L, file, sha256, "application/pdf");
+
+        assertThat(key).startsWith("documents/blobs/" + sha256.substring(0, 2) + "/").endsWith(sha256);
+        verify(s3StorageService).store(eq(key), any(), eq("application/pdf"));
+        verify(documentBlobRepository).saveAndFlush(any(DocumentBlob.class));
+        verify(document).markReady(key);
+    }
+
+    @Test
+    @DisplayName("업로드 전에 문서가 삭제됐으면 참조를 늘리지 않는다")
+    void attach_SkipsDeletedDocument() throws Exception {
+        given(documentRepository.findById(1L)).willReturn(Optional.empty());
+
+        assertThat(blobService.attach(1L, file, sha256, "application/pdf")).isNull();
+        verify(documentBlobRepository, never()).incrementRefCount(any());
+        verify(s3StorageService, never()).store(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GC 는 -1 로 표시한 뒤 저장소 객체를 지우고 행을 지운다")
+    void collect_DeletesUnreferencedBlob() {
+        String key = blobService.storageKey(sha256);
+        given(documentBlobRepository.findCollectable(any(), any())).willReturn(List.of(sha256));
+        given(documentBlobRepository.findCollectingKey(sha256)).willReturn(key);
+
+        blobService.collect();
+
+        verify(documentBlobRepository).markCollecting(sha256);
+        verify(s3StorageService).delete(key);
+        verify(documentBlobRepository).deleteCollected(sha256);
+    }
+}
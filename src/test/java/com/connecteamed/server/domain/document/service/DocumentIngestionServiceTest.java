@@ -0,0 +1,137 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.domain.document.entity.Document;
+import com.connecteamed.server.domain.document.repository.DocumentRepository;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentIngestionServiceTest {
+
+    @Mock
+    private DocumentBlobService documentBlobService;
+
+    @Mock
+    private DocumentThumbnailService documentThumbnailService;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ExecutorService executor;
+
+    @TempDir
+    Path spoolDir;
+
+    private DocumentIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        ingestionService = new DocumentIngestionService(documentBlobService, documentThumbnailService, documentRepository,
+                new TransactionTemplate(transactionManager), executor, new SimpleMeterRegistry(),
+                spoolDir.toString(), 1024, 3, 1, 60);
+    }
+
+    @Test
+    @DisplayName("내용 해시로 blob 에 붙이고 임시 파일을 지운다")
+    void ingest_AttachesBlob() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        ingestionService.spool(new ByteArrayInputStream(new byte[100]), publicId);
+        Path spooled = spoolDir.resolve(publicId.toString());
+        String sha256 = DocumentBlobService.sha256Hex(spooled);
+        given(documentBlobService.attach(1L, spooled, sha256, "application/pdf"))
+                .willReturn("documents/blobs/key");
+
+        ingestionService.ingest(1L, publicId, "application/pdf");
+
+        verify(documentRepository, never()).findById(any());
+        assertThat(Files.exists(spoolDir.resolve(publicId.toString()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미지면 blob 에 붙인 뒤 임시 파일을 지우기 전에 썸네일 작업을 맡긴다")
+    void ingest_SchedulesThumbnailsForImage() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        ingestionService.spool(new ByteArrayInputStream(new byte[100]), publicId);
+        Path spooled = spoolDir.resolve(publicId.toString());
+        given(documentBlobService.attach(eq(1L), eq(spooled), any(), eq("image/png")))
+                .willReturn("documents/blobs/key");
+
+        ingestionService.ingest(1L, publicId, "image/png");
+
+        verify(documentThumbnailService).schedule("documents/blobs/key", spooled);
+        assertThat(Files.exists(spooled)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 쓰면 FAILED 로 바꾼다")
+    void ingest_MarksFailedAfterRetries() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        ingestionService.spool(new ByteArrayInputStream(new byte[100]), publicId);
+        Document document = mock(Document.class);
+        given(documentRepository.findById(1L)).willReturn(Optional.of(document));
+        given(documentBlobService.attach(eq(1L), any(), any(), any())).willThrow(new RuntimeException("S3 down"));
+
+        ingestionService.ingest(1L, publicId, "application/pdf");
+
+        verify(documentBlobService, times(3)).attach(eq(1L), any(), any(), any());
+        verify(document).markFailed();
+        assertThat(Files.exists(spoolDir.resolve(publicId.toString()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘는 본문은 임시 파일을 남기지 않고 거절한다")
+    void spool_RejectsOversizedBody() {
+        UUID publicId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> ingestionService.spool(new ByteArrayInputStream(new byte[2048]), publicId))
+                .isInstanceOf(GeneralException.class);
+        assertThat(Files.exists(spoolDir.resolve(publicId.toString()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("워커 대기열이 가득 차면 FAILED 로 바꾸고 429 로 거절한다")
+    void submit_RejectsWhenQueueFull() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        ingestionService.spool(new ByteArrayInputStream(new byte[10]), publicId);
+        Document document = mock(Document.class);
+        given(documentRepository.findById(1L)).willReturn(Optional.of(document));
+        willThrow(new RejectedExecutionException()).given(executor).execute(any());
+
+        assertThatThrownBy(() -> ingestionService.submit(1L, publicId, null))
+                .isInstanceOf(GeneralException.class);
+        verify(document).markFailed();
+        assertThat(Files.exists(spoolDir.resolve(publicId.toString()))).isFalse();
+    }
+}
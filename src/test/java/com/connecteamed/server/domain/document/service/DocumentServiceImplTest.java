@@ -4,31 +4,57 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
+import java.io.ByteArrayInputStream;
+import java.net.URI;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.connecteamed.server.domain.document.dto.DocumentDetailRes;
 import com.connecteamed.server.domain.document.dto.DocumentListRes;
+import com.connecteamed.server.domain.document.dto.DocumentPatchTextReq;
+import com.connecteamed.server.domain.document.dto.DocumentPatchTextRes;
 import com.connecteamed.server.domain.document.dto.DocumentUpdateTextReq;
+import com.connecteamed.server.domain.document.dto.DocumentUploadRes;
 import com.connecteamed.server.domain.document.entity.Document;
 import com.connecteamed.server.domain.document.enums.DocumentFileType;
+import com.connecteamed.server.domain.document.enums.DocumentStatus;
 import com.connecteamed.server.domain.document.repository.DocumentRepository;
 import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.domain.project.entity.Project;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import com.connecteamed.server.domain.search.service.SearchIndexer;
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,7 +64,13 @@ class DocumentServiceImplTest {
     @Mock ProjectRepository projectRepository;
     @Mock ProjectMemberRepository projectMemberRepository;
     @Mock S3StorageService s3StorageService;
-    @Mock MemberRepository memberRepository;
+    @Mock CurrentMemberProvider currentMemberProvider;
+    @Mock DocumentIngestionService documentIngestionService;
+    @Mock DocumentBlobService documentBlobService;
+    @Mock TransactionTemplate transactionTemplate;
+    @Mock SearchIndexer searchIndexer;
+    @Mock DocumentVersionService documentVersionService;
+    @Mock DocumentThumbnailService documentThumbnailService;
 
     @InjectMocks DocumentServiceImpl documentService;
 
@@ -53,6 +85,67 @@ class DocumentServiceImplTest {
         then(documentRepository).shouldHaveNoInteractions();
     }
 
+    @Test
+    @DisplayName("파일 업로드: 임시 파일로 받고 PENDING 문서만 저장한 뒤 업로드는 워커에 넘긴다")
+    void uploadFile_acceptsAsPending() throws Exception {
+        Long projectId = 1L;
+        String loginId = "test@example.com";
+        MockMultipartFile file = new MockMultipartFile("file", "report.pdf", "application/pdf", new byte[]{1, 2, 3});
+
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Document>>getArgument(0).doInTransaction(null));
+        given(projectRepository.getReferenceById(projectId)).willReturn(mock(Project.class));
+        given(currentMemberProvider.getMemberId(loginId)).willReturn(10L);
+        ProjectMember projectMember = mock(ProjectMember.class);
+        given(projectMember.getId()).willReturn(7L);
+        given(projectMemberRepository.findByProject_IdAndMember_Id(projectId, 10L))
+                .willReturn(Optional.of(projectMember));
+        given(projectMemberRepository.getReferenceById(7L)).willReturn(projectMember);
+
+        Document saved = mock(Document.class);
+        given(saved.getId()).willReturn(100L);
+        given(saved.getCreatedAt()).willReturn(Instant.now());
+        given(documentRepository.save(any(Document.class))).willReturn(saved);
+
+        DocumentUploadRes res = documentService.uploadFile(projectId, loginId, file, DocumentFileType.PDF);
+
+        assertThat(res.documentId()).isEqualTo(100L);
+        assertThat(res.status()).isEqualTo(DocumentStatus.PENDING.name());
+        then(documentIngestionService).should().spool(eq(file), any());
+        then(documentIngestionService).should().submit(eq(100L), any(), eq("application/pdf"));
+        then(s3StorageService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("파일 업로드: 멤버가 아니면 본문을 받기 전에 403")
+    void uploadStream_rejectNonMemberBeforeSpool() throws Exception {
+        given(currentMemberProvider.getMemberId("outsider@example.com")).willReturn(99L);
+        given(projectMemberRepository.findByProject_IdAndMember_Id(1L, 99L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> documentService.uploadStream(1L, "outsider@example.com",
+                new ByteArrayInputStream(new byte[]{1}), "a.pdf", "application/pdf", DocumentFileType.PDF))
+                .isInstanceOf(GeneralException.class);
+
+        then(documentIngestionService).shouldHaveNoInteractions();
+        then(documentRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("문서 다운로드: 업로드가 끝나지 않은 문서는 409")
+    void download_rejectPendingDocument() {
+        Long documentId = 15L;
+
+        Document pending = mock(Document.class);
+        given(pending.getFileType()).willReturn(DocumentFileType.PDF);
+        given(pending.getStatus()).willReturn(DocumentStatus.PENDING);
+        given(documentRepository.findByIdAndDeletedAtIsNull(documentId)).willReturn(Optional.of(pending));
+
+        assertThatThrownBy(() -> documentService.download(documentId, new HttpHeaders()))
+                .isInstanceOf(GeneralException.class);
+
+        then(s3StorageService).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("문서 다운로드: TEXT 문서는 다운로드 대상이 아니므로 예외")
     void download_rejectTextDocument() {
@@ -64,12 +157,88 @@ class DocumentServiceImplTest {
         given(documentRepository.findByIdAndDeletedAtIsNull(documentId))
                 .willReturn(Optional.of(textDoc));
 
-        assertThatThrownBy(() -> documentService.download(documentId))
+        assertThatThrownBy(() -> documentService.download(documentId, new HttpHeaders()))
                 .isInstanceOf(GeneralException.class);
 
         then(s3StorageService).shouldHaveNoInteractions();
     }
 
+    @Test
+    @DisplayName("문서 다운로드: pre-signed URL 이 있으면 파일을 중계하지 않고 302 로 보낸다")
+    void download_redirectsToPresignedUrl() {
+        Long documentId = 13L;
+
+        Document fileDoc = mock(Document.class);
+        given(fileDoc.getFileType()).willReturn(DocumentFileType.PDF);
+        given(fileDoc.getFileUrl()).willReturn("documents/project-1/uuid_report.pdf");
+        given(fileDoc.getTitle()).willReturn("보고서.pdf");
+        given(documentRepository.findByIdAndDeletedAtIsNull(documentId)).willReturn(Optional.of(fileDoc));
+
+        URI presigned = URI.create("https://bucket.s3.amazonaws.com/documents/project-1/uuid_report.pdf?X-Amz-Signature=abc");
+        given(s3StorageService.presignedDownloadUri(eq("documents/project-1/uuid_report.pdf"), contains("filename*=UTF-8''")))
+                .willReturn(Optional.of(presigned));
+
+        ResponseEntity<Resource> res = documentService.download(documentId, new HttpHeaders());
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+        assertThat(res.getHeaders().getLocation()).isEqualTo(presigned);
+        then(s3StorageService).should(never()).download(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("문서 다운로드: Range 요청은 저장소 범위 조회로 넘기고 206 과 메타데이터 헤더를 내려준다")
+    void download_forwardsRangeToStorage() {
+        Long documentId = 14L;
+        String key = "documents/project-1/uuid_report.pdf";
+
+        Document fileDoc = mock(Document.class);
+        given(fileDoc.getFileType()).willReturn(DocumentFileType.PDF);
+        given(fileDoc.getFileUrl()).willReturn(key);
+        given(fileDoc.getTitle()).willReturn("report.pdf");
+        given(documentRepository.findByIdAndDeletedAtIsNull(documentId)).willReturn(Optional.of(fileDoc));
+        given(s3StorageService.presignedDownloadUri(eq(key), any())).willReturn(Optional.empty());
+
+        Instant lastModified = Instant.parse("2026-01-01T00:00:00Z");
+        given(s3StorageService.download(key, "bytes=0-99", null)).willReturn(StoredObject.of(
+                new ByteArrayInputStream(new byte[100]), 100L, "\"etag-1\"", lastModified, "bytes 0-99/1000"));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-99");
+
+        ResponseEntity<Resource> res = documentService.download(documentId, headers);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(res.getHeaders().getContentLength()).isEqualTo(100L);
+        assertThat(res.getHeaders().getETag()).isEqualTo("\"etag-1\"");
+        assertThat(res.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-99/1000");
+        assertThat(res.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(res.getHeaders().getLastModified()).isEqualTo(lastModified.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("문서 다운로드: If-None-Match 가 일치하면 본문 없이 304")
+    void download_notModified() {
+        Long documentId = 15L;
+        String key = "documents/project-1/uuid_report.pdf";
+
+        Document fileDoc = mock(Document.class);
+        given(fileDoc.getFileType()).willReturn(DocumentFileType.PDF);
+        given(fileDoc.getFileUrl()).willReturn(key);
+        given(fileDoc.getTitle()).willReturn("report.pdf");
+        given(documentRepository.findByIdAndDeletedAtIsNull(documentId)).willReturn(Optional.of(fileDoc));
+        given(s3StorageService.presignedDownloadUri(eq(key), any())).willReturn(Optional.empty());
+        given(s3StorageService.download(key, null, "\"etag-1\"")).willReturn(StoredObject.notModified("\"etag-1\""));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"etag-1\"");
+
+        ResponseEntity<Resource> res = documentService.download(documentId, headers);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(res.getBody()).isNull();
+        assertThat(res.getHeaders().getETag()).isEqualTo("\"etag-1\"");
+    }
+
     @Test
     @DisplayName("문서 상세: TEXT 문서면 content 존재, downloadUrl은 null")
     void detail_text_success() {
@@ -134,19 +303,88 @@ class DocumentServiceImplTest {
     }
 
     @Test
-    @DisplayName("텍스트 문서 수정: TEXT면 updateText 호출")
+    @DisplayName("텍스트 문서 수정: TEXT면 updateText 호출 후 검색 색인 갱신")
     void updateText_success() {
         Long documentId = 1L;
         DocumentUpdateTextReq req = new DocumentUpdateTextReq("수정제목", "수정내용");
 
+        Project project = mock(Project.class);
+        given(project.getId()).willReturn(10L);
+
         Document d = mock(Document.class);
+        given(d.getId()).willReturn(documentId);
         given(d.getFileType()).willReturn(DocumentFileType.TEXT);
+        given(d.getProject()).willReturn(project);
+        given(d.getTitle()).willReturn("수정제목");
+        given(d.getContent()).willReturn("수정내용");
         given(documentRepository.findByIdAndDeletedAtIsNull(documentId))
                 .willReturn(Optional.of(d));
 
         documentService.updateText(documentId, req);
 
         then(d).should().updateText("수정제목", "수정내용");
+        then(searchIndexer).should().index(SearchTargetType.DOCUMENT, documentId, 10L, "수정제목", "수정내용");
+    }
+
+    @Test
+    @DisplayName("텍스트 문서 delta 수정: 기준 본문에 변경분을 적용하고 새 버전을 남긴다")
+    void patchText_appliesDelta() {
+        Long documentId = 7L;
+        Project project = mock(Project.class);
+
+        Document d = mock(Document.class);
+        given(d.getId()).willReturn(documentId);
+        given(d.getFileType()).willReturn(DocumentFileType.TEXT);
+        given(d.getProject()).willReturn(project);
+        given(d.currentTextVersion()).willReturn(3);
+        given(d.getContent()).willReturn("hello world");
+        given(documentRepository.findByIdAndDeletedAtIsNull(documentId)).willReturn(Optional.of(d));
+        given(documentVersionService.record(d, 3, "hello world", "=6\t-5\t+there")).willReturn(4);
+
+        DocumentPatchTextRes res = documentService.patchText(documentId,
+                new DocumentPatchTextReq(3, null, "=6\t-5\t+there"));
+
+        InOrder inOrder = inOrder(documentVersionService, d);
+        inOrder.verify(documentVersionService).advance(d, 3, "hello world");
+        inOrder.verify(d).updateText(null, "hello there");
+        assertThat(res.version()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("텍스트 문서 delta 수정: 다른 저장이 먼저 버전을 올렸으면 본문을 건드리지 않고 CONFLICT")
+    void patchText_rejectConcurrentSave() {
+        Long documentId = 9L;
+
+        Document d = mock(Document.class);
+        given(d.getFileType()).willReturn(DocumentFileType.TEXT);
+        given(d.currentTextVersion()).willReturn(3);
+        given(d.getContent()).willReturn("hello world");
+        given(documentRepository.findByIdAndDeletedAtIsNull(documentId)).willReturn(Optional.of(d));
+        given(documentVersionService.advance(d, 3, "hello world"))
+                .willThrow(new GeneralException(GeneralErrorCode.CONFLICT, "문서가 그 사이 수정되었습니다."));
+
+        assertThatThrownBy(() -> documentService.patchText(documentId, new DocumentPatchTextReq(3, null, "=6\t-5\t+there")))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", GeneralErrorCode.CONFLICT);
+        then(d).should(never()).updateText(any(), any());
+        then(documentVersionService).should(never()).record(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("텍스트 문서 delta 수정: 기준 버전이 현재 버전과 다르면 CONFLICT")
+    void patchText_rejectStaleBase() {
+        Long documentId = 8L;
+
+        Document d = mock(Document.class);
+        given(d.getFileType()).willReturn(DocumentFileType.TEXT);
+        given(d.currentTextVersion()).willReturn(5);
+        given(documentRepository.findByIdAndDeletedAtIsNull(documentId)).willReturn(Optional.of(d));
+
+        assertThatThrownBy(() -> documentService.patchText(documentId, new DocumentPatchTextReq(4, null, "=3")))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", GeneralErrorCode.CONFLICT);
+        then(d).should(never()).updateText(any(), any());
+        then(documentVersionService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -191,6 +429,25 @@ class DocumentServiceImplTest {
         then(d).should().softDelete();
     }
 
+    @Test
+    @DisplayName("문서 삭제: 파일 문서면 blob 참조를 내린다")
+    void delete_releasesBlob() {
+        Long documentId = 6L;
+        String key = "documents/blobs/ab/cd/abcd";
+
+        Document d = mock(Document.class);
+        given(d.getFileType()).willReturn(DocumentFileType.PDF);
+        given(d.getFileUrl()).willReturn(key);
+        given(documentRepository.findByIdAndDeletedAtIsNull(documentId))
+                .willReturn(Optional.of(d));
+
+        documentService.delete(documentId);
+
+        then(documentBlobService).should().release(key);
+        then(d).should().softDelete();
+        then(s3StorageService).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("문서 삭제: 문서가 없으면 예외")
     void delete_notFound() {
@@ -262,4 +519,35 @@ class DocumentServiceImplTest {
 
         then(s3StorageService).shouldHaveNoInteractions();
     }
+
+    @Test
+    @DisplayName("문서 목록: 썸네일이 만들어진 이미지 문서는 크기별 썸네일 URL 을 포함한다")
+    void list_includesThumbnailUrls() {
+        Long projectId = 1L;
+        String key = "documents/blobs/ab/cd/abcd";
+
+        Document imageDoc = mock(Document.class);
+        given(imageDoc.getId()).willReturn(3L);
+        given(imageDoc.getTitle()).willReturn("photo.jpg");
+        given(imageDoc.getFileType()).willReturn(DocumentFileType.IMAGE);
+        given(imageDoc.getFileUrl()).willReturn(key);
+        given(imageDoc.getCreatedAt()).willReturn(Instant.now());
+
+        ProjectMember pm = mock(ProjectMember.class);
+        Member m = mock(Member.class);
+        given(m.getName()).willReturn("멤버");
+        given(pm.getMember()).willReturn(m);
+        given(imageDoc.getProjectMember()).willReturn(pm);
+
+        given(documentRepository.findAllByProjectIdAndDeletedAtIsNullOrderByCreatedAtDesc(projectId))
+                .willReturn(List.of(imageDoc));
+        given(documentThumbnailService.sizesByKey(Set.of(key)))
+                .willReturn(Map.of(key, List.of(64, 256)));
+
+        DocumentListRes res = documentService.list(projectId);
+
+        assertThat(res.documents().get(0).thumbnailUrls())
+                .containsEntry(64, "/api/documents/3/thumbnails/64")
+                .containsEntry(256, "/api/documents/3/thumbnails/256");
+    }
 }
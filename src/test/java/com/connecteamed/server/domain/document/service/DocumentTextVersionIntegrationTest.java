@@ -0,0 +1,94 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.domain.document.dto.DocumentCreateRes;
+import com.connecteamed.server.domain.document.dto.DocumentCreateTextReq;
+import com.connecteamed.server.domain.document.dto.DocumentPatchTextReq;
+import com.connecteamed.server.domain.document.dto.DocumentPatchTextRes;
+import com.connecteamed.server.domain.document.dto.DocumentUpdateTextReq;
+import com.connecteamed.server.domain.document.dto.DocumentVersionListRes;
+import com.connecteamed.server.domain.member.entity.Member;
+import com.connecteamed.server.domain.member.enums.SocialType;
+import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.domain.project.entity.Project;
+import com.connecteamed.server.domain.project.entity.ProjectMember;
+import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
+import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class DocumentTextVersionIntegrationTest {
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .loginId("docWriter")
+                .name("작성자")
+                .socialType(SocialType.LOCAL)
+                .build());
+        project = projectRepository.save(Project.builder()
+                .name("문서 프로젝트")
+                .owner(member)
+                .goal("문서 버전 검증")
+                .build());
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .member(member)
+                .build());
+    }
+
+    @Test
+    @DisplayName("새로 만든 텍스트 문서는 버전 1 이고, 이어서 수정/delta 수정하면 2, 3 으로 이력이 쌓인다")
+    void createThenUpdate_keepsVersionHistory() {
+        DocumentCreateRes created = documentService.createText(project.getId(), member.getLoginId(),
+                new DocumentCreateTextReq("회의록", "hello world"));
+        Long documentId = created.documentId();
+        em.flush();
+        em.clear();
+
+        assertThat(documentService.listVersions(documentId).currentVersion()).isEqualTo(1);
+
+        documentService.updateText(documentId, new DocumentUpdateTextReq("회의록", "hello there"));
+        em.flush();
+        em.clear();
+
+        DocumentPatchTextRes patched = documentService.patchText(documentId,
+                new DocumentPatchTextReq(2, null, "=11\t+!"));
+        em.flush();
+        em.clear();
+
+        DocumentVersionListRes versions = documentService.listVersions(documentId);
+        assertThat(patched.version()).isEqualTo(3);
+        assertThat(versions.currentVersion()).isEqualTo(3);
+        assertThat(versions.versions()).extracting(DocumentVersionListRes.Item::version).containsExactly(3, 2, 1);
+        assertThat(documentService.getVersion(documentId, 1).content()).isEqualTo("hello world");
+        assertThat(documentService.getVersion(documentId, 2).content()).isEqualTo("hello there");
+        assertThat(documentService.getVersion(documentId, 3).content()).isEqualTo("hello there!");
+    }
+}
@@ -0,0 +1,147 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.domain.document.dto.DocumentVersionRes;
+import com.connecteamed.server.domain.document.entity.Document;
+import com.connecteamed.server.domain.document.entity.DocumentVersion;
+import com.connecteamed.server.domain.document.repository.DocumentRepository;
+import com.connecteamed.server.domain.document.repository.DocumentVersionRepository;
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentVersionServiceTest {
+
+    @Mock DocumentRepository documentRepository;
+    @Mock DocumentVersionRepository documentVersionRepository;
+
+    DocumentVersionService documentVersionService;
+
+    private final Long documentId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        documentVersionService = new DocumentVersionService(documentRepository, documentVersionRepository, 3);
+    }
+
+    private Document textDocument(String content) {
+        Document d = mock(Document.class);
+        given(d.getId()).willReturn(documentId);
+        given(d.getTitle()).willReturn("회의록");
+        given(d.getContent()).willReturn(content);
+        return d;
+    }
+
+    private static DocumentVersion stamped(DocumentVersion v) {
+        ReflectionTestUtils.setField(v, "createdAt", Instant.parse("2026-01-22T00:00:00Z"));
+        return v;
+    }
+
+    @Test
+    @DisplayName("버전 기록: snapshot 사이의 저장은 직전 본문 대비 delta 로 남긴다")
+    void record_storesDeltaBetweenSnapshots() {
+        Document d = textDocument("hello there, long enough body");
+
+        int version = documentVersionService.record(d, 1, "hello world, long enough body", null);
+
+        ArgumentCaptor<DocumentVersion> captor = ArgumentCaptor.forClass(DocumentVersion.class);
+        then(documentVersionRepository).should().save(captor.capture());
+        assertThat(version).isEqualTo(2);
+        assertThat(captor.getValue().isSnapshot()).isFalse();
+        assertThat(captor.getValue().getPayload()).isEqualTo("=6\t-5\t+there\t=18");
+    }
+
+    @Test
+    @DisplayName("버전 기록: snapshot-interval 마다 전체 본문을 snapshot 으로 남긴다")
+    void record_storesSnapshotOnInterval() {
+        Document d = textDocument("hello there, long enough body");
+
+        documentVersionService.record(d, 3, "hello world, long enough body", null);
+
+        ArgumentCaptor<DocumentVersion> captor = ArgumentCaptor.forClass(DocumentVersion.class);
+        then(documentVersionRepository).should().save(captor.capture());
+        assertThat(captor.getValue().isSnapshot()).isTrue();
+        assertThat(captor.getValue().getPayload()).isEqualTo("hello there, long enough body");
+    }
+
+    @Test
+    @DisplayName("버전 기록: 이력 도입 전 문서는 기존 본문을 버전 1 로 먼저 남긴다")
+    void record_legacyDocumentKeepsBaseline() {
+        Document d = textDocument("new body text");
+
+        int version = documentVersionService.record(d, 0, "old body text", null);
+
+        ArgumentCaptor<DocumentVersion> captor = ArgumentCaptor.forClass(DocumentVersion.class);
+        then(documentVersionRepository).should(times(2)).save(captor.capture());
+        assertThat(version).isEqualTo(2);
+        assertThat(captor.getAllValues().get(0).getVersion()).isEqualTo(1);
+        assertThat(captor.getAllValues().get(0).getPayload()).isEqualTo("old body text");
+        assertThat(captor.getAllValues().get(1).getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버전 올리기: 조건부 update 에 성공하면 엔티티 버전도 맞춘다 (이력 도입 전 문서는 2 로)")
+    void advance_marksNextVersion() {
+        Document d = mock(Document.class);
+        given(d.getId()).willReturn(documentId);
+        given(documentRepository.advanceTextVersion(documentId, 0, 2)).willReturn(1);
+
+        int version = documentVersionService.advance(d, 0, "old body text");
+
+        assertThat(version).isEqualTo(2);
+        then(d).should().markTextVersion(2);
+    }
+
+    @Test
+    @DisplayName("버전 올리기: 같은 기준 버전으로 다른 저장이 먼저 커밋됐으면 CONFLICT")
+    void advance_conflictWhenVersionMoved() {
+        Document d = mock(Document.class);
+        given(d.getId()).willReturn(documentId);
+        given(documentRepository.advanceTextVersion(documentId, 4, 5)).willReturn(0);
+
+        assertThatThrownBy(() -> documentVersionService.advance(d, 4, "a"))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", GeneralErrorCode.CONFLICT);
+        then(d).should(never()).markTextVersion(anyInt());
+        then(documentVersionRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("버전 복원: 가장 가까운 snapshot 에 delta 를 차례로 적용한다")
+    void restore_appliesDeltasFromSnapshot() {
+        given(documentVersionRepository.findTopByDocumentIdAndSnapshotTrueAndVersionLessThanEqualOrderByVersionDesc(documentId, 6))
+                .willReturn(Optional.of(stamped(DocumentVersion.snapshot(documentId, 4, "회의록", "hello world"))));
+        given(documentVersionRepository.findAllByDocumentIdAndVersionBetweenOrderByVersionAsc(documentId, 5, 6))
+                .willReturn(List.of(
+                        stamped(DocumentVersion.delta(documentId, 5, "회의록", "=6\t-5\t+there", 11)),
+                        stamped(DocumentVersion.delta(documentId, 6, "회의록 v6", "=11\t+!", 12))
+                ));
+
+        DocumentVersionRes res = documentVersionService.restore(documentId, 6);
+
+        assertThat(res.content()).isEqualTo("hello there!");
+        assertThat(res.title()).isEqualTo("회의록 v6");
+        assertThat(res.version()).isEqualTo(6);
+    }
+}
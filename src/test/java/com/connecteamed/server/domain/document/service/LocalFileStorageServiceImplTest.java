@@ -0,0 +1,115 @@
+package com.connecteamed.server.domain.document.service;
+
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileStorageServiceImplTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageServiceImpl storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalFileStorageServiceImpl(root.toString(), "documents");
+    }
+
+    @Test
+    @DisplayName("S3 와 같은 key 로 저장하고 sha256 샤딩 경로에 파일을 둔다")
+    void upload_UsesSameKeySchemeAndShardedPath() throws Exception {
+        String key = upload("hello world");
+
+        assertThat(key).startsWith("documents/projects/1/").endsWith("_a.txt");
+        Path stored = storage.resolve(key);
+        assertThat(stored.startsWith(root)).isTrue();
+        assertThat(root.relativize(stored).getNameCount()).isEqualTo(3);
+        assertThat(Files.readString(stored)).isEqualTo("hello world");
+    }
+
+    @Test
+    @DisplayName("전체 다운로드는 파일 전체 구간을 transferTo 로 복사한다")
+    void download_WholeFile() throws Exception {
+        String key = upload("hello world");
+
+        StoredObject object = storage.download(key, null, null);
+
+        assertThat(object.isPartial()).isFalse();
+        assertThat(object.contentLength()).isEqualTo(11L);
+        assertThat(read(object)).isEqualTo("hello world");
+    }
+
+    @Test
+    @DisplayName("Range 요청은 해당 구간만 Content-Range 와 함께 돌려준다")
+    void download_Range() throws Exception {
+        String key = upload("hello world");
+
+        StoredObject object = storage.download(key, "bytes=6-", null);
+
+        assertThat(object.contentRange()).isEqualTo("bytes 6-10/11");
+        assertThat(object.contentLength()).isEqualTo(5L);
+        assertThat(read(object)).isEqualTo("world");
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Range 는 416 으로 거절한다")
+    void download_UnsatisfiableRange() throws Exception {
+        String key = upload("hello world");
+
+        assertThatThrownBy(() -> storage.download(key, "bytes=100-200", null))
+                .isInstanceOf(GeneralException.class);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 notModified")
+    void download_NotModified() throws Exception {
+        String key = upload("hello world");
+        String eTag = storage.download(key, null, null).eTag();
+
+        StoredObject object = storage.download(key, null, eTag);
+
+        assertThat(object.notModified()).isTrue();
+        assertThat(object.eTag()).isEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("pre-signed URL 은 발급하지 않는다")
+    void presignedDownloadUri_AlwaysEmpty() {
+        assertThat(storage.presignedDownloadUri("documents/x", "attachment")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공개 URL 은 로컬 저장소 컨트롤러 경로이고 썸네일 접미사를 붙여도 같은 경로 규칙을 따른다")
+    void publicUrl_PointsToStorageEndpoint() {
+        String url = storage.publicUrl("project/abc_대표 이미지.png");
+
+        assertThat(url).isEqualTo("/api/storage/project/abc_%EB%8C%80%ED%91%9C%20%EC%9D%B4%EB%AF%B8%EC%A7%80.png");
+        assertThat(url + ".thumb-320.jpg").startsWith("/api/storage/project/");
+    }
+
+    private String upload(String content) {
+        return storage.upload(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                "a.txt", "text/plain", "projects/1");
+    }
+
+    private static String read(StoredObject object) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = object.fileRegion().getInputStream()) {
+            in.transferTo(out);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -8,6 +8,8 @@ import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.project.entity.Project;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.cache.ProjectCacheInvalidator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +33,8 @@ class InviteServiceTest {
     @Mock private ProjectRepository projectRepository;
     @Mock private ProjectMemberRepository projectMemberRepository;
     @Mock private MemberRepository memberRepository;
+    @Mock private CurrentMemberProvider currentMemberProvider;
+    @Mock private ProjectCacheInvalidator projectCacheInvalidator;
 
     @InjectMocks
     private InviteService inviteService;
@@ -49,7 +53,7 @@ class InviteServiceTest {
                 .build();
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+        when(currentMemberProvider.getMemberId(loginId)).thenReturn(member.getId());
         when(projectMemberRepository.existsByProjectIdAndMemberId(projectId, member.getId())).thenReturn(true);
         when(inviteCodeRepository.findTopByProjectIdAndExpiredAtAfterOrderByCreatedAtDesc(
                 eq(projectId),
@@ -81,7 +85,7 @@ class InviteServiceTest {
                 .build();
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+        when(currentMemberProvider.getMemberId(loginId)).thenReturn(member.getId());
         when(projectMemberRepository.existsByProjectIdAndMemberId(projectId, member.getId())).thenReturn(true);
 
         // 2. 레포지토리에서 임박한 코드가 조회됨
@@ -11,6 +11,7 @@ import com.connecteamed.server.domain.project.entity.Project;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import com.connecteamed.server.domain.search.service.SearchIndexer;
 import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +42,7 @@ class MeetingServiceTest {
     @Mock private MeetingAttendeeRepository meetingAttendeeRepository;
     @Mock private ProjectRepository projectRepository;
     @Mock private ProjectMemberRepository projectMemberRepository;
+    @Mock private SearchIndexer searchIndexer;
 
     @InjectMocks private MeetingService meetingService;
 
@@ -0,0 +1,98 @@
+package com.connecteamed.server.domain.member.service;
+
+import com.connecteamed.server.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LoginIdRegistryTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LoginIdRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new LoginIdRegistry(memberRepository, transactionManager, new SimpleMeterRegistry(), 1000, 0.001);
+    }
+
+    @Test
+    @DisplayName("적재된 필터에 없는 아이디는 DB 조회 없이 사용 가능으로 판단한다")
+    void exists_NegativeSkipsDatabase() {
+        given(memberRepository.streamAllLoginIds()).willReturn(Stream.of("taken1", "taken2"));
+        registry.warmUp();
+
+        assertThat(registry.exists("brand-new-id")).isFalse();
+        verify(memberRepository, never()).existsByLoginId(any());
+    }
+
+    @Test
+    @DisplayName("필터에 걸린 아이디만 DB 로 확인한다")
+    void exists_ProbablePositiveFallsThroughToDatabase() {
+        given(memberRepository.streamAllLoginIds()).willReturn(Stream.of("taken1"));
+        given(memberRepository.existsByLoginId("taken1")).willReturn(true);
+        registry.warmUp();
+
+        assertThat(registry.exists("taken1")).isTrue();
+        verify(memberRepository, times(1)).existsByLoginId("taken1");
+    }
+
+    @Test
+    @DisplayName("가입 시 등록한 아이디와 다른 인스턴스에서 가입한 아이디를 반영한다")
+    void registerAndSync() {
+        given(memberRepository.streamAllLoginIds()).willReturn(Stream.empty());
+        given(memberRepository.findLoginIdsCreatedAfter(any())).willReturn(List.of("other-node"));
+        registry.warmUp();
+
+        registry.register("local-signup");
+        registry.syncFromDatabase();
+
+        assertThat(registry.size()).isEqualTo(2);
+        given(memberRepository.existsByLoginId(any())).willReturn(true);
+        assertThat(registry.exists("local-signup")).isTrue();
+        assertThat(registry.exists("other-node")).isTrue();
+    }
+
+    @Test
+    @DisplayName("겹쳐 다시 읽은 아이디는 개수에 더하지 않아 불필요하게 다시 적재하지 않는다")
+    void sync_OverlappingReadsDoNotInflateCount() {
+        given(memberRepository.streamAllLoginIds()).willReturn(Stream.of("taken1"));
+        given(memberRepository.findLoginIdsCreatedAfter(any())).willReturn(List.of("taken1", "local-signup", "other-node"));
+        registry.warmUp();
+
+        registry.register("local-signup");
+        for (int i = 0; i < 5; i++) {
+            registry.syncFromDatabase();
+        }
+
+        assertThat(registry.size()).isEqualTo(3);
+        verify(memberRepository, times(1)).streamAllLoginIds();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 DB 로 판단한다")
+    void exists_BeforeWarmUp_FallsBackToDatabase() {
+        given(memberRepository.existsByLoginId("loginId")).willReturn(false);
+
+        assertThat(registry.exists("loginId")).isFalse();
+    }
+}
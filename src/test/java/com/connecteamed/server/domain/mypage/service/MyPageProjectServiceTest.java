@@ -1,7 +1,6 @@
 package com.connecteamed.server.domain.mypage.service;
 
 import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.mypage.code.MyPageErrorCode;
 import com.connecteamed.server.domain.mypage.dto.MyPageProjectListRes;
 import com.connecteamed.server.domain.project.entity.Project;
@@ -10,15 +9,13 @@ import com.connecteamed.server.domain.project.enums.ProjectStatus;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
-import com.connecteamed.server.global.util.SecurityUtil;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.cache.ProjectCacheInvalidator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -38,7 +35,7 @@ public class MyPageProjectServiceTest {
     private MyPageProjectService myPageProjectService;
 
     @Mock
-    private MemberRepository memberRepository;
+    private CurrentMemberProvider currentMemberProvider;
 
     @Mock
     private ProjectRepository projectRepository;
@@ -46,17 +43,8 @@ public class MyPageProjectServiceTest {
     @Mock
     private ProjectMemberRepository projectMemberRepository;
 
-    private static MockedStatic<SecurityUtil> mockedSecurityUtil;
-
-    @BeforeAll
-    static void setup() {
-        mockedSecurityUtil = mockStatic(SecurityUtil.class);
-    }
-
-    @AfterAll
-    static void tearDown() {
-        mockedSecurityUtil.close();
-    }
+    @Mock
+    private ProjectCacheInvalidator projectCacheInvalidator;
 
     @Test
     @DisplayName("나의 완료된 프로젝트 목록 조회 성공")
@@ -73,8 +61,7 @@ public class MyPageProjectServiceTest {
                 .id(102L).name("진행 중인 프로젝트").status(ProjectStatus.IN_PROGRESS).build();
         ProjectMember pm2 = ProjectMember.builder().project(progressingProject).member(member).build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(member));
+        given(currentMemberProvider.getMemberReference()).willReturn(member);
         given(projectMemberRepository.findAllByMember(member)).willReturn(List.of(pm1, pm2));
 
         //When
@@ -107,14 +94,15 @@ public class MyPageProjectServiceTest {
                 .build();
 
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(owner));
+        given(currentMemberProvider.getMemberId()).willReturn(owner.getId());
         given(projectRepository.findById(projectId)).willReturn(Optional.of(project));
+        given(projectMemberRepository.findMemberIdsByProjectId(projectId)).willReturn(List.of(1L, 3L));
 
         myPageProjectService.deleteCompletedProject(projectId);
 
         assertThat(project.getDeletedAt()).isNotNull();
         verify(projectRepository, never()).delete(any(Project.class));
+        verify(projectCacheInvalidator).evictProject(projectId, List.of(1L, 3L));
     }
 
     @Test
@@ -132,8 +120,7 @@ public class MyPageProjectServiceTest {
                 .status(ProjectStatus.COMPLETED)
                 .build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(stranger));
+        given(currentMemberProvider.getMemberId()).willReturn(stranger.getId());
         given(projectRepository.findById(projectId)).willReturn(Optional.of(project));
 
         GeneralException exception = assertThrows(GeneralException.class, () ->
@@ -157,8 +144,7 @@ public class MyPageProjectServiceTest {
                 .status(ProjectStatus.IN_PROGRESS)
                 .build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(owner));
+        given(currentMemberProvider.getMemberId()).willReturn(owner.getId());
         given(projectRepository.findById(projectId)).willReturn(Optional.of(project));
         GeneralException exception = assertThrows(GeneralException.class, () ->
                 myPageProjectService.deleteCompletedProject(projectId)
@@ -175,10 +161,6 @@ public class MyPageProjectServiceTest {
     void deleteCompletedProject_NotFound_Fail() {
         String loginId = "test_user";
         Long nonExistentProjectId = 999L;
-        Member member = Member.builder().id(1L).loginId(loginId).build();
-
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(member));
 
         given(projectRepository.findById(nonExistentProjectId)).willReturn(Optional.empty());
 
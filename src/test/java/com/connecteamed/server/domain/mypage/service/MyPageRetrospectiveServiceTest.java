@@ -2,22 +2,18 @@ package com.connecteamed.server.domain.mypage.service;
 
 
 import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.mypage.code.MyPageErrorCode;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.mypage.dto.MyPageRetrospectiveRes;
 import com.connecteamed.server.domain.retrospective.entity.AiRetrospective;
 import com.connecteamed.server.domain.retrospective.repository.RetrospectiveRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
-import com.connecteamed.server.global.util.SecurityUtil;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,19 +36,7 @@ public class MyPageRetrospectiveServiceTest {
     private RetrospectiveRepository retrospectiveRepository;
 
     @Mock
-    private MemberRepository memberRepository;
-
-    private static MockedStatic<SecurityUtil> mockedSecurityUtil;
-
-    @BeforeAll
-    static void setup() {
-        mockedSecurityUtil = mockStatic(SecurityUtil.class);
-    }
-
-    @AfterAll
-    static void tearDown() {
-        mockedSecurityUtil.close();
-    }
+    private CurrentMemberProvider currentMemberProvider;
 
     @Test
     @DisplayName("내가 작성한 회고 목록 조회 성공")
@@ -63,8 +47,7 @@ public class MyPageRetrospectiveServiceTest {
         AiRetrospective retro1 = AiRetrospective.builder().id(55L).title("회고 1").build();
         AiRetrospective retro2 = AiRetrospective.builder().id(54L).title("회고 2").build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(member));
+        given(currentMemberProvider.getMemberReference()).willReturn(member);
         given(retrospectiveRepository.findAllByWriterMemberAndDeletedAtIsNullOrderByCreatedAtDesc(member))
                 .willReturn(List.of(retro1, retro2));
 
@@ -90,8 +73,7 @@ public class MyPageRetrospectiveServiceTest {
                 .deletedAt(null)
                 .build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(member));
+        given(currentMemberProvider.getMemberId()).willReturn(member.getId());
         given(retrospectiveRepository.findById(retroId)).willReturn(Optional.of(retrospective));
 
         myPageRetrospectiveService.deleteRetrospective(retroId);
@@ -114,8 +96,7 @@ public class MyPageRetrospectiveServiceTest {
                 .writer(writer)
                 .build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(otherMember));
+        given(currentMemberProvider.getMemberId()).willReturn(otherMember.getId());
         given(retrospectiveRepository.findById(retroId)).willReturn(Optional.of(retrospective));
 
         GeneralException exception = assertThrows(GeneralException.class, () ->
@@ -141,8 +122,6 @@ public class MyPageRetrospectiveServiceTest {
                 .deletedAt(Instant.now())
                 .build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(member));
         given(retrospectiveRepository.findById(retroId)).willReturn(Optional.of(retrospective));
 
         GeneralException exception = assertThrows(GeneralException.class, () ->
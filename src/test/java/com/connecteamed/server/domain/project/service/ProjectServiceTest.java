@@ -1,5 +1,6 @@
 package com.connecteamed.server.domain.project.service;
 
+import com.connecteamed.server.domain.document.service.S3StorageService;
 import com.connecteamed.server.domain.member.entity.Member;
 import com.connecteamed.server.domain.member.enums.SocialType;
 import com.connecteamed.server.domain.member.repository.MemberRepository;
@@ -16,14 +17,16 @@ import com.connecteamed.server.domain.project.repository.ProjectRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRequiredRoleRepository;
 import com.connecteamed.server.domain.project.repository.ProjectRoleRepository;
 import com.connecteamed.server.global.apiPayload.exception.GeneralException;
-import com.connecteamed.server.global.util.S3Uploader;
+import com.connecteamed.server.global.cache.ProjectCacheInvalidator;
 import com.connecteamed.server.global.util.SecurityUtil;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
@@ -50,11 +53,17 @@ class ProjectServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private S3Uploader s3Uploader;
+    private S3StorageService s3StorageService;
 
     @Mock
     private ProjectMemberRepository projectMemberRepository;
 
+    @Mock
+    private ProjectCacheInvalidator projectCacheInvalidator;
+
+    @Mock
+    private ProjectThumbnailService projectThumbnailService;
+
     private static MockedStatic<SecurityUtil> mockedSecurityUtil;
 
     @InjectMocks
@@ -126,10 +135,8 @@ class ProjectServiceTest {
         when(projectRepository.findByName("UMC 7기")).thenReturn(Optional.empty());
         when(memberRepository.findByLoginId("test@example.com")).thenReturn(Optional.of(testMember));
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
-        when(projectRoleRepository.findByRoleName("DESIGNER")).thenReturn(Optional.of(designerRole));
-        when(projectRoleRepository.findByRoleName("SERVER")).thenReturn(Optional.of(serverRole));
-        when(projectRoleRepository.findByRoleName("ANDROID")).thenReturn(Optional.of(
-                ProjectRole.builder().id(3L).roleName("ANDROID").build()
+        when(projectRoleRepository.findByRoleNameIn(any())).thenReturn(List.of(
+                designerRole, serverRole, ProjectRole.builder().id(3L).roleName("ANDROID").build()
         ));
 
         // when
@@ -140,7 +147,41 @@ class ProjectServiceTest {
         assertEquals(1L, response.getProjectId());
         assertNotNull(response.getCreatedAt());
         verify(projectRepository, times(1)).save(any(Project.class));
-        verify(projectRequiredRoleRepository, times(3)).save(any(ProjectRequiredRole.class));
+        verify(projectRoleRepository, times(1)).findByRoleNameIn(any());
+        verify(projectRoleRepository, never()).saveAll(any());
+        assertEquals(3, capturedRequiredRoles().size());
+    }
+
+    @Test
+    @DisplayName("프로젝트 생성 - 대표 이미지는 저장소에 올리고 공개 URL 을 저장한 뒤 썸네일을 예약한다")
+    void createProject_WithImage() {
+        // given
+        MockMultipartFile image = new MockMultipartFile("image", "cover.png", "image/png", new byte[]{1, 2, 3});
+        ProjectCreateReq createReq = ProjectCreateReq.builder()
+                .name("UMC 7기")
+                .goal("앱 런칭")
+                .image(image)
+                .build();
+
+        when(projectRepository.findByName("UMC 7기")).thenReturn(Optional.empty());
+        when(memberRepository.findByLoginId("test@example.com")).thenReturn(Optional.of(testMember));
+        when(projectRepository.save(any(Project.class))).thenReturn(testProject);
+        when(s3StorageService.publicUrl(anyString())).thenAnswer(invocation ->
+                "https://test-bucket.s3.amazonaws.com/" + invocation.getArgument(0));
+
+        // when
+        projectService.createProject(createReq, "test@example.com");
+
+        // then
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(s3StorageService).store(key.capture(), any(), eq("image/png"));
+        assertTrue(key.getValue().startsWith("project/"));
+        assertTrue(key.getValue().endsWith("_cover.png"));
+
+        ArgumentCaptor<Project> saved = ArgumentCaptor.forClass(Project.class);
+        verify(projectRepository).save(saved.capture());
+        assertEquals("https://test-bucket.s3.amazonaws.com/" + key.getValue(), saved.getValue().getImageUrl());
+        verify(projectThumbnailService).schedule(1L, key.getValue(), saved.getValue().getImageUrl(), image);
     }
 
     @Test
@@ -199,11 +240,11 @@ class ProjectServiceTest {
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
         // 역할이 없다고 가정
-        when(projectRoleRepository.findByRoleName("INVALID_ROLE")).thenReturn(Optional.empty());
+        when(projectRoleRepository.findByRoleNameIn(any())).thenReturn(List.of());
 
-        // 자동 생성되는 역할 save 결과 준비
+        // 자동 생성되는 역할 saveAll 결과 준비
         ProjectRole createdRole = ProjectRole.builder().id(99L).roleName("INVALID_ROLE").build();
-        when(projectRoleRepository.save(any(ProjectRole.class))).thenReturn(createdRole);
+        when(projectRoleRepository.saveAll(any())).thenReturn(List.of(createdRole));
 
         // when
         ProjectRes.CreateResponse response = projectService.createProject(createReq, "test@example.com");
@@ -212,8 +253,10 @@ class ProjectServiceTest {
         assertNotNull(response);
         assertEquals(1L, response.getProjectId());
 
-        verify(projectRoleRepository, times(1)).save(any(ProjectRole.class));              // 역할 자동 생성
-        verify(projectRequiredRoleRepository, times(1)).save(any(ProjectRequiredRole.class)); // 필요역할 등록
+        verify(projectRoleRepository, times(1)).saveAll(any());                  // 역할 자동 생성 (일괄)
+        List<ProjectRequiredRole> registered = capturedRequiredRoles();          // 필요역할 등록 (일괄)
+        assertEquals(1, registered.size());
+        assertEquals(99L, registered.get(0).getProjectRole().getId());
     }
 
     @Test
@@ -275,8 +318,8 @@ class ProjectServiceTest {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(projectRepository.findByName("UMC 8기")).thenReturn(Optional.empty());
         when(projectRequiredRoleRepository.findByProjectId(1L)).thenReturn(new ArrayList<>());
-        when(projectRoleRepository.findByRoleName("DESIGNER")).thenReturn(Optional.of(designerRole));
-        when(projectRoleRepository.findByRoleName("SERVER")).thenReturn(Optional.of(serverRole));
+        when(projectRoleRepository.findByRoleNameIn(any())).thenReturn(List.of(designerRole, serverRole));
+        when(projectMemberRepository.findMemberIdsByProjectId(1L)).thenReturn(List.of(10L, 20L));
 
         // when
         ProjectRes.CreateResponse response = projectService.updateProject(1L, updateReq);
@@ -284,8 +327,43 @@ class ProjectServiceTest {
         // then
         assertNotNull(response);
         assertEquals(1L, response.getProjectId());
-        verify(projectRequiredRoleRepository, times(1)).deleteAll(any());
-        verify(projectRequiredRoleRepository, times(2)).save(any(ProjectRequiredRole.class));
+        verify(projectRequiredRoleRepository, never()).deleteAllInBatch(any());
+        assertEquals(2, capturedRequiredRoles().size());
+        // 이름이 바뀌었으므로 이 프로젝트 팀원들의 팀 목록만 비운다
+        verify(projectCacheInvalidator).evictMemberTeams(10L);
+        verify(projectCacheInvalidator).evictMemberTeams(20L);
+    }
+
+    @Test
+    @DisplayName("프로젝트 수정 성공 - 바뀐 필요 역할만 삭제/추가")
+    void updateProject_Success_OnlyChangedRoles() {
+        // given: 기존 DESIGNER, SERVER → 요청 SERVER, ANDROID
+        ProjectRole androidRole = ProjectRole.builder().id(3L).roleName("ANDROID").build();
+        ProjectRequiredRole existingDesigner = ProjectRequiredRole.builder()
+                .id(10L).project(testProject).projectRole(designerRole).build();
+        ProjectRequiredRole existingServer = ProjectRequiredRole.builder()
+                .id(11L).project(testProject).projectRole(serverRole).build();
+        ProjectUpdateReq updateReq = ProjectUpdateReq.builder()
+                .name("UMC 7기")
+                .goal("앱 런칭")
+                .requiredRoleNames(Arrays.asList("SERVER", "ANDROID"))
+                .build();
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(projectRequiredRoleRepository.findByProjectId(1L)).thenReturn(List.of(existingDesigner, existingServer));
+        when(projectRoleRepository.findByRoleNameIn(any())).thenReturn(List.of(serverRole, androidRole));
+
+        // when
+        projectService.updateProject(1L, updateReq);
+
+        // then
+        verify(projectRequiredRoleRepository, times(1)).deleteAllInBatch(List.of(existingDesigner));
+        List<ProjectRequiredRole> added = capturedRequiredRoles();
+        assertEquals(1, added.size());
+        assertEquals(3L, added.get(0).getProjectRole().getId());
+        // 이름이 그대로면 팀 목록 캐시는 건드리지 않는다
+        verify(projectMemberRepository, never()).findMemberIdsByProjectId(any());
+        verify(projectCacheInvalidator, never()).evictMemberTeams(any());
     }
 
     @Test
@@ -335,11 +413,19 @@ class ProjectServiceTest {
         assertEquals(ProjectErrorCode.PROJECT_NAME_ALREADY_EXISTS, exception.getCode());
     }
 
+    @SuppressWarnings("unchecked")
+    private List<ProjectRequiredRole> capturedRequiredRoles() {
+        ArgumentCaptor<List<ProjectRequiredRole>> captor = ArgumentCaptor.forClass(List.class);
+        verify(projectRequiredRoleRepository, times(1)).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
     @Test
     @DisplayName("프로젝트 종료 성공")
     void closeProject_Success() {
         // given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(projectMemberRepository.findMemberIdsByProjectId(1L)).thenReturn(List.of(10L, 20L));
 
         // when
         ProjectRes.CloseResponse response = projectService.closeProject(1L);
@@ -349,6 +435,7 @@ class ProjectServiceTest {
         assertEquals(1L, response.getProjectId());
         assertEquals(ProjectStatus.COMPLETED, response.getStatus());
         assertNotNull(response.getClosedAt());
+        verify(projectCacheInvalidator).evictProject(1L, List.of(10L, 20L));
     }
 
     @Test
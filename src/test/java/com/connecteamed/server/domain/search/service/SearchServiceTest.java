@@ -0,0 +1,106 @@
+package com.connecteamed.server.domain.search.service;
+
+import com.connecteamed.server.domain.project.entity.ProjectMember;
+import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
+import com.connecteamed.server.domain.search.dto.SearchHit;
+import com.connecteamed.server.domain.search.dto.SearchRes;
+import com.connecteamed.server.domain.search.enums.SearchTargetType;
+import com.connecteamed.server.domain.search.repository.SearchEntryRepository;
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock SearchEntryRepository searchEntryRepository;
+    @Mock SearchIndexSchema searchIndexSchema;
+    @Mock ProjectMemberRepository projectMemberRepository;
+    @Mock CurrentMemberProvider currentMemberProvider;
+
+    @InjectMocks SearchService searchService;
+
+    private final Long projectId = 1L;
+    private final String loginId = "user1";
+
+    private void givenMember() {
+        given(currentMemberProvider.getMemberId(loginId)).willReturn(10L);
+        given(projectMemberRepository.findByProject_IdAndMember_Id(projectId, 10L))
+                .willReturn(Optional.of(mock(ProjectMember.class)));
+    }
+
+    @Test
+    @DisplayName("검색: 프로젝트 멤버가 아니면 FORBIDDEN")
+    void search_rejectNonMember() {
+        given(currentMemberProvider.getMemberId(loginId)).willReturn(10L);
+        given(projectMemberRepository.findByProject_IdAndMember_Id(projectId, 10L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> searchService.search(projectId, loginId, "회의", null, null))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", GeneralErrorCode.FORBIDDEN);
+        then(searchEntryRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("검색: 글자/숫자가 없는 검색어는 BAD_REQUEST")
+    void search_rejectEmptyQuery() {
+        givenMember();
+
+        assertThatThrownBy(() -> searchService.search(projectId, loginId, " !? ", null, null))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", GeneralErrorCode.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("검색: 전문 검색이면 단어별 접두어 AND tsquery 로 size+1 건 조회")
+    void search_fullText() {
+        givenMember();
+        given(searchIndexSchema.isFullTextEnabled()).willReturn(true);
+        given(searchEntryRepository.searchFullText(projectId, "주간:* & api:*", 2, 3)).willReturn(List.of(
+                new SearchHit(SearchTargetType.MEETING, 5L, "주간 회의", "API 설계", 0.9),
+                new SearchHit(SearchTargetType.TASK, 6L, "API 작업", "주간 보고", 0.5),
+                new SearchHit(SearchTargetType.DOCUMENT, 7L, "문서", "주간 API", 0.1)
+        ));
+
+        SearchRes res = searchService.search(projectId, loginId, "주간, API!", 1, 2);
+
+        assertThat(res.results()).extracting(SearchRes.Item::id).containsExactly(5L, 6L);
+        assertThat(res.hasNext()).isTrue();
+        assertThat(res.page()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색: 전문 검색이 없으면 포함 검색 후 제목 일치를 먼저 정렬")
+    void search_fallbackRanksTitleFirst() {
+        givenMember();
+        given(searchIndexSchema.isFullTextEnabled()).willReturn(false);
+        given(searchEntryRepository.searchContaining(eq(projectId), eq(List.of("배포")), anyInt())).willReturn(List.of(
+                new SearchHit(SearchTargetType.TASK, 1L, "서버 점검", "배포 전 확인", 0),
+                new SearchHit(SearchTargetType.DOCUMENT, 2L, "배포 가이드", "절차", 0)
+        ));
+
+        SearchRes res = searchService.search(projectId, loginId, "배포", null, null);
+
+        assertThat(res.results()).extracting(SearchRes.Item::id).containsExactly(2L, 1L);
+        assertThat(res.results().get(0).score()).isGreaterThan(res.results().get(1).score());
+        assertThat(res.hasNext()).isFalse();
+        then(searchEntryRepository).should().searchContaining(eq(projectId), eq(List.of("배포")), anyInt());
+    }
+}
@@ -57,12 +57,12 @@ class CompletedTaskControllerTest {
     @Test
     @DisplayName("GET /api/projects/{projectId}/tasks/completed 는 200과 목록을 반환한다")
     void getCompletedTasks_ok() throws Exception {
-        when(completedTaskService.getCompletedTasks(1L)).thenReturn(new CompletedTaskListRes(List.of()));
+        when(completedTaskService.getCompletedTasks(1L, null, 10)).thenReturn(new CompletedTaskListRes(List.of(), null));
 
-        mockMvc.perform(get("/api/projects/{projectId}/tasks/completed", 1L))
+        mockMvc.perform(get("/api/projects/{projectId}/tasks/completed", 1L).param("size", "10"))
                 .andExpect(status().isOk());
 
-        verify(completedTaskService, times(1)).getCompletedTasks(1L);
+        verify(completedTaskService, times(1)).getCompletedTasks(1L, null, 10);
     }
 
     @Test
@@ -1,14 +1,18 @@
 package com.connecteamed.server.domain.task.service;
 
-import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.domain.search.service.SearchIndexer;
 import com.connecteamed.server.domain.task.dto.CompletedTaskDetailRes;
+import com.connecteamed.server.domain.task.dto.CompletedTaskListRes;
+import com.connecteamed.server.domain.task.dto.TaskAssigneeRes;
+import com.connecteamed.server.domain.task.dto.TaskSummaryRow;
 import com.connecteamed.server.domain.task.entity.Task;
 import com.connecteamed.server.domain.task.entity.TaskNote;
 import com.connecteamed.server.domain.task.enums.TaskStatus;
 import com.connecteamed.server.domain.task.repository.TaskAssigneeRepository;
 import com.connecteamed.server.domain.task.repository.TaskNoteRepository;
 import com.connecteamed.server.domain.task.repository.TaskRepository;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
+import com.connecteamed.server.global.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,11 +23,9 @@ import static org.mockito.BDDMockito.*;
 import static org.assertj.core.api.Assertions.*;
 
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.test.util.ReflectionTestUtils;
-
-import java.util.Collections;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +44,10 @@ class CompletedTaskServiceTest {
     private TaskNoteRepository taskNoteRepository;
 
     @Mock
-    private MemberRepository memberRepository;
+    private CurrentMemberProvider currentMemberProvider;
+
+    @Mock
+    private SearchIndexer searchIndexer;
 
     @BeforeEach
     void setUp() {}
@@ -53,11 +58,6 @@ class CompletedTaskServiceTest {
         // given
         Long taskId = 1L;
         Long memberId = 1L;
-        String loginId = "testUser";
-
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(loginId, null, Collections.emptyList());
-        SecurityContextHolder.getContext().setAuthentication(authentication);
 
         Task task = Task.builder()
                 .id(taskId)
@@ -70,10 +70,7 @@ class CompletedTaskServiceTest {
 
         TaskNote note = TaskNote.builder().content("나의 회고록").build();
 
-        Member mockMember = mock(Member.class);
-        given(mockMember.getId()).willReturn(memberId);
-
-        given(memberRepository.findByLoginId(any())).willReturn(Optional.of(mockMember));
+        given(currentMemberProvider.getMemberId()).willReturn(memberId);
         given(taskRepository.findById(taskId)).willReturn(Optional.of(task));
         given(taskNoteRepository.findByTaskIdAndTaskAssignee_ProjectMember_Id(taskId, memberId))
                 .willReturn(Optional.of(note));
@@ -86,6 +83,28 @@ class CompletedTaskServiceTest {
         verify(taskNoteRepository, times(1)).findByTaskIdAndTaskAssignee_ProjectMember_Id(taskId, memberId);
     }
 
+    @Test
+    @DisplayName("완료 업무 목록은 페이지 크기만큼 자르고 그 페이지 업무의 담당자만 조회한다")
+    void getCompletedTasks_PagesAndLoadsAssignees() {
+        // given
+        Instant base = Instant.parse("2026-01-22T00:00:00Z");
+        given(taskRepository.findProjectTaskRows(eq(1L), any(), isNull(), eq(3))).willReturn(List.of(
+                new TaskSummaryRow(10L, "업무10", "내용", TaskStatus.DONE, base, base),
+                new TaskSummaryRow(11L, "업무11", "내용", TaskStatus.DONE, base, base),
+                new TaskSummaryRow(12L, "업무12", "내용", TaskStatus.DONE, base, base)));
+        given(taskRepository.findAssigneesByTaskIds(List.of(10L, 11L)))
+                .willReturn(Map.of(10L, List.of(new TaskAssigneeRes(13L, 1L, "김철수"))));
+
+        // when
+        CompletedTaskListRes result = completedTaskService.getCompletedTasks(1L, null, 2);
+
+        // then
+        assertThat(result.tasks()).extracting(CompletedTaskListRes.TaskSummary::taskId).containsExactly(10L, 11L);
+        assertThat(result.tasks().get(0).assigneeNames()).containsExactly("김철수");
+        assertThat(result.tasks().get(1).assigneeNames()).isEmpty();
+        assertThat(KeysetCursor.decode(result.nextCursor()).id()).isEqualTo(11L);
+    }
+
     @Test
     @DisplayName("업무 삭제 호출 시 실제로 삭제되지 않고 deletedAt 필드만 채워져야 한다 (Soft Delete)")
     void deleteCompletedTask_SoftDelete() {
@@ -0,0 +1,115 @@
+package com.connecteamed.server.domain.task.service;
+
+import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
+import com.connecteamed.server.domain.project.repository.ProjectRepository;
+import com.connecteamed.server.domain.search.service.SearchIndexer;
+import com.connecteamed.server.domain.task.dto.TaskAssigneeRes;
+import com.connecteamed.server.domain.task.dto.TaskPageRes;
+import com.connecteamed.server.domain.task.dto.TaskSearchCond;
+import com.connecteamed.server.domain.task.dto.TaskSummaryRow;
+import com.connecteamed.server.domain.task.enums.TaskStatus;
+import com.connecteamed.server.domain.task.exception.TaskException;
+import com.connecteamed.server.domain.task.repository.TaskAssigneeRepository;
+import com.connecteamed.server.domain.task.repository.TaskRepository;
+import com.connecteamed.server.global.util.KeysetCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceImplTest {
+
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskAssigneeRepository taskAssigneeRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    private final Long projectId = 1L;
+    private final Instant base = Instant.parse("2026-01-22T00:00:00Z");
+
+    private TaskSummaryRow row(Long id, Instant startDate) {
+        return new TaskSummaryRow(id, "업무" + id, "내용", TaskStatus.TODO,
+                startDate, startDate.plusSeconds(3600));
+    }
+
+    @Test
+    @DisplayName("페이지 크기보다 많이 조회되면 잘라내고 마지막 업무로 다음 커서를 만든다")
+    void getProjectTasks_NextCursor() {
+        TaskSearchCond cond = new TaskSearchCond(List.of(TaskStatus.TODO), null, null, null);
+        given(projectRepository.existsById(projectId)).willReturn(true);
+        given(taskRepository.findProjectTaskRows(eq(projectId), eq(cond), any(), eq(3)))
+                .willReturn(List.of(row(1L, base), row(2L, base), row(3L, base.plusSeconds(60))));
+
+        TaskPageRes result = taskService.getProjectTasks(projectId, cond, null, 2);
+
+        assertThat(result.tasks()).extracting("taskId").containsExactly(1L, 2L);
+        KeysetCursor next = KeysetCursor.decode(result.nextCursor());
+        assertThat(next.at()).isEqualTo(base);
+        assertThat(next.id()).isEqualTo(2L);
+        // 담당자는 잘라낸 페이지의 업무만 한 번에 조회한다
+        then(taskRepository).should().findAssigneesByTaskIds(List.of(1L, 2L));
+        then(taskAssigneeRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 nextCursor 는 null 이다")
+    void getProjectTasks_LastPage() {
+        KeysetCursor cursor = new KeysetCursor(base, 2L);
+        given(projectRepository.existsById(projectId)).willReturn(true);
+        given(taskRepository.findProjectTaskRows(eq(projectId), any(), eq(cursor), eq(21)))
+                .willReturn(List.of(row(3L, base.plusSeconds(60))));
+
+        TaskPageRes result = taskService.getProjectTasks(projectId, null, cursor.encode(), null);
+
+        assertThat(result.tasks()).hasSize(1);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 업무의 담당자를 업무별로 붙이고, 담당자가 없는 업무는 빈 목록")
+    void getProjectTasks_AttachesAssignees() {
+        given(projectRepository.existsById(projectId)).willReturn(true);
+        given(taskRepository.findProjectTaskRows(eq(projectId), any(), any(), eq(21)))
+                .willReturn(List.of(row(1L, base), row(2L, base)));
+        given(taskRepository.findAssigneesByTaskIds(List.of(1L, 2L))).willReturn(Map.of(1L,
+                List.of(new TaskAssigneeRes(13L, 1L, "김:철수"), new TaskAssigneeRes(14L, 2L, "이영희"))));
+
+        TaskPageRes result = taskService.getProjectTasks(projectId, null, null, null);
+
+        assertThat(result.tasks().get(0).assignees())
+                .containsExactly(new TaskAssigneeRes(13L, 1L, "김:철수"), new TaskAssigneeRes(14L, 2L, "이영희"));
+        assertThat(result.tasks().get(1).assignees()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 프로젝트면 예외가 발생한다")
+    void getProjectTasks_ProjectNotFound() {
+        given(projectRepository.existsById(projectId)).willReturn(false);
+
+        assertThatThrownBy(() -> taskService.getProjectTasks(projectId, null, null, null))
+                .isInstanceOf(TaskException.class);
+    }
+}
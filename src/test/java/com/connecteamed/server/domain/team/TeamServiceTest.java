@@ -1,29 +1,23 @@
 package com.connecteamed.server.domain.team;
 
 import com.connecteamed.server.domain.member.entity.Member;
-import com.connecteamed.server.domain.member.repository.MemberRepository;
 import com.connecteamed.server.domain.project.entity.Project;
 import com.connecteamed.server.domain.project.entity.ProjectMember;
 import com.connecteamed.server.domain.project.repository.ProjectMemberRepository;
 import com.connecteamed.server.domain.team.dto.TeamListRes;
 import com.connecteamed.server.domain.team.service.TeamService;
-import com.connecteamed.server.global.util.SecurityUtil;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
+import com.connecteamed.server.global.auth.CurrentMemberProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mockStatic;
 
 @ExtendWith(MockitoExtension.class)
 class TeamServiceTest {
@@ -32,23 +26,11 @@ class TeamServiceTest {
     private TeamService teamService;
 
     @Mock
-    private MemberRepository memberRepository;
+    private CurrentMemberProvider currentMemberProvider;
 
     @Mock
     private ProjectMemberRepository projectMemberRepository;
 
-    private static MockedStatic<SecurityUtil> mockedSecurityUtil;
-
-    @BeforeAll
-    static void beforeAll() {
-        mockedSecurityUtil = mockStatic(SecurityUtil.class);
-    }
-
-    @AfterAll
-    static void afterAll() {
-        mockedSecurityUtil.close();
-    }
-
     @Test
     @DisplayName("나의 프로젝트 목록 조회 성공 - 참여 중인 프로젝트가 있을 때")
     void getMyProjectTeams_Success() {
@@ -59,8 +41,7 @@ class TeamServiceTest {
         Project project = Project.builder().id(10L).name("테스트 프로젝트").build();
         ProjectMember projectMember = ProjectMember.builder().project(project).member(member).build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(member));
+        given(currentMemberProvider.getMemberId()).willReturn(memberId);
         given(projectMemberRepository.findAllByMemberIdWithProject(memberId))
                 .willReturn(List.of(projectMember));
 
@@ -78,8 +59,7 @@ class TeamServiceTest {
         Long memberId = 2L;
         Member member = Member.builder().id(memberId).loginId(loginId).build();
 
-        given(SecurityUtil.getCurrentLoginId()).willReturn(loginId);
-        given(memberRepository.findByLoginId(loginId)).willReturn(Optional.of(member));
+        given(currentMemberProvider.getMemberId()).willReturn(memberId);
         given(projectMemberRepository.findAllByMemberIdWithProject(memberId)).willReturn(List.of());
 
         TeamListRes.TeamDataList result = teamService.getMyProjectTeams();
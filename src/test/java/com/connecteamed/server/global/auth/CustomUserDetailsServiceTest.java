@@ -0,0 +1,141 @@
+package com.connecteamed.server.global.auth;
+
+import com.connecteamed.server.domain.member.entity.Member;
+import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-0123456789";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private JwtUtil jwtUtil;
+
+    private final Member member = Member.builder()
+            .id(1L)
+            .publicId(UUID.randomUUID())
+            .loginId("tester")
+            .password("hash")
+            .name("테스터")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 60_000L, 600_000L, 100);
+    }
+
+    @Test
+    @DisplayName("mid/pid/role 이 있는 토큰은 DB 조회 없이 principal 을 복원한다")
+    void loadUserByClaims_WithMemberClaims_SkipsDatabase() {
+        CustomUserDetails issued = new CustomUserDetails(1L, member.getPublicId(), "tester", "hash",
+                List.of(new SimpleGrantedAuthority("USER"), new SimpleGrantedAuthority("ADMIN")));
+        Claims claims = jwtUtil.validateToken(jwtUtil.createAccessToken(issued));
+        CustomUserDetailsService service = new CustomUserDetailsService(memberRepository, true);
+
+        CustomUserDetails principal = service.loadUserByClaims(claims);
+
+        assertThat(principal.memberId()).isEqualTo(1L);
+        assertThat(principal.publicId()).isEqualTo(member.getPublicId());
+        assertThat(principal.getUsername()).isEqualTo("tester");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("USER", "ADMIN");
+        then(memberRepository).should(never()).findByLoginId(any());
+    }
+
+    @Test
+    @DisplayName("role 클레임이 비어 있으면 기본 권한(USER)을 준다")
+    void fromClaims_BlankRole_DefaultAuthority() {
+        Claims claims = Jwts.claims()
+                .subject("tester")
+                .add(JwtUtil.CLAIM_MEMBER_ID, 1L)
+                .add(JwtUtil.CLAIM_ROLE, "")
+                .build();
+
+        CustomUserDetails principal = CustomUserDetails.fromClaims(claims);
+
+        assertThat(principal.publicId()).isNull();
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("USER");
+    }
+
+    @Test
+    @DisplayName("mid 가 없는 이전 버전 토큰은 로그인 아이디로 DB 에서 조회한다")
+    void loadUserByClaims_LegacyToken_FallsBackToDatabase() {
+        Claims claims = jwtUtil.validateToken(legacyToken("tester"));
+        given(memberRepository.findByLoginId("tester")).willReturn(Optional.of(member));
+        CustomUserDetailsService service = new CustomUserDetailsService(memberRepository, true);
+
+        CustomUserDetails principal = service.loadUserByClaims(claims);
+
+        assertThat(principal.memberId()).isEqualTo(1L);
+        assertThat(principal.publicId()).isEqualTo(member.getPublicId());
+        then(memberRepository).should().findByLoginId("tester");
+    }
+
+    @Test
+    @DisplayName("이전 버전 토큰의 회원이 없으면 MEMBER_NOT_FOUND")
+    void loadUserByClaims_LegacyToken_MemberNotFound() {
+        Claims claims = jwtUtil.validateToken(legacyToken("gone"));
+        given(memberRepository.findByLoginId("gone")).willReturn(Optional.empty());
+        CustomUserDetailsService service = new CustomUserDetailsService(memberRepository, true);
+
+        assertThatThrownBy(() -> service.loadUserByClaims(claims))
+                .isInstanceOf(GeneralException.class);
+    }
+
+    @Test
+    @DisplayName("stateless-principal=false 이면 mid 가 있어도 항상 DB 에서 조회한다")
+    void loadUserByClaims_StatelessDisabled_AlwaysUsesDatabase() {
+        Claims claims = jwtUtil.validateToken(jwtUtil.createAccessToken(new CustomUserDetails(member)));
+        given(memberRepository.findByLoginId("tester")).willReturn(Optional.of(member));
+        CustomUserDetailsService service = new CustomUserDetailsService(memberRepository, false);
+
+        CustomUserDetails principal = service.loadUserByClaims(claims);
+
+        assertThat(principal.memberId()).isEqualTo(1L);
+        // DB 에서 읽었으므로 비밀번호 해시까지 채워진다
+        assertThat(principal.getPassword()).isEqualTo("hash");
+        then(memberRepository).should().findByLoginId("tester");
+    }
+
+    // mid/pid 클레임을 넣기 전 형식 (subject + role 만)
+    private static String legacyToken(String loginId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(loginId)
+                .claim(JwtUtil.CLAIM_ROLE, "USER")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
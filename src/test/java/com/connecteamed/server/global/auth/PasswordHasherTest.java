@@ -0,0 +1,111 @@
+package com.connecteamed.server.global.auth;
+
+import com.connecteamed.server.global.apiPayload.code.GeneralErrorCode;
+import com.connecteamed.server.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해시/비교 결과는 그대로 돌려주고 실행 시간을 기록한다")
+    void encodeAndMatches() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 2, 8, 5000);
+
+        String encoded = passwordHasher.encode("password1!");
+
+        assertThat(passwordHasher.matches("password1!", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("낮은 cost 로 저장된 해시는 재해시 대상이다")
+    void needsRehash() {
+        String legacy = new BCryptPasswordEncoder(4).encode("password1!");
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), meterRegistry, 1, 1, 5000);
+
+        assertThat(passwordHasher.needsRehash(legacy)).isTrue();
+        assertThat(passwordHasher.needsRehash(passwordHasher.encode("password1!"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행 중 작업과 대기열이 모두 차면 즉시 429 로 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHasher = new PasswordHasher(new BlockingEncoder(started, release), meterRegistry, 1, 1, 5000);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        waitUntilQueued();
+
+        assertThatThrownBy(() -> passwordHasher.encode("c"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code")
+                .isEqualTo(GeneralErrorCode.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hashed");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("hashed");
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (meterRegistry.get("auth.password.hash.queue").gauge().value() == 1.0) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    // 첫 호출이 release 될 때까지 풀 스레드를 붙잡아 두는 인코더
+    private static class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.connecteamed.server.global.auth;
+
+import com.connecteamed.server.domain.token.entity.BlacklistedToken;
+import com.connecteamed.server.domain.token.repository.BlacklistedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenRegistryTest {
+
+    @Mock
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+
+    private RevokedTokenRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RevokedTokenRegistry(blacklistedTokenRepository, new SimpleMeterRegistry(), 1000, 0.001);
+    }
+
+    @Test
+    @DisplayName("기동 시 만료되지 않은 블랙리스트를 적재하고, DB 조회 없이 판별한다")
+    void warmUp_LoadsActiveTokens() {
+        given(blacklistedTokenRepository.findAllByExpiryDateAfter(any()))
+                .willReturn(List.of(new BlacklistedToken("revoked-token", Instant.now().plusSeconds(600))));
+
+        registry.warmUp();
+
+        assertThat(registry.isRevoked("revoked-token")).isTrue();
+        assertThat(registry.isRevoked("fresh-token")).isFalse();
+        assertThat(registry.getHitCount()).isEqualTo(1);
+        verify(blacklistedTokenRepository, never()).findByToken(any());
+        verify(blacklistedTokenRepository, never()).existsByToken(any());
+    }
+
+    @Test
+    @DisplayName("로그아웃으로 등록된 토큰은 즉시 차단된다")
+    void register_RevokesImmediately() {
+        given(blacklistedTokenRepository.findAllByExpiryDateAfter(any())).willReturn(List.of());
+        registry.warmUp();
+
+        registry.register("logout-token", Instant.now().plusSeconds(600));
+
+        assertThat(registry.isRevoked("logout-token")).isTrue();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료시간이 지난 토큰은 주기 정리 시 제거된다")
+    void purgeExpired_RemovesExpiredTokens() {
+        given(blacklistedTokenRepository.findAllByExpiryDateAfter(any())).willReturn(List.of());
+        registry.warmUp();
+        registry.register("short-lived", Instant.now().plusMillis(50));
+        registry.register("long-lived", Instant.now().plusSeconds(600));
+
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        registry.purgeExpired();
+
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.isRevoked("long-lived")).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 DB 로 판단한다")
+    void isRevoked_BeforeWarmUp_FallsBackToDatabase() {
+        given(blacklistedTokenRepository.existsByToken("token")).willReturn(true);
+
+        assertThat(registry.isRevoked("token")).isTrue();
+    }
+}
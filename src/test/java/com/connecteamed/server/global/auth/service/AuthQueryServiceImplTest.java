@@ -0,0 +1,195 @@
+package com.connecteamed.server.global.auth.service;
+
+import com.connecteamed.server.domain.member.entity.Member;
+import com.connecteamed.server.domain.member.repository.MemberRepository;
+import com.connecteamed.server.domain.token.entity.RefreshToken;
+import com.connecteamed.server.domain.token.repository.RefreshTokenRepository;
+import com.connecteamed.server.global.auth.CustomUserDetails;
+import com.connecteamed.server.global.auth.JwtUtil;
+import com.connecteamed.server.global.auth.PasswordHasher;
+import com.connecteamed.server.global.auth.RotatedRefreshTokenCache;
+import com.connecteamed.server.global.auth.dto.AuthReqDTO;
+import com.connecteamed.server.global.auth.dto.AuthResDTO;
+import com.connecteamed.server.global.auth.exception.AuthException;
+import com.connecteamed.server.global.auth.exception.code.AuthErrorCode;
+import com.connecteamed.server.global.util.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuthQueryServiceImplTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private PasswordHasher passwordHasher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JwtUtil jwtUtil;
+    private RotatedRefreshTokenCache rotatedRefreshTokenCache;
+    private AuthQueryServiceImpl authQueryService;
+
+    private final Member member = Member.builder()
+            .id(1L)
+            .publicId(UUID.randomUUID())
+            .loginId("tester")
+            .name("테스터")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil("test-secret-key-test-secret-key-0123456789", 60_000L, 600_000L, 100);
+        rotatedRefreshTokenCache = new RotatedRefreshTokenCache(100);
+        authQueryService = new AuthQueryServiceImpl(memberRepository, refreshTokenRepository, passwordHasher,
+                jwtUtil, rotatedRefreshTokenCache, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("로그인 해시 비교/재해시는 트랜잭션을 열기 전에 끝나고, 쓰기는 짧은 트랜잭션 한 번")
+    void login_HashesOutsideTransaction() {
+        Member stored = Member.builder()
+                .id(1L)
+                .publicId(UUID.randomUUID())
+                .loginId("tester")
+                .password("old-hash")
+                .name("테스터")
+                .build();
+        given(memberRepository.findByLoginId("tester")).willReturn(Optional.of(stored));
+        given(passwordHasher.matches("pw", "old-hash")).willReturn(true);
+        given(passwordHasher.needsRehash("old-hash")).willReturn(true);
+        given(passwordHasher.encode("pw")).willReturn("new-hash");
+        given(memberRepository.getReferenceById(1L)).willReturn(stored);
+        given(refreshTokenRepository.findByMember(stored)).willReturn(Optional.empty());
+
+        AuthResDTO.LoginDTO result = authQueryService.login(new AuthReqDTO.LoginDTO("tester", "pw"));
+
+        assertThat(result.memberId()).isEqualTo(1L);
+        assertThat(stored.getPassword()).isEqualTo("new-hash");
+        InOrder inOrder = inOrder(passwordHasher, transactionManager, refreshTokenRepository);
+        inOrder.verify(passwordHasher).matches("pw", "old-hash");
+        inOrder.verify(passwordHasher).encode("pw");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(refreshTokenRepository).save(any(RefreshToken.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("재발급하면 같은 패밀리 안에서 jti/다이제스트가 교체된다")
+    void reissue_RotatesWithinFamily() {
+        String jti = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(new CustomUserDetails(member), jti);
+        RefreshToken entity = storedToken(jti, refreshToken, "family-1");
+        given(refreshTokenRepository.findByJti(jti)).willReturn(Optional.of(entity));
+
+        AuthResDTO.RefreshResultDTO result = authQueryService.reissue(new AuthReqDTO.ReissueDTO(refreshToken));
+
+        assertThat(entity.getFamilyId()).isEqualTo("family-1");
+        assertThat(entity.getPreviousJti()).isEqualTo(jti);
+        assertThat(entity.getJti()).isNotEqualTo(jti);
+        assertThat(entity.getTokenHash()).isEqualTo(TokenDigest.sha256Hex(result.refreshToken()));
+        assertThat(entity.getToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("교체된 jti 는 트랜잭션이 커밋된 뒤에야 재사용 탐지 캐시에 들어간다")
+    void reissue_RecordsRotatedJtiAfterCommit() {
+        String jti = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(new CustomUserDetails(member), jti);
+        given(refreshTokenRepository.findByJti(jti)).willReturn(Optional.of(storedToken(jti, refreshToken, "family-1")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authQueryService.reissue(new AuthReqDTO.ReissueDTO(refreshToken));
+            assertThat(rotatedRefreshTokenCache.findFamily(jti)).isNull();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(rotatedRefreshTokenCache.findFamily(jti)).isEqualTo("family-1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰을 다시 쓰면 DB 조회 없이 패밀리 전체를 폐기한다")
+    void reissue_ReusedTokenRevokesFamily() {
+        String jti = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(new CustomUserDetails(member), jti);
+        given(refreshTokenRepository.findByJti(jti)).willReturn(Optional.of(storedToken(jti, refreshToken, "family-1")));
+        authQueryService.reissue(new AuthReqDTO.ReissueDTO(refreshToken));
+
+        assertThatThrownBy(() -> authQueryService.reissue(new AuthReqDTO.ReissueDTO(refreshToken)))
+                .isInstanceOf(AuthException.class)
+                .extracting("code")
+                .isEqualTo(AuthErrorCode.REFRESH_TOKEN_REUSED);
+        verify(refreshTokenRepository).deleteByFamilyId("family-1");
+    }
+
+    @Test
+    @DisplayName("캐시에 없어도 직전 jti 로 재사용을 탐지한다")
+    void reissue_ReusedTokenDetectedByPreviousJti() {
+        String jti = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(new CustomUserDetails(member), jti);
+        RefreshToken current = storedToken(UUID.randomUUID().toString(), "newer-token", "family-1");
+        given(refreshTokenRepository.findByJti(jti)).willReturn(Optional.empty());
+        given(refreshTokenRepository.findByPreviousJti(jti)).willReturn(Optional.of(current));
+
+        assertThatThrownBy(() -> authQueryService.reissue(new AuthReqDTO.ReissueDTO(refreshToken)))
+                .isInstanceOf(AuthException.class)
+                .extracting("code")
+                .isEqualTo(AuthErrorCode.REFRESH_TOKEN_REUSED);
+        verify(refreshTokenRepository).deleteByFamilyId("family-1");
+    }
+
+    @Test
+    @DisplayName("jti 가 없는 레거시 토큰은 다이제스트로 조회한다")
+    void reissue_LegacyTokenLookedUpByDigest() {
+        String legacyToken = jwtUtil.createRefreshToken(new CustomUserDetails(member), null);
+        RefreshToken entity = RefreshToken.builder()
+                .token(legacyToken)
+                .member(member)
+                .expiryDate(Instant.now().plusSeconds(600))
+                .build();
+        entity.migrateLegacyToken();
+        given(refreshTokenRepository.findByTokenHash(TokenDigest.sha256Hex(legacyToken))).willReturn(Optional.of(entity));
+
+        authQueryService.reissue(new AuthReqDTO.ReissueDTO(legacyToken));
+
+        assertThat(entity.getJti()).isNotNull();
+        verify(refreshTokenRepository, never()).findByJti(anyString());
+    }
+
+    private RefreshToken storedToken(String jti, String rawToken, String familyId) {
+        return RefreshToken.builder()
+                .jti(jti)
+                .tokenHash(TokenDigest.sha256Hex(rawToken))
+                .familyId(familyId)
+                .member(member)
+                .expiryDate(Instant.now().plusSeconds(600))
+                .build();
+    }
+}
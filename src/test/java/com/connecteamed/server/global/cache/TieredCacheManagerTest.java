@@ -0,0 +1,92 @@
+package com.connecteamed.server.global.cache;
+
+import com.connecteamed.server.domain.project.dto.ProjectRoleListRes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TieredCacheManagerTest {
+
+    private InMemoryDistributedCacheStore remote;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        remote = new InMemoryDistributedCacheStore();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    // 같은 분산 저장소를 공유하는 서버 한 대 분량의 캐시
+    private Cache rolesCache(SimpleMeterRegistry registry) {
+        TieredCacheManager manager = new TieredCacheManager(
+                100, Duration.ofMinutes(1), remote, Duration.ofMinutes(10), registry);
+        manager.afterPropertiesSet();
+        return manager.getCache(CacheNames.PROJECT_ROLES);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 저장한 값을 분산 계층에서 읽어 로컬에 채운다")
+    void get_FallsBackToRemoteTier() {
+        Cache nodeA = rolesCache(meterRegistry);
+        SimpleMeterRegistry nodeBRegistry = new SimpleMeterRegistry();
+        Cache nodeB = rolesCache(nodeBRegistry);
+        ProjectRoleListRes roles = new ProjectRoleListRes(List.of(new ProjectRoleListRes.RoleItem(1L, "SERVER")));
+
+        nodeA.put(1L, roles);
+
+        assertThat(nodeB.get(1L, ProjectRoleListRes.class)).isEqualTo(roles);
+        assertThat(nodeBRegistry.get("cache.remote.gets").tag("result", "hit").counter().count()).isEqualTo(1.0);
+
+        // 두 번째 조회는 로컬 계층에서 끝난다
+        nodeB.get(1L);
+        assertThat(nodeBRegistry.get("cache.remote.gets").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("값 적재는 한 번만 수행하고, 무효화는 두 계층 모두에 반영된다")
+    void loadOnceAndEvictBothTiers() {
+        Cache cache = rolesCache(meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        ProjectRoleListRes first = cache.get(7L, () -> {
+            loads.incrementAndGet();
+            return new ProjectRoleListRes(List.of());
+        });
+        ProjectRoleListRes second = cache.get(7L, () -> {
+            loads.incrementAndGet();
+            return new ProjectRoleListRes(List.of());
+        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remote.size()).isEqualTo(1);
+
+        cache.evict(7L);
+
+        assertThat(cache.get(7L)).isNull();
+        assertThat(remote.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 적중률과 Caffeine 통계를 메트릭으로 노출한다")
+    void publishesMetrics() {
+        Cache cache = rolesCache(meterRegistry);
+        cache.put(1L, new ProjectRoleListRes(List.of()));
+
+        cache.get(1L);
+        cache.get(2L);
+
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", CacheNames.PROJECT_ROLES).gauge().value())
+                .isEqualTo(0.5);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", CacheNames.PROJECT_ROLES).functionCounter())
+                .isNotNull();
+    }
+}
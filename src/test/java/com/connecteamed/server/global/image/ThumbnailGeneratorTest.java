@@ -0,0 +1,99 @@
+package com.connecteamed.server.global.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ThumbnailGenerator generator =
+            new ThumbnailGenerator(executor, new SimpleMeterRegistry(), new int[]{64, 256, 1024}, 0.8f, 100_000_000L);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("긴 변을 각 크기에 맞춘 JPEG 를 만들고 원본보다 크게 늘리지는 않는다")
+    void generate_fitsLongestEdge() throws IOException {
+        Path source = png(600, 300);
+
+        Map<Integer, byte[]> thumbnails = generator.generate(source);
+
+        assertThat(thumbnails).containsOnlyKeys(64, 256, 1024);
+        assertThat(dimensions(thumbnails.get(1024))).containsExactly(600, 300);
+        assertThat(dimensions(thumbnails.get(256))).containsExactly(256, 128);
+        assertThat(dimensions(thumbnails.get(64))).containsExactly(64, 32);
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 빈 결과")
+    void generate_notImage() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("note.txt"), "not an image");
+
+        assertThat(generator.generate(source)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("픽셀 수 제한을 넘으면 디코딩하지 않고 빈 결과")
+    void generate_tooLarge() throws IOException {
+        ThumbnailGenerator limited =
+                new ThumbnailGenerator(executor, new SimpleMeterRegistry(), new int[]{64}, 0.8f, 1_000L);
+
+        assertThat(limited.generate(png(100, 100))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작업 풀에서 만든 썸네일을 sink 에 넘기고 원본 작업 파일은 지운다")
+    void submit_passesThumbnailsAndDeletesSource() throws Exception {
+        Path source = png(300, 600);
+        Map<Integer, byte[]> received = new ConcurrentHashMap<>();
+
+        generator.submit(source, received::putAll);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(received).containsOnlyKeys(64, 256, 1024);
+        assertThat(dimensions(received.get(64))).containsExactly(32, 64);
+        assertThat(source).doesNotExist();
+    }
+
+    // 투명 배경이 섞인 PNG
+    private Path png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width / 2; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xFF3366CC);
+            }
+        }
+        Path path = tempDir.resolve(width + "x" + height + ".png");
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+
+    private static int[] dimensions(byte[] jpeg) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        return new int[]{image.getWidth(), image.getHeight()};
+    }
+}
@@ -0,0 +1,96 @@
+package com.connecteamed.server.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private RateLimiter rateLimiter;
+    private RateLimitProperties.Group group;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setStripes(4);
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+        group = new RateLimitProperties.Group();
+        group.setCapacity(5);
+        group.setRefillPerSecond(0.5);
+    }
+
+    @Test
+    @DisplayName("capacity 만큼은 바로 통과하고, 초과하면 다음 토큰까지의 대기 시간을 돌려준다")
+    void tryAcquire_RejectsAfterCapacity() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("api:user:a", group)).isZero();
+        }
+
+        long waitNanos = rateLimiter.tryAcquire("api:user:a", group);
+
+        assertThat(waitNanos).isPositive();
+        assertThat(waitNanos).isLessThanOrEqualTo(2_000_000_000L);
+        // 다른 키는 영향을 받지 않는다
+        assertThat(rateLimiter.tryAcquire("api:user:b", group)).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 capacity 를 넘겨 통과시키지 않는다")
+    void tryAcquire_ConcurrentRequests() {
+        group.setCapacity(50);
+        group.setRefillPerSecond(0.001);
+        AtomicInteger allowed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            CompletableFuture.allOf(IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        if (rateLimiter.tryAcquire("auth:ip:127.0.0.1", group) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 정리한다")
+    void cleanup_RemovesOnlyFullBuckets() {
+        rateLimiter.tryAcquire("api:user:a", group);
+
+        rateLimiter.cleanup();
+
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("key: ip 그룹이 있는데 forward-headers-strategy 가 none 이면 기동을 막는다")
+    void checkClientIpResolvable_RequiresForwardHeaders() {
+        RateLimitProperties properties = new RateLimitProperties();
+        group.setKey(RateLimitProperties.KeyType.IP);
+        properties.getGroups().put("auth", group);
+
+        assertThatThrownBy(() -> properties.checkClientIpResolvable(ServerProperties.ForwardHeadersStrategy.NONE))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> properties.checkClientIpResolvable(ServerProperties.ForwardHeadersStrategy.NATIVE))
+                .doesNotThrowAnyException();
+
+        properties.setTrustRemoteAddr(true);
+        assertThatCode(() -> properties.checkClientIpResolvable(ServerProperties.ForwardHeadersStrategy.NONE))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,103 @@
+package com.connecteamed.server.global.scheduler;
+
+import com.connecteamed.server.domain.invite.repository.InviteCodeRepository;
+import com.connecteamed.server.domain.token.repository.BlacklistedTokenRepository;
+import com.connecteamed.server.domain.token.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredDataPurgeJobTest {
+
+    @Mock
+    private SchedulerLockManager schedulerLockManager;
+    @Mock
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private InviteCodeRepository inviteCodeRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExpiredDataPurgeJob purgeJob;
+
+    @BeforeEach
+    void setUp() {
+        purgeJob = new ExpiredDataPurgeJob(schedulerLockManager, meterRegistry,
+                blacklistedTokenRepository, refreshTokenRepository, inviteCodeRepository,
+                100, 0, 10, 60_000);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차는 동안 반복 삭제하고 테이블별 삭제 건수를 기록한다")
+    void run_PurgesInBatches() {
+        givenLockAcquired(true);
+        given(blacklistedTokenRepository.deleteExpiredBatch(any(), eq(100))).willReturn(100, 100, 30);
+        given(refreshTokenRepository.deleteExpiredBatch(any(), eq(100))).willReturn(0);
+        given(inviteCodeRepository.deleteExpiredBatch(any(), eq(100))).willReturn(5);
+
+        purgeJob.run();
+
+        verify(blacklistedTokenRepository, times(3)).deleteExpiredBatch(any(), eq(100));
+        verify(refreshTokenRepository, times(1)).deleteExpiredBatch(any(), eq(100));
+        assertThat(purgedRows("blacklisted_token")).isEqualTo(230);
+        assertThat(purgedRows("refresh_token")).isZero();
+        assertThat(purgedRows("invite_code")).isEqualTo(5);
+        assertThat(meterRegistry.get("purge.duration").tag("table", "invite_code").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 테이블이 실패해도 나머지 테이블은 정리한다")
+    void run_ContinuesAfterFailure() {
+        givenLockAcquired(true);
+        given(blacklistedTokenRepository.deleteExpiredBatch(any(), anyInt())).willThrow(new IllegalStateException("lock timeout"));
+        given(refreshTokenRepository.deleteExpiredBatch(any(), anyInt())).willReturn(3);
+        given(inviteCodeRepository.deleteExpiredBatch(any(), anyInt())).willReturn(0);
+
+        purgeJob.run();
+
+        assertThat(purgedRows("refresh_token")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 잡고 있으면 아무것도 삭제하지 않는다")
+    void run_SkipsWithoutLock() {
+        givenLockAcquired(false);
+
+        purgeJob.run();
+
+        verify(blacklistedTokenRepository, never()).deleteExpiredBatch(any(), anyInt());
+        verify(refreshTokenRepository, never()).deleteExpiredBatch(any(), anyInt());
+        verify(inviteCodeRepository, never()).deleteExpiredBatch(any(), anyInt());
+    }
+
+    private void givenLockAcquired(boolean acquired) {
+        given(schedulerLockManager.runWithLock(eq(ExpiredDataPurgeJob.LOCK_NAME), any(Duration.class), any()))
+                .willAnswer(invocation -> {
+                    if (acquired) {
+                        invocation.<Runnable>getArgument(2).run();
+                    }
+                    return acquired;
+                });
+    }
+
+    private double purgedRows(String table) {
+        return meterRegistry.get("purge.rows").tag("table", table).counter().count();
+    }
+}
@@ -0,0 +1,209 @@
+package com.connecteamed.server.global.storage;
+
+import com.connecteamed.server.domain.document.service.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3StorageEngineTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3StorageEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = engine(64);
+    }
+
+    @Test
+    @DisplayName("part 하나보다 작은 파일은 PutObject 한 번으로 올리고 바이트/지연을 기록한다")
+    void put_SmallObjectUsesSinglePut() throws Exception {
+        given(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .willReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        long size = engine.put("key", "text/plain", new ByteArrayInputStream(new byte[1024]));
+
+        assertThat(size).isEqualTo(1024);
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        assertThat(meterRegistry.get("storage.s3.bytes").tag("direction", "upload").counter().count())
+                .isEqualTo(1024);
+        assertThat(meterRegistry.get("storage.s3.requests")
+                .tag("operation", "PutObject").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("storage.s3.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("큰 파일은 part 로 나눠 올리고 part 번호 순서대로 완료한다")
+    void put_LargeObjectUsesMultipart() throws Exception {
+        givenMultipartUpload();
+        given(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(UploadPartResponse.builder()
+                        .eTag("etag-" + invocation.<UploadPartRequest>getArgument(0).partNumber())
+                        .build()));
+        given(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        long size = engine.put("key", "application/pdf", new ByteArrayInputStream(new byte[PART_SIZE * 2 + 100]));
+
+        assertThat(size).isEqualTo(PART_SIZE * 2L + 100);
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber)
+                .containsExactly(1, 2, 3);
+        assertThat(meterRegistry.get("storage.s3.bytes").tag("direction", "upload").counter().count())
+                .isEqualTo(PART_SIZE * 2.0 + 100);
+    }
+
+    @Test
+    @DisplayName("part 업로드가 실패하면 multipart upload 를 abort 한다")
+    void put_AbortsOnPartFailure() {
+        givenMultipartUpload();
+        given(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .willReturn(CompletableFuture.failedFuture(SdkClientException.create("connection reset")));
+        given(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+
+        assertThatThrownBy(() -> engine.put("key", "application/pdf", new ByteArrayInputStream(new byte[PART_SIZE * 2])))
+                .isInstanceOf(Exception.class);
+
+        verify(s3AsyncClient, times(1)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 일치하면 304 를 notModified 로 돌려준다")
+    @SuppressWarnings("unchecked")
+    void download_NotModified() {
+        given(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+                .willReturn(CompletableFuture.failedFuture(S3Exception.builder().statusCode(304).build()));
+
+        StoredObject stored = engine.download("key", null, "\"etag\"");
+
+        assertThat(stored.notModified()).isTrue();
+        assertThat(stored.eTag()).isEqualTo("\"etag\"");
+        assertThat(meterRegistry.get("storage.s3.requests")
+                .tag("operation", "GetObject").tag("outcome", "client_error").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("storage.s3.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("다운로드는 본문 스트림을 닫을 때까지 동시 요청 한도를 잡고 있는다")
+    @SuppressWarnings("unchecked")
+    void download_HoldsPermitUntilBodyClosed() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        S3StorageEngine limited = engine(1);
+        ResponseInputStream<GetObjectResponse> body = new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength(3L).eTag("\"etag\"").build(),
+                AbortableInputStream.create(new ByteArrayInputStream(new byte[3])));
+        given(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+                .willReturn(CompletableFuture.completedFuture(body));
+
+        StoredObject stored = limited.download("key", null, null);
+
+        assertThat(stored.body().readAllBytes()).hasSize(3);
+        assertThat(meterRegistry.get("storage.s3.inflight").gauge().value()).isEqualTo(1);
+        assertThatThrownBy(() -> limited.delete("other"))
+                .isInstanceOf(SdkClientException.class)
+                .hasMessageContaining("동시 요청 한도");
+
+        stored.body().close();
+        stored.body().close();
+
+        assertThat(meterRegistry.get("storage.s3.inflight").gauge().value()).isZero();
+        assertThat(meterRegistry.get("storage.s3.bytes").tag("direction", "download").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시 요청 한도가 차 있으면 기다리다가 요청을 보내지 않고 실패한다")
+    void call_FailsWhenConcurrencyLimitReached() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        S3StorageEngine limited = engine(1);
+        CompletableFuture<DeleteObjectResponse> pending = new CompletableFuture<>();
+        given(s3AsyncClient.deleteObject(any(DeleteObjectRequest.class))).willReturn(pending);
+
+        Thread first = Thread.ofVirtual().start(() -> limited.delete("a"));
+        for (int i = 0; i < 100 && meterRegistry.get("storage.s3.inflight").gauge().value() < 1; i++) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> limited.delete("b"))
+                .isInstanceOf(SdkClientException.class)
+                .hasMessageContaining("동시 요청 한도");
+
+        pending.complete(DeleteObjectResponse.builder().build());
+        first.join();
+        verify(s3AsyncClient, times(1)).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("공개 URL 은 버킷 virtual-host 형식")
+    void publicUrl() {
+        assertThat(engine.publicUrl("project/a.png")).isEqualTo("https://bucket.s3.amazonaws.com/project/a.png");
+    }
+
+    private S3StorageEngine engine(int maxConcurrentRequests) {
+        return new S3StorageEngine(s3AsyncClient, s3Presigner, meterRegistry,
+                "bucket", "documents", "", "proxy", 60,
+                PART_SIZE, 2, Long.MAX_VALUE,
+                maxConcurrentRequests, 50, 10_000, 120_000);
+    }
+
+    private void givenMultipartUpload() {
+        given(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(
+                        CreateMultipartUploadResponse.builder().uploadId("upload-1").build()));
+    }
+}
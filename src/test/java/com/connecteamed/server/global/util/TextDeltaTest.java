@@ -0,0 +1,51 @@
+package com.connecteamed.server.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextDeltaTest {
+
+    @Test
+    @DisplayName("가운데 한 구간만 바뀌면 유지/삭제/삽입 한 번씩으로 표현되고 다시 적용하면 같은 본문")
+    void diffAndApply_roundTrip() {
+        String before = "회의 안건: 배포 일정 확인";
+        String after = "회의 안건: 배포 일정 & 담당자 확인";
+
+        String delta = TextDelta.diff(before, after);
+
+        assertThat(delta).isEqualTo("=13\t+& %EB%8B%B4%EB%8B%B9%EC%9E%90 \t=2");
+        assertThat(TextDelta.apply(before, delta)).isEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("diff-match-patch delta 를 그대로 적용할 수 있다")
+    void apply_diffMatchPatchDelta() {
+        // diff_toDelta("jumps over the lazy", "jumped over a lazy")
+        assertThat(TextDelta.apply("jumps over the lazy", "=4\t-1\t+ed\t=6\t-3\t+a\t=5"))
+                .isEqualTo("jumped over a lazy");
+        assertThat(TextDelta.apply("", "+a+b%0Ac")).isEqualTo("a+b\nc");
+    }
+
+    @Test
+    @DisplayName("이모지(surrogate pair)를 가르지 않는다")
+    void diff_keepsSurrogatePairs() {
+        String before = "a😀b";
+        String after = "a😁b";
+
+        assertThat(TextDelta.apply(before, TextDelta.diff(before, after))).isEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("delta 길이가 본문과 맞지 않으면 IllegalArgumentException")
+    void apply_rejectsMismatchedLength() {
+        assertThatThrownBy(() -> TextDelta.apply("abc", "=2"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TextDelta.apply("abc", "=2\t-5"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TextDelta.apply("abc", "*3"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}